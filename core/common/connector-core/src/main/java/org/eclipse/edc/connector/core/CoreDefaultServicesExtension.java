@@ -32,6 +32,7 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.security.VaultCertificateResolver;
 import org.eclipse.edc.spi.security.VaultPrivateKeyResolver;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -79,6 +80,11 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
         return ExecutorInstrumentation.noop();
     }
 
+    @Provider(isDefault = true)
+    public MetricsInstrumentation defaultMetricsInstrumentation() {
+        return MetricsInstrumentation.noop();
+    }
+
     @Provider(isDefault = true)
     public EventExecutorServiceContainer eventExecutorServiceContainer() {
         return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1)); // TODO: make configurable
@@ -75,6 +75,9 @@ public class CoreServicesExtension implements ServiceExtension {
     @Setting
     public static final String IDENTITY_KEY = "edc.agent.identity.key";
 
+    @Setting(value = "Capacity of the event queue of every asynchronous event subscriber, 0 disables the queues", defaultValue = "0")
+    public static final String EVENT_SUBSCRIBER_QUEUE_CAPACITY = "edc.core.event.subscriber.queue.capacity";
+
     public static final String NAME = "Core Services";
     private static final long DEFAULT_DURATION = 60;
     private static final int DEFAULT_TP_SIZE = 3;
@@ -164,7 +167,8 @@ public class CoreServicesExtension implements ServiceExtension {
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService(),
+                context.getSetting(EVENT_SUBSCRIBER_QUEUE_CAPACITY, 0));
     }
 
     @Provider
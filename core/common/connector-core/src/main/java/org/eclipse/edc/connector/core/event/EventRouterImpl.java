@@ -20,68 +20,159 @@ import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.runAsync;
 
+/**
+ * {@link EventRouter} that resolves the subscribers of an event class once, the resolution is cached until a new
+ * subscriber is registered.
+ * <p>
+ * Asynchronous subscribers are notified on the executor. If a subscriber queue capacity is configured, every
+ * asynchronous subscriber gets a bounded queue, drained by at most one task at a time, so a slow subscriber cannot
+ * fill the executor queue: the events that don't fit its queue are discarded.
+ */
 public class EventRouterImpl implements EventRouter {
 
-    private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
-    private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+    private volatile ClassValue<Subscribers> subscribersByEventClass = newSubscribersCache();
 
     private final Monitor monitor;
     private final ExecutorService executor;
+    private final int subscriberQueueCapacity;
 
     public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+        this(monitor, executor, 0);
+    }
+
+    /**
+     * Creates the router.
+     *
+     * @param monitor the monitor.
+     * @param executor the executor on which the asynchronous subscribers are notified.
+     * @param subscriberQueueCapacity the capacity of the queue of every asynchronous subscriber, if 0 the subscribers
+     *                                don't get a queue, and every notification is submitted to the executor.
+     */
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, int subscriberQueueCapacity) {
         this.monitor = monitor;
         this.executor = executor;
+        this.subscriberQueueCapacity = subscriberQueueCapacity;
     }
 
     @Override
     public <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
-        syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        register(new Registration(eventKind, subscriber, true, null));
     }
 
     @Override
     public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
-        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        var queue = subscriberQueueCapacity > 0 ? new SubscriberQueue(subscriber, subscriberQueueCapacity) : null;
+        register(new Registration(eventKind, subscriber, false, queue));
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
-        subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
-
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
-                    if (throwable != null) {
-                        var subscriberName = subscriber.getClass().getSimpleName();
-                        var eventName = event.getClass().getSimpleName();
-                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
-                    }
-                }));
+        var subscribers = subscribersByEventClass.get(event.getPayload().getClass());
+
+        subscribers.sync().forEach(registration -> registration.subscriber().on(event));
+
+        subscribers.async().forEach(registration -> {
+            if (registration.queue() != null) {
+                registration.queue().offer(event);
+            } else {
+                runAsync(() -> registration.subscriber().on(event), executor)
+                        .whenComplete((v, throwable) -> {
+                            if (throwable != null) {
+                                logFailure(registration.subscriber(), event, throwable);
+                            }
+                        });
+            }
+        });
+    }
+
+    private void register(Registration registration) {
+        registrations.add(registration);
+        subscribersByEventClass = newSubscribersCache();
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
-        return subscribers;
+    private ClassValue<Subscribers> newSubscribersCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Subscribers computeValue(Class<?> eventClass) {
+                var matching = registrations.stream()
+                        .filter(registration -> registration.eventKind().isAssignableFrom(eventClass))
+                        .toList();
+                return new Subscribers(
+                        matching.stream().filter(Registration::sync).toList(),
+                        matching.stream().filter(registration -> !registration.sync()).toList());
+            }
+        };
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSyncSubscribers() {
-        return syncSubscribers;
+    private void logFailure(EventSubscriber subscriber, EventEnvelope<?> event, Throwable throwable) {
+        var subscriberName = subscriber.getClass().getSimpleName();
+        var eventName = event.getPayload().getClass().getSimpleName();
+        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
     }
 
-    private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
-        return supplier.get().entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().isAssignableFrom(envelope.getPayload().getClass()))
-                .flatMap(entry -> entry.getValue().stream());
+    private record Registration(Class<?> eventKind, EventSubscriber subscriber, boolean sync, @Nullable SubscriberQueue queue) {
+    }
+
+    private record Subscribers(List<Registration> sync, List<Registration> async) {
+    }
+
+    private class SubscriberQueue {
+        private final EventSubscriber subscriber;
+        private final BlockingQueue<EventEnvelope<?>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        SubscriberQueue(EventSubscriber subscriber, int capacity) {
+            this.subscriber = subscriber;
+            this.queue = new LinkedBlockingQueue<>(capacity);
+        }
+
+        void offer(EventEnvelope<?> event) {
+            if (!queue.offer(event)) {
+                monitor.warning(format("Queue of subscriber %s is full, event %s discarded",
+                        subscriber.getClass().getSimpleName(), event.getPayload().getClass().getSimpleName()));
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    monitor.severe(format("Cannot notify subscriber %s", subscriber.getClass().getSimpleName()), e);
+                }
+            }
+        }
+
+        private void drain() {
+            EventEnvelope<?> event;
+            while ((event = queue.poll()) != null) {
+                try {
+                    subscriber.on(event);
+                } catch (Exception e) {
+                    logFailure(subscriber, event, e);
+                }
+            }
+            draining.set(false);
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
     }
 }
@@ -20,28 +20,36 @@ import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.lang.String.format;
 
+/**
+ * Default implementation. The transformer for an input class and output type is the first registered one that
+ * accepts the input class and produces exactly the output type, it's looked up once and cached until a new
+ * transformer is registered.
+ */
 public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     private final Map<String, Class<?>> aliases = new HashMap<>();
-    private final List<TypeTransformer<?, ?>> transformers = new ArrayList<>();
+    private final List<TypeTransformer<?, ?>> transformers = new CopyOnWriteArrayList<>();
+    private final Map<TransformerKey, Optional<TypeTransformer<?, ?>>> transformersByType = new ConcurrentHashMap<>();
 
     @Override
     public void register(TypeTransformer<?, ?> transformer) {
         this.transformers.add(transformer);
+        transformersByType.clear();
     }
 
     @Override
     public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-        return transformers.stream()
-                .filter(t -> t.getInputType().isInstance(input) && t.getOutputType().equals(outputType))
-                .findAny()
+        var key = new TransformerKey(input.getClass(), outputType);
+        return transformersByType.computeIfAbsent(key, this::lookup)
                 .map(it -> (TypeTransformer<INPUT, OUTPUT>) it)
                 .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
     }
@@ -75,4 +83,13 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     public void registerTypeAlias(String alias, Class<?> type) {
         aliases.put(alias, type);
     }
+
+    private Optional<TypeTransformer<?, ?>> lookup(TransformerKey key) {
+        return transformers.stream()
+                .filter(t -> t.getInputType().isAssignableFrom(key.inputType()) && t.getOutputType().equals(key.outputType()))
+                .findFirst();
+    }
+
+    private record TransformerKey(Class<?> inputType, Class<?> outputType) {
+    }
 }
@@ -21,15 +21,20 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -149,6 +154,69 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldPublishToSubscriberRegisteredAfterPreviousPublish() {
+        var syncSubscriber = mock(EventSubscriber.class);
+        var lateSubscriber = mock(EventSubscriber.class);
+        eventRouter.registerSync(TestEvent.class, syncSubscriber);
+
+        var first = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+        eventRouter.publish(first);
+        eventRouter.registerSync(TestEventBase.class, lateSubscriber);
+        var second = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+        eventRouter.publish(second);
+
+        verify(syncSubscriber).on(eq(first));
+        verify(syncSubscriber).on(eq(second));
+        verify(lateSubscriber, never()).on(eq(first));
+        verify(lateSubscriber).on(eq(second));
+    }
+
+    @Test
+    void shouldPublishToAsyncSubscribersInOrder_whenSubscriberQueueIsEnabled() {
+        var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), 10);
+        var subscriber = mock(EventSubscriber.class);
+        doThrow(new RuntimeException("unexpected exception")).doNothing().when(subscriber).on(any());
+        router.register(TestEvent.class, subscriber);
+
+        var first = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+        var second = EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+        router.publish(first);
+        router.publish(second);
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> {
+            var inOrder = inOrder(subscriber);
+            inOrder.verify(subscriber).on(eq(first));
+            inOrder.verify(subscriber).on(eq(second));
+        });
+    }
+
+    @Test
+    void shouldDiscardEvent_whenSubscriberQueueIsFull() {
+        var executor = mock(ExecutorService.class);
+        var router = new EventRouterImpl(monitor, executor, 1);
+        var subscriber = mock(EventSubscriber.class);
+        router.register(TestEvent.class, subscriber);
+
+        router.publish(EventEnvelope.Builder.newInstance().at(clock.millis()).payload(TestEvent.Builder.newInstance().build()).build());
+        router.publish(EventEnvelope.Builder.newInstance().at(clock.millis()).payload(TestEvent.Builder.newInstance().build()).build());
+
+        verify(executor, times(1)).execute(any());
+        verify(monitor).warning(anyString());
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
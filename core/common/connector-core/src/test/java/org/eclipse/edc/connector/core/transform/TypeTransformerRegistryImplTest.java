@@ -16,7 +16,11 @@ package org.eclipse.edc.connector.core.transform;
 
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +52,36 @@ public class TypeTransformerRegistryImplTest {
         assertThatThrownBy(() -> registry.transformerFor(notString, Float.class)).isInstanceOf(EdcException.class);
     }
 
+    @Test
+    void transformerFor_shouldReturnTransformerOfSuperType() {
+        var transformer = new ToIntegerTypeTransformer<>(Number.class);
+        registry.register(transformer);
+
+        assertThat(registry.transformerFor(4L, Integer.class)).isSameAs(transformer);
+        assertThat(registry.transformerFor(4.2d, Integer.class)).isSameAs(transformer);
+    }
+
+    @Test
+    void transformerFor_shouldReturnFirstRegisteredTransformer() {
+        var first = new ToIntegerTypeTransformer<>(Long.class);
+        var second = new ToIntegerTypeTransformer<>(Number.class);
+        registry.register(first);
+        registry.register(second);
+
+        assertThat(registry.transformerFor(4L, Integer.class)).isSameAs(first);
+        assertThat(registry.transformerFor(4.2d, Integer.class)).isSameAs(second);
+    }
+
+    @Test
+    void transformerFor_shouldFindTransformerRegisteredAfterLookup() {
+        assertThatThrownBy(() -> registry.transformerFor(4L, Integer.class)).isInstanceOf(EdcException.class);
+
+        var transformer = new ToIntegerTypeTransformer<>(Long.class);
+        registry.register(transformer);
+
+        assertThat(registry.transformerFor(4L, Integer.class)).isSameAs(transformer);
+    }
+
     @Test
     void transform_shouldSucceed_whenInputAndOutputTypesAreHandledByRegisteredTransformer() {
         var result = registry.transform("5", Integer.class);
@@ -90,4 +124,27 @@ public class TypeTransformerRegistryImplTest {
         assertThat(registry.typeAlias("test-alias", Integer.class)).isEqualTo(String.class);
     }
 
+    private static class ToIntegerTypeTransformer<T extends Number> implements TypeTransformer<T, Integer> {
+
+        private final Class<T> inputType;
+
+        ToIntegerTypeTransformer(Class<T> inputType) {
+            this.inputType = inputType;
+        }
+
+        @Override
+        public Class<T> getInputType() {
+            return inputType;
+        }
+
+        @Override
+        public Class<Integer> getOutputType() {
+            return Integer.class;
+        }
+
+        @Override
+        public @Nullable Integer transform(@NotNull T object, @NotNull TransformerContext context) {
+            return object.intValue();
+        }
+    }
 }
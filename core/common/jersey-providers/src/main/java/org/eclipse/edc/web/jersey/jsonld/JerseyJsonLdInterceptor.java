@@ -20,44 +20,80 @@ import jakarta.json.JsonObject;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.Provider;
 import jakarta.ws.rs.ext.ReaderInterceptor;
 import jakarta.ws.rs.ext.ReaderInterceptorContext;
 import jakarta.ws.rs.ext.WriterInterceptor;
 import jakarta.ws.rs.ext.WriterInterceptorContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
 
-import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 
+/**
+ * Expands the {@link JsonObject} request bodies and compacts the {@link JsonObject} response entities.
+ * <p>
+ * A request body is parsed once, straight from the request stream, and the expanded object is handed to the resource
+ * method without going through the message body readers again. Bodies larger than the configured maximum size are
+ * rejected with {@code 413 Payload Too Large}, before being read if they declare their length.
+ * <p>
+ * The objects of a {@link JsonObjectStream} entity are compacted one by one while the stream is written.
+ */
 @Provider
 public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterceptor {
     private final JsonLd jsonLd;
     private final ObjectMapper objectMapper;
+    private final long maxBodySize;
 
     public JerseyJsonLdInterceptor(JsonLd jsonLd, ObjectMapper objectMapper) {
+        this(jsonLd, objectMapper, Long.MAX_VALUE);
+    }
+
+    public JerseyJsonLdInterceptor(JsonLd jsonLd, ObjectMapper objectMapper, long maxBodySize) {
         this.jsonLd = jsonLd;
         this.objectMapper = objectMapper;
+        this.maxBodySize = maxBodySize;
     }
 
     @Override
     public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
-        if (context.getType().equals(JsonObject.class)) {
-            var bytes = context.getInputStream().readAllBytes();
-            if (bytes.length > 0) {
-                var jsonObject = objectMapper.readValue(bytes, JsonObject.class);
+        if (!context.getType().equals(JsonObject.class)) {
+            return context.proceed();
+        }
 
-                var expanded = jsonLd.expand(jsonObject)
-                        .orElseThrow(f -> new BadRequestException("Failed to expand JsonObject: " + f.getFailureDetail()));
+        var contentLength = context.getHeaders().getFirst(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null && parseLength(contentLength) > maxBodySize) {
+            throw payloadTooLarge();
+        }
+
+        var input = new PushbackInputStream(context.getInputStream());
+        var first = input.read();
+        if (first == -1) {
+            context.setInputStream(input);
+            return context.proceed();
+        }
+        input.unread(first);
 
-                var expandedBytes = objectMapper.writeValueAsBytes(expanded);
-                context.setInputStream(new ByteArrayInputStream(expandedBytes));
+        var limitedInput = new LimitedInputStream(input, maxBodySize);
+        JsonObject jsonObject;
+        try {
+            jsonObject = objectMapper.readValue(limitedInput, JsonObject.class);
+        } catch (IOException e) {
+            if (limitedInput.isLimitExceeded()) {
+                throw payloadTooLarge();
             }
+            throw e;
         }
 
-        return context.proceed();
+        return jsonLd.expand(jsonObject)
+                .orElseThrow(f -> new BadRequestException("Failed to expand JsonObject: " + f.getFailureDetail()));
     }
 
     @Override
@@ -74,6 +110,9 @@ public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterce
             context.setEntity(compacted);
         } else if (context.getEntity() instanceof JsonObject jsonObject) {
             context.setEntity(compact(jsonObject));
+        } else if (context.getEntity() instanceof JsonObjectStream jsonObjectStream) {
+            // compacted while being written
+            context.setEntity(jsonObjectStream.map(this::compact));
         }
 
         context.proceed();
@@ -83,4 +122,60 @@ public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterce
         return jsonLd.compact(jsonObject)
                 .orElseThrow(f -> new InternalServerErrorException("Failed to compact JsonObject: " + f.getFailureDetail()));
     }
+
+    private long parseLength(String contentLength) {
+        try {
+            return Long.parseLong(contentLength);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid Content-Length: " + contentLength);
+        }
+    }
+
+    private WebApplicationException payloadTooLarge() {
+        return new WebApplicationException("Request body exceeds " + maxBodySize + " bytes", Response.Status.REQUEST_ENTITY_TOO_LARGE);
+    }
+
+    /**
+     * Fails the read as soon as more than the maximum number of bytes has been read.
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+        private boolean limitExceeded;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            var result = super.read();
+            if (result != -1) {
+                count(1);
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var result = super.read(b, off, len);
+            if (result > 0) {
+                count(result);
+            }
+            return result;
+        }
+
+        boolean isLimitExceeded() {
+            return limitExceeded;
+        }
+
+        private void count(int bytes) throws IOException {
+            count += bytes;
+            if (count > limit) {
+                limitExceeded = true;
+                throw new IOException("Request body exceeds " + limit + " bytes");
+            }
+        }
+    }
 }
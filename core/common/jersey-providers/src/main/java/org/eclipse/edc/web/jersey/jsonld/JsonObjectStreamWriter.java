@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.jsonld;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.eclipse.edc.jsonld.spi.JsonObjectStream.APPLICATION_NDJSON;
+
+/**
+ * Writes a {@link JsonObjectStream} while consuming it, either as a JSON array or as newline-delimited JSON, so the
+ * first objects are sent before the last ones are produced and the whole response is never held in memory.
+ * <p>
+ * The first object is produced before anything is written, so a failure on it is reported with an error status. A
+ * failure on a later object cannot change the status anymore: it is logged and rethrown as an {@link IOException}
+ * without ending the array, so the connection is aborted and the client sees a truncated response instead of a
+ * complete but partial one.
+ */
+@Provider
+@Produces({ APPLICATION_JSON, APPLICATION_NDJSON })
+public class JsonObjectStreamWriter implements MessageBodyWriter<JsonObjectStream> {
+
+    private static final MediaType NDJSON_TYPE = MediaType.valueOf(APPLICATION_NDJSON);
+
+    private final Monitor monitor;
+
+    public JsonObjectStreamWriter(Monitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return JsonObjectStream.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(JsonObjectStream jsonObjectStream, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        var ndjson = mediaType != null && mediaType.isCompatible(NDJSON_TYPE);
+        try (jsonObjectStream) {
+            var iterator = jsonObjectStream.stream().iterator();
+            var next = iterator.hasNext() ? iterator.next() : null;
+            if (!ndjson) {
+                entityStream.write('[');
+            }
+            try {
+                var first = true;
+                while (next != null) {
+                    if (!ndjson && !first) {
+                        entityStream.write(',');
+                    }
+                    entityStream.write(next.toString().getBytes(StandardCharsets.UTF_8));
+                    if (ndjson) {
+                        entityStream.write('\n');
+                    }
+                    first = false;
+                    next = iterator.hasNext() ? iterator.next() : null;
+                }
+            } catch (RuntimeException e) {
+                monitor.severe("Failed to produce a JSON object of a streamed response, the response has been truncated", e);
+                throw new IOException("Failed to produce a JSON object of a streamed response", e);
+            }
+            if (!ndjson) {
+                entityStream.write(']');
+            }
+        }
+    }
+}
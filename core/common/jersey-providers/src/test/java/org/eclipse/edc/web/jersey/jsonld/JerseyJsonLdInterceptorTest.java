@@ -20,7 +20,9 @@ import jakarta.json.JsonObject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
 import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
@@ -28,12 +30,17 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jsonld.spi.JsonObjectStream.APPLICATION_NDJSON;
 import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -42,7 +49,7 @@ import static org.mockito.Mockito.when;
 class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
 
     private final JsonLd jsonLd = mock();
-    private final JerseyJsonLdInterceptor interceptor = new JerseyJsonLdInterceptor(jsonLd, objectMapper);
+    private final JerseyJsonLdInterceptor interceptor = new JerseyJsonLdInterceptor(jsonLd, objectMapper, 1024);
 
     @Test
     void expansion_shouldSucceed_whenInputIsJsonObject() {
@@ -74,6 +81,21 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
         verify(jsonLd).expand(compactedJson());
     }
 
+    @Test
+    void expansion_shouldReturnPayloadTooLarge_whenBodyExceedsMaxSize() {
+        var body = Json.createObjectBuilder().add("compacted-key", "x".repeat(2048)).build();
+
+        given()
+                .port(port)
+                .contentType(JSON)
+                .body(body.toString())
+                .post("/create/json-object")
+                .then()
+                .statusCode(413);
+
+        verifyNoInteractions(jsonLd);
+    }
+
     @Test
     void expansion_shouldNotHappen_whenInputIsNullJsonObject() {
         given()
@@ -178,6 +200,39 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
         verifyNoInteractions(jsonLd);
     }
 
+    @Test
+    void compaction_stream_shouldCompactEveryObject() {
+        when(jsonLd.compact(any())).thenReturn(Result.success(compactedJson()));
+
+        given()
+                .port(port)
+                .accept(JSON)
+                .get("/get/stream/json-object")
+                .then()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("size()", is(2))
+                .body("[1].compacted-key", is("compacted-value"));
+
+        verify(jsonLd, times(2)).compact(expandedJson());
+    }
+
+    @Test
+    void compaction_stream_shouldWriteNdjson_whenRequested() {
+        when(jsonLd.compact(any())).thenReturn(Result.success(compactedJson()));
+
+        var body = given()
+                .port(port)
+                .accept(APPLICATION_NDJSON)
+                .get("/get/stream/json-object")
+                .then()
+                .statusCode(200)
+                .contentType(APPLICATION_NDJSON)
+                .extract().body().asString();
+
+        assertThat(body.split("\n")).hasSize(2).allSatisfy(line -> assertThat(line).isEqualTo(compactedJson().toString()));
+    }
+
     @Override
     protected Object controller() {
         return new TestController();
@@ -223,6 +278,13 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
             return Json.createArrayBuilder().add(expandedJson()).build();
         }
 
+        @GET
+        @Path("/get/stream/json-object")
+        @Produces({ APPLICATION_JSON, APPLICATION_NDJSON + ";qs=0.5" })
+        public JsonObjectStream getStreamJsonObject() {
+            return new JsonObjectStream(Stream.of(expandedJson(), expandedJson()));
+        }
+
         @GET
         @Path("/get/multiple/not-json-object")
         public List<Map<String, String>> getMultipleNotJsonObject() {
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.jsonld;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.jsonld.spi.JsonObjectStream.APPLICATION_NDJSON;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class JsonObjectStreamWriterTest {
+
+    private final Monitor monitor = mock(Monitor.class);
+    private final JsonObjectStreamWriter writer = new JsonObjectStreamWriter(monitor);
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Test
+    void writeTo_shouldWriteJsonArray() throws IOException {
+        var closed = new AtomicBoolean();
+        var stream = new JsonObjectStream(Stream.of(object(1), object(2)).onClose(() -> closed.set(true)));
+
+        write(stream, APPLICATION_JSON_TYPE);
+
+        assertThat(Json.createReader(new StringReader(output.toString())).readArray()).containsExactly(object(1), object(2));
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void writeTo_shouldWriteNewlineDelimitedJson() throws IOException {
+        write(new JsonObjectStream(Stream.of(object(1), object(2))), MediaType.valueOf(APPLICATION_NDJSON));
+
+        assertThat(output.toString()).isEqualTo(object(1) + "\n" + object(2) + "\n");
+    }
+
+    @Test
+    void writeTo_shouldThrowWithoutWriting_whenFirstObjectFails() {
+        var stream = new JsonObjectStream(Stream.of(1, 2).map(this::failingOn1));
+
+        assertThatThrownBy(() -> write(stream, APPLICATION_JSON_TYPE)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(output.size()).isZero();
+        verifyNoInteractions(monitor);
+    }
+
+    @Test
+    void writeTo_shouldThrowWithoutEndingJsonArray_whenObjectFailsMidStream() {
+        var closed = new AtomicBoolean();
+        var stream = new JsonObjectStream(Stream.of(0, 1, 2).map(this::failingOn1).onClose(() -> closed.set(true)));
+
+        assertThatThrownBy(() -> write(stream, APPLICATION_JSON_TYPE))
+                .isInstanceOf(IOException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(output.toString()).isEqualTo("[" + object(0));
+        assertThat(closed).isTrue();
+        verify(monitor).severe(anyString(), any(IllegalStateException.class));
+    }
+
+    private void write(JsonObjectStream stream, MediaType mediaType) throws IOException {
+        writer.writeTo(stream, JsonObjectStream.class, JsonObjectStream.class, null, mediaType, null, output);
+    }
+
+    private JsonObject failingOn1(int index) {
+        if (index == 1) {
+            throw new IllegalStateException("transformation failure");
+        }
+        return object(index);
+    }
+
+    private JsonObject object(int index) {
+        return Json.createObjectBuilder().add("index", index).build();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jwt;
+
+import org.eclipse.edc.jwt.spi.TokenValidationService;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
+
+/**
+ * {@link TokenValidationService} decorator that caches the successful validations in a {@link VerifiedTokenCache},
+ * keyed by the token and its additional parameters, until the {@code exp} claim of the token. Tokens without
+ * {@code exp} claim are validated every time.
+ */
+public class CachingTokenValidationService implements TokenValidationService {
+
+    private final TokenValidationService delegate;
+    private final VerifiedTokenCache cache;
+
+    public CachingTokenValidationService(TokenValidationService delegate, VerifiedTokenCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Result<ClaimToken> validate(TokenRepresentation tokenRepresentation) {
+        var token = tokenRepresentation.getToken();
+        if (token == null) {
+            return delegate.validate(tokenRepresentation);
+        }
+        // copied, as the cache key must not change
+        var context = tokenRepresentation.getAdditional() == null ? Map.of() : new HashMap<>(tokenRepresentation.getAdditional());
+        var cached = cache.get(token, context);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+        var result = delegate.validate(tokenRepresentation);
+        if (result.succeeded()) {
+            cache.put(token, context, result.getContent(), result.getContent().getInstantClaim(EXPIRATION_TIME));
+        }
+        return result;
+    }
+}
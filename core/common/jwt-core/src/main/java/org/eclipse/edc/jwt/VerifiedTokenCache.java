@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jwt;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.system.MetricsInstrumentation;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the {@link ClaimToken} of successfully verified tokens. Entries are keyed by the SHA-256 hash of the token,
+ * so the tokens themselves are not kept in memory, and by a verification context (e.g. the expected audience), they
+ * expire with the token or after the configured maximum time-to-live, whichever comes first, and the least recently
+ * used ones are evicted when the cache is full.
+ * <p>
+ * A token revoked by its issuer, or whose claims stop satisfying the validation rules, is still accepted until its
+ * entry expires, so the maximum time-to-live should be kept short.
+ */
+public class VerifiedTokenCache {
+
+    private final Clock clock;
+    private final Duration maxTtl;
+    private final Map<Key, Entry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public VerifiedTokenCache(Clock clock, Duration maxTtl, int maxSize) {
+        this.clock = clock;
+        this.maxTtl = maxTtl;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the claim token cached for the token and context.
+     *
+     * @param token the serialized token.
+     * @param context the verification context, must implement equals and hashCode.
+     * @return the claim token, or null if not cached or expired.
+     */
+    @Nullable
+    public ClaimToken get(String token, Object context) {
+        var key = new Key(hash(token), context);
+        var now = clock.instant();
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null) {
+                if (now.isBefore(entry.expiresAt())) {
+                    hits.incrementAndGet();
+                    return entry.claimToken();
+                }
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Caches the claim token of a verified token.
+     *
+     * @param token the serialized token.
+     * @param context the verification context, must implement equals and hashCode.
+     * @param claimToken the claim token.
+     * @param tokenExpiration the expiration of the token, if null the token is not cached.
+     */
+    public void put(String token, Object context, ClaimToken claimToken, @Nullable Instant tokenExpiration) {
+        if (tokenExpiration == null) {
+            return;
+        }
+        var now = clock.instant();
+        var capped = now.plus(maxTtl);
+        var expiresAt = tokenExpiration.isBefore(capped) ? tokenExpiration : capped;
+        if (!now.isBefore(expiresAt)) {
+            return;
+        }
+        var key = new Key(hash(token), context);
+        synchronized (entries) {
+            entries.put(key, new Entry(claimToken, expiresAt));
+        }
+    }
+
+    /**
+     * Removes all the cached entries.
+     */
+    public void invalidate() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the ratio between hits and total lookups, 0 if no lookup has been done yet.
+     */
+    public double getHitRate() {
+        var hitCount = hits.get();
+        var total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Publishes the hit and miss counts and the hit rate, tagged with the name of the cache.
+     *
+     * @param metricsInstrumentation the metrics instrumentation.
+     * @param name the name of the cache, e.g. the identity service using it.
+     */
+    public void registerMetrics(MetricsInstrumentation metricsInstrumentation, String name) {
+        var tags = Map.of("cache", name);
+        metricsInstrumentation.counter("edc.token.validation.cache.hits", tags, this::getHitCount);
+        metricsInstrumentation.counter("edc.token.validation.cache.misses", tags, this::getMissCount);
+        metricsInstrumentation.gauge("edc.token.validation.cache.hit.rate", tags, this::getHitRate);
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record Key(String tokenHash, Object context) {
+    }
+
+    private record Entry(ClaimToken claimToken, Instant expiresAt) {
+    }
+}
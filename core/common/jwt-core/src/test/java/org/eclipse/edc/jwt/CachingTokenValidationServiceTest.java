@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jwt;
+
+import org.eclipse.edc.jwt.spi.TokenValidationService;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingTokenValidationServiceTest {
+
+    private final Instant now = Instant.now();
+    private final TokenValidationService delegate = mock(TokenValidationService.class);
+    private final CachingTokenValidationService service = new CachingTokenValidationService(delegate,
+            new VerifiedTokenCache(Clock.fixed(now, ZoneOffset.UTC), Duration.ofSeconds(60), 10));
+
+    @Test
+    void validate_shouldValidateOnce_forTheSameToken() {
+        var claimToken = ClaimToken.Builder.newInstance().claim(EXPIRATION_TIME, Date.from(now.plusSeconds(30))).build();
+        when(delegate.validate(any())).thenReturn(Result.success(claimToken));
+
+        var first = service.validate(tokenRepresentation("token", Map.of()));
+        var second = service.validate(tokenRepresentation("token", Map.of()));
+        var otherAdditional = service.validate(tokenRepresentation("token", Map.of("key", "value")));
+
+        assertThat(first.getContent()).isSameAs(claimToken);
+        assertThat(second.getContent()).isSameAs(claimToken);
+        assertThat(otherAdditional.succeeded()).isTrue();
+        verify(delegate, times(2)).validate(any());
+    }
+
+    @Test
+    void validate_shouldNotCache_whenValidationFails() {
+        when(delegate.validate(any())).thenReturn(Result.failure("invalid"));
+
+        service.validate(tokenRepresentation("token", Map.of()));
+        var second = service.validate(tokenRepresentation("token", Map.of()));
+
+        assertThat(second.failed()).isTrue();
+        verify(delegate, times(2)).validate(any());
+    }
+
+    @Test
+    void validate_shouldNotCache_whenTokenHasNoExpiration() {
+        when(delegate.validate(any())).thenReturn(Result.success(ClaimToken.Builder.newInstance().claim("sub", "subject").build()));
+
+        service.validate(tokenRepresentation("token", Map.of()));
+        service.validate(tokenRepresentation("token", Map.of()));
+
+        verify(delegate, times(2)).validate(any());
+    }
+
+    private TokenRepresentation tokenRepresentation(String token, Map<String, Object> additional) {
+        return TokenRepresentation.Builder.newInstance().token(token).additional(additional).build();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jwt;
+
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerifiedTokenCacheTest {
+
+    private final Instant now = Instant.now();
+    private final Clock clock = mock(Clock.class);
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(clock, Duration.ofSeconds(60), 2);
+    private final ClaimToken claimToken = ClaimToken.Builder.newInstance().claim("sub", "subject").build();
+
+    @Test
+    void get_shouldReturnCachedClaimToken_untilTokenExpiration() {
+        when(clock.instant()).thenReturn(now, now.plusSeconds(29), now.plusSeconds(30));
+
+        cache.put("token", "audience", claimToken, now.plusSeconds(30));
+
+        assertThat(cache.get("token", "audience")).isSameAs(claimToken);
+        assertThat(cache.get("token", "audience")).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void get_shouldExpireEntry_afterMaxTtl() {
+        when(clock.instant()).thenReturn(now, now.plusSeconds(60));
+
+        cache.put("token", "audience", claimToken, now.plusSeconds(3600));
+
+        assertThat(cache.get("token", "audience")).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_forDifferentContext() {
+        when(clock.instant()).thenReturn(now);
+
+        cache.put("token", "audience", claimToken, now.plusSeconds(30));
+
+        assertThat(cache.get("token", "other-audience")).isNull();
+        assertThat(cache.get("other-token", "audience")).isNull();
+    }
+
+    @Test
+    void put_shouldNotCache_whenExpirationIsMissingOrPast() {
+        when(clock.instant()).thenReturn(now);
+
+        cache.put("token", "audience", claimToken, null);
+        cache.put("expired", "audience", claimToken, now);
+
+        assertThat(cache.get("token", "audience")).isNull();
+        assertThat(cache.get("expired", "audience")).isNull();
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsed_whenFull() {
+        when(clock.instant()).thenReturn(now);
+
+        cache.put("1", "audience", claimToken, now.plusSeconds(30));
+        cache.put("2", "audience", claimToken, now.plusSeconds(30));
+        cache.get("1", "audience");
+        cache.put("3", "audience", claimToken, now.plusSeconds(30));
+
+        assertThat(cache.get("1", "audience")).isNotNull();
+        assertThat(cache.get("2", "audience")).isNull();
+        assertThat(cache.get("3", "audience")).isNotNull();
+    }
+}
@@ -35,6 +35,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
@@ -52,6 +53,7 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final Map<String, List<RuleFunctionEntry<Rule>>> ruleFunctions = new TreeMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> preValidators = new HashMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> postValidators = new HashMap<>();
+    private final Map<String, ScopedFunctions> scopedFunctions = new ConcurrentHashMap<>();
     private final ScopeFilter scopeFilter;
 
     public PolicyEngineImpl(ScopeFilter scopeFilter) {
@@ -65,10 +67,9 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public Result<Void> evaluate(String scope, Policy policy, PolicyContext context) {
-        var delimitedScope = scope + ".";
+        var functions = scopedFunctions.computeIfAbsent(scope, this::compile);
 
-        var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-        for (var validator : scopedPreValidators) {
+        for (var validator : functions.preValidators()) {
             if (!validator.apply(policy, context)) {
                 return failValidator("Pre-validator", validator, context);
             }
@@ -76,7 +77,7 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         var evalBuilder = PolicyEvaluator.Builder.newInstance();
 
-        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+        for (var entry : functions.ruleFunctions()) {
             if (Duty.class.isAssignableFrom(entry.type)) {
                 evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
             } else if (Permission.class.isAssignableFrom(entry.type)) {
@@ -84,9 +85,9 @@ public class PolicyEngineImpl implements PolicyEngine {
             } else if (Prohibition.class.isAssignableFrom(entry.type)) {
                 evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
             }
-        });
+        }
 
-        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+        for (var entry : functions.constraintFunctions()) {
             if (Duty.class.isAssignableFrom(entry.type)) {
                 evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
             } else if (Permission.class.isAssignableFrom(entry.type)) {
@@ -94,7 +95,7 @@ public class PolicyEngineImpl implements PolicyEngine {
             } else if (Prohibition.class.isAssignableFrom(entry.type)) {
                 evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
             }
-        });
+        }
 
         var evaluator = evalBuilder.build();
 
@@ -104,8 +105,7 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         if (result.valid()) {
 
-            var scopedPostValidators = postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-            for (var validator : scopedPostValidators) {
+            for (var validator : functions.postValidators()) {
                 if (!validator.apply(policy, context)) {
                     return failValidator("Post-validator", validator, context);
                 }
@@ -139,22 +139,44 @@ public class PolicyEngineImpl implements PolicyEngine {
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
         constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        scopedFunctions.clear();
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
         ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        scopedFunctions.clear();
     }
 
     @Override
     public void registerPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         preValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        scopedFunctions.clear();
     }
 
     @Override
     public void registerPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         postValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        scopedFunctions.clear();
+    }
+
+    /**
+     * Collects the functions and the validators that apply to the scope, the result is cached until a new function or
+     * validator gets registered.
+     */
+    private ScopedFunctions compile(String scope) {
+        var delimitedScope = scope + ".";
+        return new ScopedFunctions(
+                inScope(preValidators, delimitedScope),
+                inScope(postValidators, delimitedScope),
+                inScope(ruleFunctions, delimitedScope),
+                inScope(constraintFunctions, delimitedScope)
+        );
+    }
+
+    private <T> List<T> inScope(Map<String, List<T>> functions, String delimitedScope) {
+        return functions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).toList();
     }
 
     private boolean scopeFilter(String entry, String scope) {
@@ -166,6 +188,12 @@ public class PolicyEngineImpl implements PolicyEngine {
         return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.getClass().getName()));
     }
 
+    private record ScopedFunctions(List<BiFunction<Policy, PolicyContext, Boolean>> preValidators,
+                                   List<BiFunction<Policy, PolicyContext, Boolean>> postValidators,
+                                   List<RuleFunctionEntry<Rule>> ruleFunctions,
+                                   List<ConstraintFunctionEntry<Rule>> constraintFunctions) {
+    }
+
     private static class ConstraintFunctionEntry<R extends Rule> {
         Class<R> type;
         String key;
@@ -292,6 +292,20 @@ class PolicyEngineImplTest {
         assertThat(result).isFailed();
     }
 
+    @Test
+    void validateFunctionRegisteredAfterEvaluation() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var context = PolicyContextImpl.Builder.newInstance().build();
+        var policy = createTestPolicy();
+        policyEngine.registerFunction(ALL_SCOPES, Prohibition.class, "foo", (op, rv, prohibition, ctx) -> false);
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isSucceeded();
+
+        policyEngine.registerFunction(TEST_SCOPE, Prohibition.class, "foo", (op, rv, prohibition, ctx) -> true);
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isFailed();
+    }
+
     private Policy createTestPolicy() {
         var left = new LiteralExpression("foo");
         var right = new LiteralExpression("bar");
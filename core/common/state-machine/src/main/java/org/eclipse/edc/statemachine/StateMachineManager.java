@@ -22,10 +22,15 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -35,27 +40,35 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * <p>
+ * Processors registered through {@link Builder#processor(String, StateProcessor, int)} are not part of the main loop:
+ * each of them runs on its own loop, and the entities it fetches on every iteration are processed concurrently on a
+ * dedicated worker pool. The worker pools are instrumented through the {@link ExecutorInstrumentation} using the
+ * {@code <state-machine-name>-<processor-name>} name, so per-processor throughput and backlog are exposed as executor
+ * metrics.
+ * <p>
+ * Every loop applies its own wait strategy, obtained from the supplier passed to the {@link Builder}. The wait can be
+ * interrupted through {@link #wakeUp()}, e.g. by a store that signals that new entities are available for processing.
  */
 public class StateMachineManager {
 
     private final List<StateProcessor> processors = new ArrayList<>();
-    private final ScheduledExecutorService executor;
+    private final List<DedicatedProcessor> dedicatedProcessors = new ArrayList<>();
+    private final List<Loop> loops = new ArrayList<>();
     private final AtomicBoolean active = new AtomicBoolean();
-    private final WaitStrategy waitStrategy;
+    private final Supplier<WaitStrategy> waitStrategySupplier;
     private final Monitor monitor;
     private final String name;
+    private final ExecutorInstrumentation instrumentation;
+    private ScheduledExecutorService executor;
+    private Loop mainLoop;
     private int shutdownTimeout = 10;
 
-    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
+    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategySupplier) {
         this.name = name;
         this.monitor = monitor;
-        this.waitStrategy = waitStrategy;
-        executor = instrumentation.instrument(
-                Executors.newSingleThreadScheduledExecutor(r -> {
-                    var thread = Executors.defaultThreadFactory().newThread(r);
-                    thread.setName("StateMachineManager-" + name);
-                    return thread;
-                }), name);
+        this.waitStrategySupplier = waitStrategySupplier;
+        this.instrumentation = instrumentation;
     }
 
     /**
@@ -65,7 +78,8 @@ public class StateMachineManager {
      */
     public Future<?> start() {
         active.set(true);
-        return submit(0L);
+        loops.stream().filter(loop -> loop != mainLoop).forEach(loop -> loop.schedule(0L));
+        return mainLoop.schedule(0L);
     }
 
     /**
@@ -82,6 +96,8 @@ public class StateMachineManager {
             } catch (InterruptedException e) {
                 monitor.severe(format("StateMachineManager [%s] await termination failed", name), e);
                 return false;
+            } finally {
+                dedicatedProcessors.forEach(dedicated -> dedicated.workers.shutdown());
             }
         });
     }
@@ -95,27 +111,20 @@ public class StateMachineManager {
         return active.get();
     }
 
-    @NotNull
-    private Future<?> submit(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
-    }
-
-    private Runnable loop() {
-        return () -> {
-            if (active.get()) {
-                long delay = performLogic();
-
-                // Submit next execution after delay
-                submit(delay);
-            }
-        };
+    /**
+     * Signals that new work is available, e.g. because an entity has been persisted in a new state. Loops that are
+     * waiting for the next iteration because of the wait strategy start it immediately, loops that are running
+     * will not apply the wait strategy at the end of the current iteration.
+     */
+    public void wakeUp() {
+        if (active.get()) {
+            loops.forEach(Loop::wakeUp);
+        }
     }
 
-    private long performLogic() {
+    private long performLogic(Supplier<Long> iteration, WaitStrategy waitStrategy) {
         try {
-            var processed = processors.stream()
-                    .mapToLong(StateProcessor::process)
-                    .sum();
+            var processed = iteration.get();
 
             waitStrategy.success();
 
@@ -136,12 +145,24 @@ public class StateMachineManager {
 
         private final StateMachineManager loop;
 
-        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
-            loop = new StateMachineManager(name, monitor, instrumentation, waitStrategy);
+        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategySupplier) {
+            loop = new StateMachineManager(name, monitor, instrumentation, waitStrategySupplier);
         }
 
+        /**
+         * Creates a builder whose loops all share the same wait strategy, which then must not hold state, as e.g.
+         * the {@link org.eclipse.edc.spi.retry.ExponentialWaitStrategy} does.
+         */
         public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
-            return new Builder(name, monitor, instrumentation, waitStrategy);
+            return new Builder(name, monitor, instrumentation, () -> waitStrategy);
+        }
+
+        /**
+         * Creates a builder whose loops get every one its own wait strategy from the supplier, so that the errors or
+         * the idle iterations of a loop do not affect the delays of the others.
+         */
+        public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategySupplier) {
+            return new Builder(name, monitor, instrumentation, waitStrategySupplier);
         }
 
         public Builder processor(StateProcessor processor) {
@@ -149,13 +170,106 @@ public class StateMachineManager {
             return this;
         }
 
+        /**
+         * Register a processor that runs on its own loop, processing the entities of every batch concurrently on a
+         * dedicated pool of workers. If workers is less than 1, the processor is added to the main loop.
+         *
+         * @param name      the processor name, used for thread naming and executor instrumentation.
+         * @param processor the processor.
+         * @param workers   the size of the dedicated worker pool.
+         * @return the builder.
+         */
+        public Builder processor(String name, StateProcessor processor, int workers) {
+            if (workers < 1) {
+                return processor(processor);
+            }
+            var executorName = loop.name + "-" + name;
+            var pool = loop.instrumentation.instrument(Executors.newFixedThreadPool(workers, threadFactory("StateMachineManager-" + executorName)), executorName);
+            loop.dedicatedProcessors.add(new DedicatedProcessor(processor, pool));
+            return this;
+        }
+
         public Builder shutdownTimeout(int seconds) {
             loop.shutdownTimeout = seconds;
             return this;
         }
 
         public StateMachineManager build() {
+            var threads = 1 + loop.dedicatedProcessors.size();
+            loop.executor = loop.instrumentation.instrument(Executors.newScheduledThreadPool(threads, threadFactory("StateMachineManager-" + loop.name)), loop.name);
+            loop.mainLoop = loop.new Loop(() -> loop.processors.stream()
+                    .mapToLong(StateProcessor::process)
+                    .sum());
+            loop.loops.add(loop.mainLoop);
+            loop.dedicatedProcessors.stream()
+                    .map(dedicated -> loop.new Loop(() -> dedicated.processor.process(dedicated.workers)))
+                    .forEach(loop.loops::add);
             return loop;
         }
+
+        private ThreadFactory threadFactory(String threadName) {
+            return r -> {
+                var thread = Executors.defaultThreadFactory().newThread(r);
+                thread.setName(threadName);
+                return thread;
+            };
+        }
+    }
+
+    private record DedicatedProcessor(StateProcessor processor, ExecutorService workers) {
+    }
+
+    /**
+     * A loop that runs an iteration and schedules the next one, after a delay given by the wait strategy. The
+     * scheduled iteration is anticipated when the loop gets woken up.
+     */
+    private class Loop implements Runnable {
+        private final Supplier<Long> iteration;
+        private final WaitStrategy waitStrategy = waitStrategySupplier.get();
+        private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+        private final AtomicReference<ScheduledFuture<?>> waiting = new AtomicReference<>();
+
+        Loop(Supplier<Long> iteration) {
+            this.iteration = iteration;
+        }
+
+        @Override
+        public void run() {
+            if (active.get()) {
+                waiting.set(null);
+                wakeUpRequested.set(false);
+
+                long delay = performLogic(iteration, waitStrategy);
+
+                // Submit next execution after delay, unless new work has been signaled in the meantime
+                schedule(wakeUpRequested.get() ? 0L : delay);
+            }
+        }
+
+        @NotNull
+        Future<?> schedule(long delayMillis) {
+            var future = executor.schedule(this, delayMillis, MILLISECONDS);
+            if (delayMillis > 0) {
+                waiting.set(future);
+                if (wakeUpRequested.get()) {
+                    anticipate(future);
+                }
+            }
+            return future;
+        }
+
+        void wakeUp() {
+            wakeUpRequested.set(true);
+            var future = waiting.get();
+            if (future != null) {
+                anticipate(future);
+            }
+        }
+
+        private void anticipate(ScheduledFuture<?> future) {
+            if (waiting.compareAndSet(future, null) && future.cancel(false)) {
+                schedule(0L);
+            }
+        }
     }
 }
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.statemachine;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * Interface that declares an abstraction for a component that process some entities and return the number of the processed ones.
  * Used by {@link StateMachineManager} to decide whether to apply wait strategy in loop iteration
@@ -28,4 +30,16 @@ public interface StateProcessor {
      * @return the processed states count
      */
     Long process();
+
+    /**
+     * Process states, dispatching every entity on the passed executor. The method returns when all the entities
+     * fetched in the current batch have been processed.
+     * The default implementation ignores the executor and processes the entities on the calling thread.
+     *
+     * @param executor the executor on which the entities will be processed.
+     * @return the processed states count
+     */
+    default Long process(ExecutorService executor) {
+        return process();
+    }
 }
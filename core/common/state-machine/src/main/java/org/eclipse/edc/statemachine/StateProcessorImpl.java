@@ -15,6 +15,8 @@
 package org.eclipse.edc.statemachine;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -27,6 +29,7 @@ import java.util.function.Supplier;
  * the scope of the function.
  * The run method returns the processed state count, this is used by the state machine to decide
  * to apply the wait strategy or not.
+ * When an executor is passed, the entities of the same batch are processed concurrently on it.
  *
  * @param <T> the entity that is processed
  */
@@ -48,4 +51,16 @@ public class StateProcessorImpl<T> implements StateProcessor {
                 .filter(isProcessed)
                 .count();
     }
+
+    @Override
+    public Long process(ExecutorService executor) {
+        var futures = entities.get().stream()
+                .map(entity -> CompletableFuture.supplyAsync(() -> process.apply(entity), executor))
+                .toList();
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .filter(isProcessed)
+                .count();
+    }
 }
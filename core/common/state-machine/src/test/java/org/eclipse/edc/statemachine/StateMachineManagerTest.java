@@ -21,13 +21,18 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -135,4 +140,65 @@ class StateMachineManagerTest {
             verify(waitStrategy).retryInMillis();
         });
     }
+
+    @Test
+    void shouldRunDedicatedProcessorsOnTheirOwnLoop() {
+        var slowProcessor = mock(StateProcessor.class);
+        when(slowProcessor.process()).thenAnswer(i -> {
+            Thread.sleep(10000L);
+            return 1L;
+        });
+        var dedicatedProcessor = mock(StateProcessor.class);
+        when(dedicatedProcessor.process(any())).thenReturn(1L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(slowProcessor)
+                .processor("dedicated", dedicatedProcessor, 2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> verify(dedicatedProcessor, atLeast(2)).process(any()));
+    }
+
+    @Test
+    void shouldApplyADedicatedWaitStrategyOnEveryLoop() {
+        var processor = mock(StateProcessor.class);
+        when(processor.process()).thenReturn(0L);
+        var failingProcessor = mock(StateProcessor.class);
+        when(failingProcessor.process(any())).thenThrow(new EdcException("exception"));
+        var mainWaitStrategy = mock(WaitStrategy.class);
+        when(mainWaitStrategy.waitForMillis()).thenReturn(1L);
+        var dedicatedWaitStrategy = mock(WaitStrategy.class);
+        when(dedicatedWaitStrategy.retryInMillis()).thenReturn(1L);
+        var waitStrategies = List.of(mainWaitStrategy, dedicatedWaitStrategy).iterator();
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategies::next)
+                .processor(processor)
+                .processor("dedicated", failingProcessor, 1)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            verify(dedicatedWaitStrategy, atLeast(2)).retryInMillis();
+            verify(mainWaitStrategy, atLeast(2)).waitForMillis();
+        });
+        verify(mainWaitStrategy, never()).retryInMillis();
+    }
+
+    @Test
+    void shouldStartNextIterationImmediatelyWhenWokenUp() {
+        var processor = mock(StateProcessor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> verify(processor).process());
+
+        stateMachine.wakeUp();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+    }
 }
@@ -17,6 +17,7 @@ package org.eclipse.edc.statemachine;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -39,4 +40,15 @@ class StateProcessorImplTest {
 
         assertThat(count).isEqualTo(0);
     }
+
+    @Test
+    void shouldProcessEntitiesOnTheExecutor() {
+        var executor = Executors.newFixedThreadPool(2);
+        var processor = new StateProcessorImpl<>(() -> List.of("one", "two", "three"), string -> !string.equals("two"));
+
+        var count = processor.process(executor);
+
+        assertThat(count).isEqualTo(2);
+        executor.shutdown();
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.concurrency;
+
+import org.eclipse.edc.util.collection.LruCache;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Cache of values loaded on demand, e.g. from a remote service.
+ * <p>
+ * Concurrent misses for the same key wait for a single load. A value is returned until it expires; once its refresh
+ * time is reached it's still returned, while a new value is loaded on the refresh executor, so callers don't block on
+ * the remote service. Failed loads are not cached, and the least recently used values are evicted when the cache is
+ * full.
+ *
+ * @param <K> the key type, must implement equals and hashCode.
+ * @param <V> the value type.
+ */
+public class RefreshingCache<K, V> {
+
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final BiConsumer<K, RuntimeException> refreshFailureHandler;
+    private final Map<K, CompletableFuture<Entry<V>>> entries;
+
+    /**
+     * Constructor.
+     *
+     * @param clock the clock, used to timestamp the refreshed values.
+     * @param maxSize the maximum number of cached values.
+     * @param refreshExecutor the executor the values are refreshed on.
+     * @param refreshFailureHandler called with the key and the failure when a refresh fails, the current value is then
+     *                              kept until it expires.
+     */
+    public RefreshingCache(Clock clock, int maxSize, Executor refreshExecutor, BiConsumer<K, RuntimeException> refreshFailureHandler) {
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshFailureHandler = refreshFailureHandler;
+        this.entries = new LruCache<>(maxSize);
+    }
+
+    /**
+     * Returns the cached value for the key, or loads it. A value that expires at or before the time it has been loaded
+     * at is returned to the callers waiting for it, but not cached.
+     *
+     * @param key the key.
+     * @param now the time of the lookup.
+     * @param loader loads the value at the given time, called on miss and on refresh. It throws if the load fails.
+     * @return the value.
+     * @throws RuntimeException the failure of the load.
+     */
+    public V get(K key, Instant now, Function<Instant, Expiring<V>> loader) {
+        var created = new CompletableFuture<Entry<V>>();
+        CompletableFuture<Entry<V>> current;
+        boolean loaded;
+        synchronized (entries) {
+            current = entries.get(key);
+            if (current == null || isExpired(current, now)) {
+                entries.put(key, created);
+                current = created;
+            }
+            loaded = current.isDone();
+        }
+
+        if (current != created) {
+            var entry = join(current);
+            if (loaded && !now.isBefore(entry.expiring().refreshAt())) {
+                refresh(key, current, entry, loader);
+            }
+            return entry.expiring().value();
+        }
+
+        try {
+            var expiring = loader.apply(now);
+            if (!now.isBefore(expiring.expiresAt())) {
+                remove(key, created);
+            }
+            created.complete(new Entry<>(expiring, new AtomicBoolean()));
+            return expiring.value();
+        } catch (RuntimeException e) {
+            remove(key, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the cached value for the key, without loading it.
+     *
+     * @return the value, or null if none is cached or its load is still in progress.
+     */
+    public V getIfPresent(K key) {
+        CompletableFuture<Entry<V>> current;
+        synchronized (entries) {
+            current = entries.get(key);
+        }
+        if (current == null || !current.isDone() || current.isCompletedExceptionally()) {
+            return null;
+        }
+        return current.join().expiring().value();
+    }
+
+    /**
+     * Removes all the cached values.
+     */
+    public void invalidate() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private void refresh(K key, CompletableFuture<Entry<V>> current, Entry<V> entry, Function<Instant, Expiring<V>> loader) {
+        if (!entry.refreshing().compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                var now = clock.instant();
+                var expiring = loader.apply(now);
+                synchronized (entries) {
+                    if (entries.get(key) == current) {
+                        if (now.isBefore(expiring.expiresAt())) {
+                            entries.put(key, CompletableFuture.completedFuture(new Entry<>(expiring, new AtomicBoolean())));
+                        } else {
+                            entries.remove(key);
+                        }
+                    }
+                }
+                return;
+            } catch (RuntimeException e) {
+                refreshFailureHandler.accept(key, e);
+            }
+            entry.refreshing().set(false);
+        });
+    }
+
+    private void remove(K key, CompletableFuture<Entry<V>> future) {
+        synchronized (entries) {
+            entries.remove(key, future);
+        }
+    }
+
+    private boolean isExpired(CompletableFuture<Entry<V>> future, Instant now) {
+        return future.isDone() && (future.isCompletedExceptionally() || !now.isBefore(future.join().expiring().expiresAt()));
+    }
+
+    private Entry<V> join(CompletableFuture<Entry<V>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    /**
+     * A loaded value.
+     *
+     * @param value the value.
+     * @param refreshAt the time from which the value gets refreshed in the background.
+     * @param expiresAt the time from which the value isn't returned anymore.
+     */
+    public record Expiring<V>(V value, Instant refreshAt, Instant expiresAt) {
+    }
+
+    private record Entry<V>(Expiring<V> expiring, AtomicBoolean refreshing) {
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.concurrency;
+
+import org.eclipse.edc.util.concurrency.RefreshingCache.Expiring;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshingCacheTest {
+
+    private final Instant now = Instant.now();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final List<RuntimeException> refreshFailures = new ArrayList<>();
+    private final RefreshingCache<String, String> cache = new RefreshingCache<>(Clock.fixed(now.plusSeconds(15), ZoneOffset.UTC), 2,
+            refreshes::add, (key, failure) -> refreshFailures.add(failure));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_shouldLoadOnce_whileNotExpired() {
+        cache.get("key", now, this::load);
+        var value = cache.get("key", now.plusSeconds(9), this::load);
+
+        assertThat(value).isEqualTo("value-1");
+        assertThat(loads).hasValue(1);
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    void get_shouldReturnValueAndRefreshInBackground_whenRefreshTimeIsReached() {
+        cache.get("key", now, this::load);
+
+        var whileRefreshing = cache.get("key", now.plusSeconds(12), this::load);
+        cache.get("key", now.plusSeconds(13), this::load);
+        assertThat(refreshes).hasSize(1);
+        refreshes.get(0).run();
+        var afterRefresh = cache.get("key", now.plusSeconds(16), this::load);
+
+        assertThat(whileRefreshing).isEqualTo("value-1");
+        assertThat(afterRefresh).isEqualTo("value-2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_shouldKeepValue_whenRefreshFails() {
+        cache.get("key", now, this::load);
+        cache.get("key", now.plusSeconds(12), at -> {
+            throw new IllegalStateException("failure");
+        });
+        refreshes.get(0).run();
+
+        var value = cache.get("key", now.plusSeconds(16), this::load);
+
+        assertThat(value).isEqualTo("value-1");
+        assertThat(refreshFailures).hasSize(1);
+    }
+
+    @Test
+    void get_shouldLoadAgain_whenExpired() {
+        cache.get("key", now, this::load);
+
+        var value = cache.get("key", now.plusSeconds(20), this::load);
+
+        assertThat(value).isEqualTo("value-2");
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    void get_shouldNotCacheFailures() {
+        assertThatThrownBy(() -> cache.get("key", now, at -> {
+            throw new IllegalStateException("failure");
+        })).isInstanceOf(IllegalStateException.class);
+
+        var value = cache.get("key", now, this::load);
+
+        assertThat(value).isEqualTo("value-1");
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsedValue_whenFull() {
+        cache.get("first", now, this::load);
+        cache.get("second", now, this::load);
+        cache.get("first", now, this::load);
+        cache.get("third", now, this::load);
+
+        assertThat(cache.getIfPresent("first")).isNotNull();
+        assertThat(cache.getIfPresent("second")).isNull();
+        assertThat(cache.getIfPresent("third")).isNotNull();
+    }
+
+    private Expiring<String> load(Instant loadedAt) {
+        return new Expiring<>("value-" + loads.incrementAndGet(), loadedAt.plusSeconds(10), loadedAt.plusSeconds(20));
+    }
+}
@@ -20,7 +20,9 @@ import org.eclipse.edc.catalog.spi.DistributionResolver;
 import org.eclipse.edc.connector.contract.spi.ContractId;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.asset.AssetPredicateConverter;
@@ -28,12 +30,14 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.Integer.MAX_VALUE;
+import static java.util.Collections.emptyList;
 
 public class DatasetResolverImpl implements DatasetResolver {
 
@@ -54,10 +58,35 @@ public class DatasetResolverImpl implements DatasetResolver {
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
-        return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset))
+        var offerings = offeringsFor(agent);
+        if (offerings.isEmpty()) {
+            return Stream.empty();
+        }
+
+        // criteria shared by all the selectors can be pushed down to the asset index, as every asset that could get
+        // an offer satisfies them
+        var commonCriteria = offerings.stream()
+                .map(offering -> offering.definition().getAssetsSelector())
+                .reduce((a, b) -> a.stream().filter(b::contains).toList())
+                .orElse(emptyList());
+
+        var assetsQuery = QuerySpec.Builder.newInstance()
+                .filter(querySpec.getFilterExpression())
+                .filter(commonCriteria);
+
+        // if a definition selects exactly the pushed down criteria, every asset returned by the index will have at
+        // least an offer, so pagination can be pushed down as well
+        var everyAssetHasOffers = offerings.stream()
+                .anyMatch(offering -> commonCriteria.containsAll(offering.definition().getAssetsSelector()));
+
+        if (everyAssetHasOffers) {
+            assetsQuery.offset(querySpec.getOffset()).limit(querySpec.getLimit());
+            return assetIndex.queryAssets(assetsQuery.build())
+                    .map(asset -> toDataset(offerings, asset));
+        }
+
+        return assetIndex.queryAssets(assetsQuery.offset(0).limit(MAX_VALUE).build())
+                .map(asset -> toDataset(offerings, asset))
                 .filter(Dataset::hasOffers)
                 .skip(querySpec.getOffset())
                 .limit(querySpec.getLimit());
@@ -65,14 +94,38 @@ public class DatasetResolverImpl implements DatasetResolver {
 
     @Override
     public Dataset getById(ParticipantAgent agent, String id) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
+        var offerings = offeringsFor(agent);
         return Optional.of(id)
                 .map(assetIndex::findById)
-                .map(asset -> toDataset(contractDefinitions, asset))
+                .map(asset -> toDataset(offerings, asset))
                 .orElse(null);
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset) {
+    /**
+     * Resolves the contract definitions for the agent, compiling their asset selectors and resolving their contract
+     * policies once per request. Definitions whose contract policy does not exist are discarded, as they could not
+     * produce any offer.
+     */
+    private List<Offering> offeringsFor(ParticipantAgent agent) {
+        var policies = new HashMap<String, Optional<Policy>>();
+        return contractDefinitionResolver.definitionsFor(agent)
+                .map(definition -> policies.computeIfAbsent(definition.getContractPolicyId(), this::findPolicy)
+                        .map(policy -> new Offering(definition, compileSelector(definition), policy)))
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private Optional<Policy> findPolicy(String policyId) {
+        return Optional.ofNullable(policyDefinitionStore.findById(policyId)).map(PolicyDefinition::getPolicy);
+    }
+
+    private Predicate<Asset> compileSelector(ContractDefinition definition) {
+        return definition.getAssetsSelector().stream()
+                .map(predicateConverter::convert)
+                .reduce(x -> true, Predicate::and);
+    }
+
+    private Dataset toDataset(List<Offering> offerings, Asset asset) {
 
         var distributions = distributionResolver.getDistributions(asset, null); // TODO: data addresses should be retrieved
         var datasetBuilder = Dataset.Builder.newInstance()
@@ -80,21 +133,17 @@ public class DatasetResolverImpl implements DatasetResolver {
                 .distributions(distributions)
                 .properties(asset.getProperties());
 
-        contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(predicateConverter::convert)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
-                .forEach(contractDefinition -> {
-                    var policyDefinition = policyDefinitionStore.findById(contractDefinition.getContractPolicyId());
-                    if (policyDefinition != null) {
-                        var contractId = ContractId.create(contractDefinition.getId(), asset.getId());
-                        datasetBuilder.offer(contractId.toString(), policyDefinition.getPolicy().withTarget(asset.getId()));
-                    }
+        offerings.stream()
+                .filter(offering -> offering.selector().test(asset))
+                .forEach(offering -> {
+                    var contractId = ContractId.create(offering.definition().getId(), asset.getId());
+                    datasetBuilder.offer(contractId.toString(), offering.policy().withTarget(asset.getId()));
                 });
 
         return datasetBuilder.build();
     }
 
+    private record Offering(ContractDefinition definition, Predicate<Asset> selector, Policy policy) {
+    }
+
 }
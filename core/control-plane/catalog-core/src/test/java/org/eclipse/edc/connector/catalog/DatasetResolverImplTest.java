@@ -53,7 +53,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class DatasetResolverImplTest {
@@ -161,7 +163,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> paginate(assets, i.getArgument(0)));
         when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 5)).build();
 
@@ -176,7 +178,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> paginate(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(7, 15)).build();
 
@@ -191,7 +193,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 20).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> paginate(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 14)).build();
 
@@ -206,7 +208,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> paginate(assets, i.getArgument(0)));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 8)).build();
 
@@ -217,6 +219,50 @@ class DatasetResolverImplTest {
                 .map(getId()).containsExactly("6", "7");
     }
 
+    @Test
+    void query_shouldNotQueryAssets_whenNoDefinitions() {
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.empty());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).isEmpty();
+        verifyNoInteractions(assetIndex);
+    }
+
+    @Test
+    void query_shouldPushDownSelectorAndPagination_whenDefinitionCoversSharedCriteria() {
+        var sharedCriterion = new Criterion(EDC_NAMESPACE + "key", "=", "value");
+        var otherCriterion = new Criterion(EDC_NAMESPACE + "other", "=", "value");
+        var contractDefinitions = List.of(
+                contractDefinitionBuilder("definition1").assetsSelector(List.of(sharedCriterion)).build(),
+                contractDefinitionBuilder("definition2").assetsSelector(List.of(sharedCriterion, otherCriterion)).build()
+        );
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.of(createAsset("id").property(EDC_NAMESPACE + "key", "value").build()));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        var querySpec = QuerySpec.Builder.newInstance().range(new Range(5, 10)).build();
+
+        var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
+
+        assertThat(datasets).hasSize(1);
+        verify(assetIndex).queryAssets(argThat(q -> q.getFilterExpression().equals(List.of(sharedCriterion)) &&
+                q.getOffset() == 5 && q.getLimit() == 5));
+    }
+
+    @Test
+    void query_shouldLookupEveryPolicyOnce() {
+        var contractDefinitions = range(0, 3).mapToObj(it -> contractDefinitionBuilder(String.valueOf(it)).contractPolicyId("policy").build()).toList();
+        var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> paginate(assets, i.getArgument(0)));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).hasSize(10).allSatisfy(dataset -> assertThat(dataset.getOffers()).hasSize(3));
+        verify(policyStore, times(1)).findById("policy");
+    }
+
     @Test
     void getById_shouldReturnDataset() {
         var policy1 = Policy.Builder.newInstance().type(SET).build();
@@ -260,6 +306,10 @@ class DatasetResolverImplTest {
         assertThat(dataset).isNull();
     }
 
+    private Stream<Asset> paginate(List<Asset> assets, QuerySpec querySpec) {
+        return assets.stream().skip(querySpec.getOffset()).limit(querySpec.getLimit());
+    }
+
     private ContractDefinition.Builder contractDefinitionBuilder(String id) {
         return ContractDefinition.Builder.newInstance()
                 .id(id)
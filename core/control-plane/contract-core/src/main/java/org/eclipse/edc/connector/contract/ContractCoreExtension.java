@@ -21,10 +21,12 @@ import org.eclipse.edc.connector.contract.listener.ContractNegotiationEventListe
 import org.eclipse.edc.connector.contract.negotiation.ConsumerContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.contract.negotiation.ProviderContractNegotiationManagerImpl;
 import org.eclipse.edc.connector.contract.observe.ContractNegotiationObservableImpl;
+import org.eclipse.edc.connector.contract.offer.ContractDefinitionAccessCache;
 import org.eclipse.edc.connector.contract.offer.ContractDefinitionResolverImpl;
 import org.eclipse.edc.connector.contract.offer.ContractOfferResolverImpl;
 import org.eclipse.edc.connector.contract.policy.PolicyArchiveImpl;
 import org.eclipse.edc.connector.contract.policy.PolicyEquality;
+import org.eclipse.edc.connector.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.contract.spi.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.edc.connector.contract.spi.negotiation.NegotiationWaitStrategy;
 import org.eclipse.edc.connector.contract.spi.negotiation.ProviderContractNegotiationManager;
@@ -38,6 +40,7 @@ import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiat
 import org.eclipse.edc.connector.contract.spi.validation.ContractValidationService;
 import org.eclipse.edc.connector.contract.validation.ContractExpiryCheckFunction;
 import org.eclipse.edc.connector.contract.validation.ContractValidationServiceImpl;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
@@ -59,15 +62,21 @@ import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.contract.spi.validation.ContractValidationService.TRANSFER_SCOPE;
 import static org.eclipse.edc.connector.contract.validation.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
@@ -88,6 +97,9 @@ public class ContractCoreExtension implements ServiceExtension {
     public static final int DEFAULT_BATCH_SIZE = 20;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
+    public static final int DEFAULT_STATE_MACHINE_WORKERS = 0;
+    public static final long DEFAULT_DEFINITION_ACCESS_CACHE_TTL = 0;
+    public static final int DEFAULT_DEFINITION_ACCESS_CACHE_MAX_SIZE = 10_000;
 
     @Setting(value = "the iteration wait time in milliseconds in the negotiation state machine. Default value " + DEFAULT_ITERATION_WAIT, type = "long")
     private static final String NEGOTIATION_STATE_MACHINE_ITERATION_WAIT_MILLIS = "edc.negotiation.state-machine.iteration-wait-millis";
@@ -98,6 +110,14 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
 
+    @Setting(value = "the number of workers that process the entities of every state of the consumer negotiation state machine concurrently. " +
+            "With 0, all the states are processed sequentially on a single thread", type = "int", defaultValue = DEFAULT_STATE_MACHINE_WORKERS + "")
+    private static final String NEGOTIATION_CONSUMER_STATE_MACHINE_WORKERS = "edc.negotiation.consumer.state-machine.workers";
+
+    @Setting(value = "the number of workers that process the entities of every state of the provider negotiation state machine concurrently. " +
+            "With 0, all the states are processed sequentially on a single thread", type = "int", defaultValue = DEFAULT_STATE_MACHINE_WORKERS + "")
+    private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_WORKERS = "edc.negotiation.provider.state-machine.workers";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the consumer negotiation with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
 
@@ -110,6 +130,14 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "The base delay for the provider negotiation retry mechanism in millisecond", type = "long", defaultValue = DEFAULT_SEND_RETRY_BASE_DELAY + "")
     private static final String NEGOTIATION_PROVIDER_SEND_RETRY_BASE_DELAY_MS = "edc.negotiation.provider.send.retry.base-delay.ms";
 
+    @Setting(value = "the time-to-live in milliseconds of the cached access policy evaluations of the contract definitions. " +
+            "The cache is disabled if 0. Default value " + DEFAULT_DEFINITION_ACCESS_CACHE_TTL, type = "long")
+    private static final String CONTRACT_DEFINITION_ACCESS_CACHE_TTL_MILLIS = "edc.contract.definition.access-cache.ttl-millis";
+
+    @Setting(value = "the maximum number of cached access policy evaluations of the contract definitions. " +
+            "Default value " + DEFAULT_DEFINITION_ACCESS_CACHE_MAX_SIZE, type = "int")
+    private static final String CONTRACT_DEFINITION_ACCESS_CACHE_MAX_SIZE = "edc.contract.definition.access-cache.max-size";
+
     private ConsumerContractNegotiationManagerImpl consumerNegotiationManager;
 
     private ProviderContractNegotiationManagerImpl providerNegotiationManager;
@@ -150,6 +178,9 @@ public class ContractCoreExtension implements ServiceExtension {
     @Inject
     private EventRouter eventRouter;
 
+    @Inject
+    private MetricsInstrumentation metricsInstrumentation;
+
     @Inject
     private TypeManager typeManager;
 
@@ -188,7 +219,7 @@ public class ContractCoreExtension implements ServiceExtension {
     }
 
     private void registerServices(ServiceExtensionContext context) {
-        var definitionService = new ContractDefinitionResolverImpl(monitor, contractDefinitionStore, policyEngine, policyStore);
+        var definitionService = new ContractDefinitionResolverImpl(monitor, contractDefinitionStore, policyEngine, policyStore, createAccessCache(context));
         context.registerService(ContractDefinitionResolver.class, definitionService);
 
         var participantId = context.getParticipantId();
@@ -208,7 +239,14 @@ public class ContractCoreExtension implements ServiceExtension {
 
 
         var iterationWaitMillis = context.getSetting(NEGOTIATION_STATE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = context.hasService(NegotiationWaitStrategy.class) ? context.getService(NegotiationWaitStrategy.class) : new ExponentialWaitStrategy(iterationWaitMillis);
+        // every state machine loop gets its own exponential wait strategy, as it counts the errors of the loop
+        Supplier<WaitStrategy> waitStrategySupplier;
+        if (context.hasService(NegotiationWaitStrategy.class)) {
+            var waitStrategy = context.getService(NegotiationWaitStrategy.class);
+            waitStrategySupplier = () -> waitStrategy;
+        } else {
+            waitStrategySupplier = () -> new ExponentialWaitStrategy(iterationWaitMillis);
+        }
 
         CommandQueue<ContractNegotiationCommand> commandQueue = new BoundedCommandQueue<>(10);
         var commandRunner = new CommandRunner<ContractNegotiationCommand>(commandHandlerRegistry, monitor);
@@ -221,7 +259,7 @@ public class ContractCoreExtension implements ServiceExtension {
 
         consumerNegotiationManager = ConsumerContractNegotiationManagerImpl.Builder.newInstance()
                 .participantId(participantId)
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategySupplier)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .commandQueue(commandQueue)
@@ -233,13 +271,14 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .stateMachineWorkers(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_WORKERS, DEFAULT_STATE_MACHINE_WORKERS))
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .build();
 
         providerNegotiationManager = ProviderContractNegotiationManagerImpl.Builder.newInstance()
                 .participantId(participantId)
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategySupplier)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .commandQueue(commandQueue)
@@ -251,6 +290,7 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .stateMachineWorkers(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_WORKERS, DEFAULT_STATE_MACHINE_WORKERS))
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .build();
@@ -265,6 +305,22 @@ public class ContractCoreExtension implements ServiceExtension {
         return new EntityRetryProcessConfiguration(retryLimit, () -> new ExponentialWaitStrategy(retryBaseDelay));
     }
 
+    @Nullable
+    private ContractDefinitionAccessCache createAccessCache(ServiceExtensionContext context) {
+        var ttl = context.getSetting(CONTRACT_DEFINITION_ACCESS_CACHE_TTL_MILLIS, DEFAULT_DEFINITION_ACCESS_CACHE_TTL);
+        if (ttl <= 0) {
+            return null;
+        }
+        var maxSize = context.getSetting(CONTRACT_DEFINITION_ACCESS_CACHE_MAX_SIZE, DEFAULT_DEFINITION_ACCESS_CACHE_MAX_SIZE);
+        var cache = new ContractDefinitionAccessCache(clock, Duration.ofMillis(ttl), maxSize);
+        eventRouter.registerSync(ContractDefinitionEvent.class, cache);
+        eventRouter.registerSync(PolicyDefinitionEvent.class, cache);
+        metricsInstrumentation.counter("edc.contract.definition.access.cache.hits", Map.of(), cache::getHitCount);
+        metricsInstrumentation.counter("edc.contract.definition.access.cache.misses", Map.of(), cache::getMissCount);
+        metricsInstrumentation.gauge("edc.contract.definition.access.cache.hit.rate", Map.of(), cache::getHitRate);
+        return cache;
+    }
+
     @NotNull
     private EntityRetryProcessConfiguration consumerEntityRetryProcessConfiguration(ServiceExtensionContext context) {
         var retryLimit = context.getSetting(NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT, DEFAULT_SEND_RETRY_LIMIT);
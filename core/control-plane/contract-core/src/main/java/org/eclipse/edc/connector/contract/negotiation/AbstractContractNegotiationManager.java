@@ -37,11 +37,13 @@ import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.contract.ContractCoreExtension.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.connector.contract.ContractCoreExtension.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.contract.ContractCoreExtension.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.contract.ContractCoreExtension.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.connector.contract.ContractCoreExtension.DEFAULT_STATE_MACHINE_WORKERS;
 
 public abstract class AbstractContractNegotiationManager {
     protected String participantId;
@@ -56,7 +58,8 @@ public abstract class AbstractContractNegotiationManager {
     protected Telemetry telemetry;
     protected ExecutorInstrumentation executorInstrumentation;
     protected int batchSize = DEFAULT_BATCH_SIZE;
-    protected WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
+    protected int stateMachineWorkers = DEFAULT_STATE_MACHINE_WORKERS;
+    protected Supplier<WaitStrategy> waitStrategySupplier = () -> () -> DEFAULT_ITERATION_WAIT;
     protected PolicyDefinitionStore policyStore;
     protected EntityRetryProcessFactory entityRetryProcessFactory;
     protected EntityRetryProcessConfiguration entityRetryProcessConfiguration = defaultEntityRetryProcessConfiguration();
@@ -188,8 +191,21 @@ public abstract class AbstractContractNegotiationManager {
             return this;
         }
 
+        public Builder<T> stateMachineWorkers(int stateMachineWorkers) {
+            manager.stateMachineWorkers = stateMachineWorkers;
+            return this;
+        }
+
         public Builder<T> waitStrategy(WaitStrategy waitStrategy) {
-            manager.waitStrategy = waitStrategy;
+            manager.waitStrategySupplier = () -> waitStrategy;
+            return this;
+        }
+
+        /**
+         * Supplies a wait strategy for every loop of the state machine, needed for strategies that hold state.
+         */
+        public Builder<T> waitStrategySupplier(Supplier<WaitStrategy> waitStrategySupplier) {
+            manager.waitStrategySupplier = waitStrategySupplier;
             return this;
         }
 
@@ -59,16 +59,17 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
     }
 
     public void start() {
-        stateMachineManager = StateMachineManager.Builder.newInstance("consumer-contract-negotiation", monitor, executorInstrumentation, waitStrategy)
-                .processor(processNegotiationsInState(INITIAL, this::processInitial))
-                .processor(processNegotiationsInState(REQUESTING, this::processRequesting))
-                .processor(processNegotiationsInState(ACCEPTING, this::processAccepting))
-                .processor(processNegotiationsInState(AGREED, this::processAgreed))
-                .processor(processNegotiationsInState(VERIFYING, this::processVerifying))
-                .processor(processNegotiationsInState(TERMINATING, this::processTerminating))
+        stateMachineManager = StateMachineManager.Builder.newInstance("consumer-contract-negotiation", monitor, executorInstrumentation, waitStrategySupplier)
+                .processor(INITIAL.name(), processNegotiationsInState(INITIAL, this::processInitial), stateMachineWorkers)
+                .processor(REQUESTING.name(), processNegotiationsInState(REQUESTING, this::processRequesting), stateMachineWorkers)
+                .processor(ACCEPTING.name(), processNegotiationsInState(ACCEPTING, this::processAccepting), stateMachineWorkers)
+                .processor(AGREED.name(), processNegotiationsInState(AGREED, this::processAgreed), stateMachineWorkers)
+                .processor(VERIFYING.name(), processNegotiationsInState(VERIFYING, this::processVerifying), stateMachineWorkers)
+                .processor(TERMINATING.name(), processNegotiationsInState(TERMINATING, this::processTerminating), stateMachineWorkers)
                 .processor(onCommands(this::processCommand))
                 .build();
 
+        negotiationStore.registerWorkAvailableListener(stateMachineManager::wakeUp);
         stateMachineManager.start();
     }
 
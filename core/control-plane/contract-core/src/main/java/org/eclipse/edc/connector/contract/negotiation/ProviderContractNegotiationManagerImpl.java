@@ -55,16 +55,17 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
     }
 
     public void start() {
-        stateMachineManager = StateMachineManager.Builder.newInstance("provider-contract-negotiation", monitor, executorInstrumentation, waitStrategy)
-                .processor(processNegotiationsInState(OFFERING, this::processOffering))
-                .processor(processNegotiationsInState(REQUESTED, this::processRequested))
-                .processor(processNegotiationsInState(AGREEING, this::processAgreeing))
-                .processor(processNegotiationsInState(VERIFIED, this::processVerified))
-                .processor(processNegotiationsInState(FINALIZING, this::processFinalizing))
-                .processor(processNegotiationsInState(TERMINATING, this::processTerminating))
+        stateMachineManager = StateMachineManager.Builder.newInstance("provider-contract-negotiation", monitor, executorInstrumentation, waitStrategySupplier)
+                .processor(OFFERING.name(), processNegotiationsInState(OFFERING, this::processOffering), stateMachineWorkers)
+                .processor(REQUESTED.name(), processNegotiationsInState(REQUESTED, this::processRequested), stateMachineWorkers)
+                .processor(AGREEING.name(), processNegotiationsInState(AGREEING, this::processAgreeing), stateMachineWorkers)
+                .processor(VERIFIED.name(), processNegotiationsInState(VERIFIED, this::processVerified), stateMachineWorkers)
+                .processor(FINALIZING.name(), processNegotiationsInState(FINALIZING, this::processFinalizing), stateMachineWorkers)
+                .processor(TERMINATING.name(), processNegotiationsInState(TERMINATING, this::processTerminating), stateMachineWorkers)
                 .processor(onCommands(this::processCommand))
                 .build();
 
+        negotiationStore.registerWorkAvailableListener(stateMachineManager::wakeUp);
         stateMachineManager.start();
     }
 
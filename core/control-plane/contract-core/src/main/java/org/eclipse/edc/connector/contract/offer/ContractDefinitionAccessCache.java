@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.contract.offer;
+
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Caches the outcome of the access policy evaluation of a {@link ContractDefinition} for a {@link ParticipantAgent}.
+ * Entries are keyed by the agent claims and attributes and by the definition id and creation timestamp, they expire
+ * after the configured time-to-live and the least recently used ones are evicted when the cache is full.
+ * <p>
+ * Registered as {@link EventSubscriber} for contract definition and policy definition events, every event invalidates
+ * the whole cache, since a policy can be referenced by any number of definitions.
+ */
+public class ContractDefinitionAccessCache implements EventSubscriber {
+
+    private final Clock clock;
+    private final long ttlMillis;
+    private final Map<Key, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ContractDefinitionAccessCache(Clock clock, Duration ttl, int maxSize) {
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached access decision for the agent on the definition, or calls the evaluation and caches its
+     * outcome.
+     *
+     * @param agent the participant agent.
+     * @param definition the contract definition.
+     * @param evaluation evaluates the access policy, called on cache miss.
+     * @return true if the access is granted, false otherwise.
+     */
+    public boolean isAccessGranted(ParticipantAgent agent, ContractDefinition definition, BooleanSupplier evaluation) {
+        var key = new Key(agent.getClaims(), agent.getAttributes(), definition.getId(), definition.getCreatedAt());
+        var now = clock.millis();
+
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hits.incrementAndGet();
+                return entry.granted;
+            }
+        }
+
+        misses.incrementAndGet();
+        var currentGeneration = generation.get();
+        var granted = evaluation.getAsBoolean();
+
+        synchronized (entries) {
+            // an invalidation happened during the evaluation, its outcome could be stale
+            if (currentGeneration == generation.get()) {
+                entries.put(key, new Entry(granted, now + ttlMillis));
+            }
+        }
+        return granted;
+    }
+
+    /**
+     * Removes all the cached entries.
+     */
+    public void invalidate() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        invalidate();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the ratio between hits and total lookups, 0 if no lookup has been done yet.
+     */
+    public double getHitRate() {
+        var hitCount = hits.get();
+        var total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private record Key(Map<String, Object> claims, Map<String, String> attributes, String definitionId, long definitionCreatedAt) {
+    }
+
+    private record Entry(boolean granted, long expiresAt) {
+    }
+}
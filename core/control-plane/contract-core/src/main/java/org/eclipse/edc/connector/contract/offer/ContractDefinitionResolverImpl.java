@@ -45,12 +45,23 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     private final PolicyDefinitionStore policyStore;
     private final Monitor monitor;
     private final ContractDefinitionStore definitionStore;
+    private final ContractDefinitionAccessCache accessCache;
 
     public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore) {
+        this(monitor, contractDefinitionStore, policyEngine, policyStore, null);
+    }
+
+    /**
+     * Creates a resolver that caches the access policy evaluations in the passed {@link ContractDefinitionAccessCache}.
+     * If the cache is null, every access policy gets evaluated on every call.
+     */
+    public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore,
+                                          @Nullable ContractDefinitionAccessCache accessCache) {
         this.monitor = monitor;
         definitionStore = contractDefinitionStore;
         this.policyEngine = policyEngine;
         this.policyStore = policyStore;
+        this.accessCache = accessCache;
     }
 
     @NotNull
@@ -70,9 +81,17 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     }
 
     /**
-     * Determines the applicability of a definition to an agent by evaluating its access policy.
+     * Determines the applicability of a definition to an agent by evaluating its access policy, or by looking up the
+     * outcome of a previous evaluation if the cache is enabled.
      */
     private boolean evaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent) {
+        if (accessCache == null) {
+            return doEvaluateAccessPolicy(definition, agent);
+        }
+        return accessCache.isAccessGranted(agent, definition, () -> doEvaluateAccessPolicy(definition, agent));
+    }
+
+    private boolean doEvaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent) {
         var policyContext = PolicyContextImpl.Builder.newInstance().additional(ParticipantAgent.class, agent).build();
         var accessResult = Optional.of(definition.getAccessPolicyId())
                 .map(policyStore::findById)
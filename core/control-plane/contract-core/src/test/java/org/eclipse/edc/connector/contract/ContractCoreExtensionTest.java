@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.contract.policy.PolicyArchiveImpl;
 import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.injection.ObjectFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +36,7 @@ class ContractCoreExtensionTest {
     @BeforeEach
     void setUp(ObjectFactory factory, ServiceExtensionContext context) {
         context.registerService(ExecutorInstrumentation.class, mock(ExecutorInstrumentation.class));
+        context.registerService(MetricsInstrumentation.class, MetricsInstrumentation.noop());
         extension = factory.constructInstance(ContractCoreExtension.class);
     }
 
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.contract.offer;
+
+import org.eclipse.edc.connector.contract.spi.event.contractdefinition.ContractDefinitionUpdated;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContractDefinitionAccessCacheTest {
+
+    private final Clock clock = mock(Clock.class);
+    private final BooleanSupplier evaluation = mock(BooleanSupplier.class);
+    private final ContractDefinitionAccessCache cache = new ContractDefinitionAccessCache(clock, Duration.ofMillis(100), 2);
+
+    @Test
+    void isAccessGranted_shouldEvaluateOnceForTheSameAgentAndDefinition() {
+        when(evaluation.getAsBoolean()).thenReturn(true);
+        var definition = createContractDefinition("1");
+
+        var first = cache.isAccessGranted(agent("one"), definition, evaluation);
+        var second = cache.isAccessGranted(agent("one"), definition, evaluation);
+
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(evaluation, times(1)).getAsBoolean();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void isAccessGranted_shouldEvaluateForDifferentAgents() {
+        when(evaluation.getAsBoolean()).thenReturn(true, false);
+        var definition = createContractDefinition("1");
+
+        var first = cache.isAccessGranted(agent("one"), definition, evaluation);
+        var second = cache.isAccessGranted(agent("two"), definition, evaluation);
+
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        verify(evaluation, times(2)).getAsBoolean();
+    }
+
+    @Test
+    void isAccessGranted_shouldEvaluateAgain_whenEntryExpired() {
+        when(clock.millis()).thenReturn(0L, 100L);
+        when(evaluation.getAsBoolean()).thenReturn(true);
+        var definition = createContractDefinition("1");
+
+        cache.isAccessGranted(agent("one"), definition, evaluation);
+        cache.isAccessGranted(agent("one"), definition, evaluation);
+
+        verify(evaluation, times(2)).getAsBoolean();
+    }
+
+    @Test
+    void isAccessGranted_shouldEvictLeastRecentlyUsed_whenFull() {
+        when(evaluation.getAsBoolean()).thenReturn(true);
+
+        cache.isAccessGranted(agent("one"), createContractDefinition("1"), evaluation);
+        cache.isAccessGranted(agent("one"), createContractDefinition("2"), evaluation);
+        cache.isAccessGranted(agent("one"), createContractDefinition("1"), evaluation);
+        cache.isAccessGranted(agent("one"), createContractDefinition("3"), evaluation);
+        cache.isAccessGranted(agent("one"), createContractDefinition("1"), evaluation);
+        cache.isAccessGranted(agent("one"), createContractDefinition("2"), evaluation);
+
+        verify(evaluation, times(4)).getAsBoolean();
+    }
+
+    @Test
+    void on_shouldInvalidateCache() {
+        when(evaluation.getAsBoolean()).thenReturn(true);
+        var definition = createContractDefinition("1");
+        cache.isAccessGranted(agent("one"), definition, evaluation);
+
+        var event = ContractDefinitionUpdated.Builder.newInstance().contractDefinitionId("1").build();
+        cache.on(EventEnvelope.Builder.newInstance().payload(event).at(1).build());
+        cache.isAccessGranted(agent("one"), definition, evaluation);
+
+        verify(evaluation, times(2)).getAsBoolean();
+    }
+
+    private ParticipantAgent agent(String identity) {
+        return new ParticipantAgent(Map.of("client_id", identity), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, identity));
+    }
+
+    private ContractDefinition createContractDefinition(String id) {
+        return ContractDefinition.Builder.newInstance()
+                .id(id)
+                .accessPolicyId("access")
+                .contractPolicyId("contract")
+                .createdAt(1)
+                .build();
+    }
+}
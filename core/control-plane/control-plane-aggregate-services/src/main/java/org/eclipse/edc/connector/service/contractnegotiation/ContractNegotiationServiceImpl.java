@@ -46,7 +46,7 @@ public class ContractNegotiationServiceImpl implements ContractNegotiationServic
         this.store = store;
         this.consumerManager = consumerManager;
         this.transactionContext = transactionContext;
-        queryValidator = new QueryValidator(ContractNegotiation.class);
+        queryValidator = new QueryValidator(ContractNegotiation.class, null, true);
     }
 
     @Override
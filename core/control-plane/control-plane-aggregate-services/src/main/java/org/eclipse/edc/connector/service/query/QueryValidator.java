@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.service.query;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
@@ -36,6 +37,7 @@ import static java.lang.String.format;
 public class QueryValidator {
     private final Class<?> canonicalType;
     private final Map<Class<?>, List<Class<?>>> subtypeMap;
+    private final boolean cursorSupported;
 
     /**
      * Constructs a new QueryValidator instance.
@@ -43,10 +45,16 @@ public class QueryValidator {
      * @param canonicalType The Java class of the object to validate against.
      * @param typeHierarchyMap Contains mapping from superclass to list of subclasses. Every superclass must be
      *         represented as separate entry in the map, even if it is also a subclass of another.
+     * @param cursorSupported Whether the store can continue a query from a {@link QueryCursor}.
      */
-    public QueryValidator(Class<?> canonicalType, Map<Class<?>, List<Class<?>>> typeHierarchyMap) {
+    public QueryValidator(Class<?> canonicalType, Map<Class<?>, List<Class<?>>> typeHierarchyMap, boolean cursorSupported) {
         this.canonicalType = canonicalType;
         subtypeMap = typeHierarchyMap;
+        this.cursorSupported = cursorSupported;
+    }
+
+    public QueryValidator(Class<?> canonicalType, Map<Class<?>, List<Class<?>>> typeHierarchyMap) {
+        this(canonicalType, typeHierarchyMap, false);
     }
 
     public QueryValidator(Class<?> canonicalType) {
@@ -57,6 +65,10 @@ public class QueryValidator {
      * Validates a {@link QuerySpec} whether it conforms to a particular schema (e.g. a Java class) or not
      */
     public Result<Void> validate(QuerySpec query) {
+        var cursorResult = validateCursor(query);
+        if (cursorResult.failed()) {
+            return cursorResult;
+        }
         return query.getFilterExpression().stream()
                 .map(Criterion::getOperandLeft)
                 .map(Object::toString)
@@ -65,6 +77,28 @@ public class QueryValidator {
                 .orElse(Result.success());
     }
 
+    private Result<Void> validateCursor(QuerySpec query) {
+        if (query.getCursor() == null) {
+            return Result.success();
+        }
+        if (!cursorSupported) {
+            return Result.failure("Continuation cursors are not supported for this type");
+        }
+        if (query.getSortField() != null && !isScalarField(query.getSortField())) {
+            return Result.failure(format("Continuation cursors are not supported when sorting by %s, which is not a scalar field of %s",
+                    query.getSortField(), canonicalType.getSimpleName()));
+        }
+        try {
+            var cursor = QueryCursor.decode(query.getCursor());
+            if (query.getSortField() != null && cursor.getSortValue() == null) {
+                return Result.failure(format("The cursor has no value for the sort field %s", query.getSortField()));
+            }
+            return Result.success();
+        } catch (IllegalArgumentException e) {
+            return Result.failure(e.getMessage());
+        }
+    }
+
     /**
      * Decide whether a particular "path" (i.e. a Criterion's left-hand operand) is valid or not. Traverses through the
      * object graph recursively and matches each path token to a {@link Field}. If none is found a failure is returned.
@@ -99,6 +133,19 @@ public class QueryValidator {
         return Result.success();
     }
 
+    /**
+     * Whether the field is a string, number or boolean field of the canonical type, as the value of a cursor is
+     * compared in the same way by the stores only for these.
+     */
+    private boolean isScalarField(String name) {
+        var field = getFieldIncludingSubtypes(canonicalType, name);
+        if (field == null) {
+            return false;
+        }
+        var type = field.getType();
+        return type.isPrimitive() || type == String.class || type == Boolean.class || Number.class.isAssignableFrom(type);
+    }
+
     private Field getFieldIncludingSubtypes(Class<?> type, String token) {
         var field = ReflectionUtil.getFieldRecursive(type, token);
         if (field == null && subtypeMap != null) {
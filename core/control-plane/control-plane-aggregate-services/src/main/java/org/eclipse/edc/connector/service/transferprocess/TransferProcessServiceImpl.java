@@ -65,7 +65,7 @@ public class TransferProcessServiceImpl implements TransferProcessService {
         this.manager = manager;
         this.transactionContext = transactionContext;
         this.dataAddressValidator = dataAddressValidator;
-        queryValidator = new QueryValidator(TransferProcess.class, getSubtypes());
+        queryValidator = new QueryValidator(TransferProcess.class, getSubtypes(), true);
     }
 
     @Override
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.service.query;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.List;
 import java.util.Map;
@@ -111,6 +113,53 @@ class QueryValidatorTest {
         assertThat(result.succeeded()).isTrue();
     }
 
+    @Test
+    void validate_cursor() {
+        queryValidator = new QueryValidator(TestObject.class, null, true);
+        var query = QuerySpec.Builder.newInstance().cursor(QueryCursor.of("value", "id").encode()).build();
+
+        var result = queryValidator.validate(query);
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    void validate_invalidCursor() {
+        queryValidator = new QueryValidator(TestObject.class, null, true);
+        var query = QuerySpec.Builder.newInstance().cursor("invalid cursor").build();
+
+        var result = queryValidator.validate(query);
+        assertThat(result.failed()).isTrue();
+    }
+
+    @Test
+    void validate_cursorWithScalarSortField() {
+        queryValidator = new QueryValidator(TestObject.class, null, true);
+        var query = QuerySpec.Builder.newInstance().sortField("someInteger").cursor(QueryCursor.of(3, "id").encode()).build();
+
+        var result = queryValidator.validate(query);
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "nestedObject", "nestedObject.nestedString", "someMap" })
+    void validate_cursorWithNonScalarSortField(String sortField) {
+        queryValidator = new QueryValidator(TestObject.class, Map.of(TestInterface.class, List.of(NestedTestObject.class)), true);
+        var query = QuerySpec.Builder.newInstance().sortField(sortField).cursor(QueryCursor.of("value", "id").encode()).build();
+
+        var result = queryValidator.validate(query);
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).contains(sortField);
+    }
+
+    @Test
+    void validate_cursorNotSupported() {
+        queryValidator = new QueryValidator(TestObject.class);
+        var query = QuerySpec.Builder.newInstance().cursor(QueryCursor.of("value", "id").encode()).build();
+
+        var result = queryValidator.validate(query);
+        assertThat(result.failed()).isTrue();
+    }
+
     private static class InvalidFilters implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -27,12 +27,19 @@ import org.eclipse.edc.connector.spi.callback.CallbackRegistry;
 import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.asset.DataAddressResolver;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.eclipse.edc.util.concurrency.LockManager;
 
+import java.util.Arrays;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toSet;
 
 /**
  * Provides default service implementations for fallback
@@ -41,6 +48,9 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 public class ControlPlaneDefaultServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Control Plane Default Services";
+
+    @Setting(value = "Comma-separated list of the asset properties indexed by the in-memory asset index, in addition to the id")
+    public static final String ASSET_INDEX_INDEXED_PROPERTIES = "edc.assetindex.memory.indexed-properties";
     private InMemoryAssetIndex assetIndex;
     private InMemoryContractDefinitionStore contractDefinitionStore;
 
@@ -50,13 +60,13 @@ public class ControlPlaneDefaultServicesExtension implements ServiceExtension {
     }
 
     @Provider(isDefault = true)
-    public AssetIndex defaultAssetIndex() {
-        return getAssetIndex();
+    public AssetIndex defaultAssetIndex(ServiceExtensionContext context) {
+        return getAssetIndex(context);
     }
 
     @Provider(isDefault = true)
-    public DataAddressResolver defaultDataAddressResolver() {
-        return getAssetIndex();
+    public DataAddressResolver defaultDataAddressResolver(ServiceExtensionContext context) {
+        return getAssetIndex(context);
     }
 
     @Provider(isDefault = true)
@@ -91,9 +101,13 @@ public class ControlPlaneDefaultServicesExtension implements ServiceExtension {
         return contractDefinitionStore;
     }
 
-    private InMemoryAssetIndex getAssetIndex() {
+    private InMemoryAssetIndex getAssetIndex(ServiceExtensionContext context) {
         if (assetIndex == null) {
-            assetIndex = new InMemoryAssetIndex();
+            var indexedProperties = Stream.concat(
+                    Stream.of(Asset.PROPERTY_ID),
+                    Arrays.stream(context.getSetting(ASSET_INDEX_INDEXED_PROPERTIES, "").split(",")).map(String::trim).filter(property -> !property.isEmpty())
+            ).collect(toSet());
+            assetIndex = new InMemoryAssetIndex(indexedProperties);
         }
         return assetIndex;
     }
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector;
+
+import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates;
+import org.eclipse.edc.connector.retention.EntityArchiver;
+import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Archives the transfer processes and the contract negotiations that reached a final state, see {@link EntityArchiver}.
+ */
+@Extension(value = ControlPlaneRetentionExtension.NAME)
+public class ControlPlaneRetentionExtension implements ServiceExtension {
+
+    public static final String NAME = "Control Plane Retention";
+
+    @Setting(value = "Whether the transfer processes and the contract negotiations in a final state are archived", defaultValue = "false")
+    public static final String RETENTION_ENABLED = "edc.retention.enabled";
+
+    @Setting(value = "Days after their last state transition after which the completed, terminated and deprovisioned transfer processes are archived", defaultValue = "30")
+    public static final String RETENTION_TRANSFER_PROCESS_DAYS = "edc.retention.transfer-process.days";
+
+    @Setting(value = "Days after their last state transition after which the finalized and terminated contract negotiations are archived", defaultValue = "30")
+    public static final String RETENTION_CONTRACT_NEGOTIATION_DAYS = "edc.retention.contract-negotiation.days";
+
+    @Setting(value = "Maximum number of entities archived at once", defaultValue = "500")
+    public static final String RETENTION_BATCH_SIZE = "edc.retention.batch.size";
+
+    @Setting(value = "Milliseconds between two batches, while there are entities to archive", defaultValue = "1000")
+    public static final String RETENTION_BATCH_PAUSE = "edc.retention.batch.pause";
+
+    @Setting(value = "Seconds between two archival runs", defaultValue = "3600")
+    public static final String RETENTION_PERIOD = "edc.retention.period";
+
+    @Inject
+    private TransferProcessStore transferProcessStore;
+
+    @Inject
+    private ContractNegotiationStore contractNegotiationStore;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private Monitor monitor;
+
+    private EntityArchiver archiver;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (!context.getSetting(RETENTION_ENABLED, false)) {
+            return;
+        }
+
+        var executor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "Entity archiver");
+        archiver = new EntityArchiver(executor, clock, monitor,
+                context.getSetting(RETENTION_BATCH_SIZE, 500),
+                Duration.ofMillis(context.getSetting(RETENTION_BATCH_PAUSE, 1000L)),
+                Duration.ofSeconds(context.getSetting(RETENTION_PERIOD, 3600L)));
+
+        archiver.register("transfer processes", transferProcessStore,
+                Duration.ofDays(context.getSetting(RETENTION_TRANSFER_PROCESS_DAYS, 30L)),
+                TransferProcessStates.COMPLETED.code(), TransferProcessStates.TERMINATED.code(), TransferProcessStates.DEPROVISIONED.code());
+        archiver.register("contract negotiations", contractNegotiationStore,
+                Duration.ofDays(context.getSetting(RETENTION_CONTRACT_NEGOTIATION_DAYS, 30L)),
+                ContractNegotiationStates.FINALIZED.code(), ContractNegotiationStates.TERMINATED.code());
+    }
+
+    @Override
+    public void start() {
+        if (archiver != null) {
+            archiver.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (archiver != null) {
+            archiver.stop();
+        }
+    }
+}
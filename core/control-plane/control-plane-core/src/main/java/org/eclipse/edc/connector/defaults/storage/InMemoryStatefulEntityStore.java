@@ -28,6 +28,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -42,15 +43,17 @@ import static java.util.stream.Collectors.toList;
 public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> {
     private static final long DEFAULT_LEASE_TIME_MILLIS = 60_000;
     private final Map<String, T> entitiesById = new ConcurrentHashMap<>();
+    private final Map<String, T> archivedById = new ConcurrentHashMap<>();
     private final QueryResolver<T> queryResolver;
     private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
     private final String lockId;
     private final Clock clock;
     private final Map<String, Lease> leases;
     private final CriterionConverter<Predicate<T>> criterionConverter = new DefaultCriterionToPredicateConverter<>();
+    private final List<Runnable> workAvailableListeners = new CopyOnWriteArrayList<>();
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, Map<String, Lease> leases) {
-        queryResolver = new ReflectionBasedQueryResolver<>(clazz);
+        queryResolver = new ReflectionBasedQueryResolver<>(clazz, "id");
         this.lockId = lockId;
         this.clock = clock;
         this.leases = leases;
@@ -68,6 +71,11 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> {
         acquireLease(entity.getId(), lockId);
         entitiesById.put(entity.getId(), entity.copy());
         freeLease(entity.getId());
+        workAvailableListeners.forEach(Runnable::run);
+    }
+
+    public void registerWorkAvailableListener(Runnable listener) {
+        workAvailableListeners.add(listener);
     }
 
     public void delete(String id) {
@@ -99,6 +107,33 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> {
         return entitiesById.values().stream();
     }
 
+    public int archive(int max, long stateTimestampBefore, Criterion... criteria) {
+        return lockManager.writeLock(() -> {
+            var filterPredicate = Arrays.stream(criteria).map(criterionConverter::convert).reduce(x -> true, Predicate::and);
+            var entities = entitiesById.values().stream()
+                    .filter(filterPredicate)
+                    .filter(e -> e.getStateTimestamp() < stateTimestampBefore)
+                    .filter(e -> !isLeased(e.getId()))
+                    .sorted(comparingLong(StatefulEntity::getStateTimestamp))
+                    .limit(max)
+                    .toList();
+            entities.forEach(e -> {
+                entitiesById.remove(e.getId());
+                freeLease(e.getId());
+                archivedById.put(e.getId(), e);
+            });
+            return entities.size();
+        });
+    }
+
+    public Stream<T> findArchived(QuerySpec querySpec) {
+        return queryResolver.query(findArchived(), querySpec);
+    }
+
+    public Stream<T> findArchived() {
+        return archivedById.values().stream();
+    }
+
     private void freeLease(String id) {
         leases.remove(id);
     }
@@ -112,10 +147,12 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> {
     }
 
     private boolean isLeased(String id) {
-        return leases.containsKey(id) && !leases.get(id).isExpired(clock.millis());
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis());
     }
 
     private boolean isLeasedBy(String id, String lockId) {
-        return isLeased(id) && leases.get(id).getLeasedBy().equals(lockId);
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis()) && lease.getLeasedBy().equals(lockId);
     }
 }
@@ -14,11 +14,13 @@
 
 package org.eclipse.edc.connector.defaults.storage;
 
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 
+import java.util.Comparator;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -32,6 +34,7 @@ import static org.eclipse.edc.util.reflection.ReflectionUtil.propertyComparator;
 public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
     private final Class<T> typeParameterClass;
+    private final String idField;
     private final DefaultCriterionToPredicateConverter<T> predicateConverter = new DefaultCriterionToPredicateConverter<T>();
 
     /**
@@ -40,14 +43,26 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
      * @param typeParameterClass class of the type parameter. Used in reflection operation to recursively fetch a property from an object.
      */
     public ReflectionBasedQueryResolver(Class<T> typeParameterClass) {
+        this(typeParameterClass, null);
+    }
+
+    /**
+     * Constructor for StreamQueryResolver with keyset pagination: the results are always ordered by the sort field, if
+     * any, and by the id field, and the continuation cursor of the query selects the elements that follow it.
+     *
+     * @param typeParameterClass class of the type parameter. Used in reflection operation to recursively fetch a property from an object.
+     * @param idField name of the unique field used as tie-breaker, e.g. "id".
+     */
+    public ReflectionBasedQueryResolver(Class<T> typeParameterClass, String idField) {
         this.typeParameterClass = typeParameterClass;
+        this.idField = idField;
     }
 
     /**
      * Method to query a stream by provided specification.
      * Converts the criterion into 'and' predicate.
      * Applies sorting. When sort field is not found returns empty stream.
-     * Applies offset and limit on the query result.
+     * Applies the continuation cursor, offset and limit on the query result.
      *
      * @param stream stream to be queried.
      * @param spec query specification.
@@ -64,12 +79,31 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         // sort
         var sortField = spec.getSortField();
 
-        if (sortField != null) {
-            // if the sort field doesn't exist on the object -> return empty
-            if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
-                return Stream.empty();
+        // if the sort field doesn't exist on the object -> return empty
+        if (sortField != null && ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
+            return Stream.empty();
+        }
+
+        var ascending = spec.getSortOrder() == SortOrder.ASC;
+        if (idField != null) {
+            if (spec.getCursor() != null) {
+                var cursor = QueryCursor.decode(spec.getCursor());
+                if (sortField != null && cursor.getSortValue() == null) {
+                    throw new IllegalArgumentException("The cursor has no value for the sort field " + sortField);
+                }
+                filteredStream = filteredStream.filter(element -> {
+                    var comparison = compareToCursor(element, sortField, cursor);
+                    return ascending ? comparison > 0 : comparison < 0;
+                });
             }
-            var comparator = propertyComparator(spec.getSortOrder() == SortOrder.ASC, sortField);
+            Comparator<T> byId = Comparator.comparing(this::idOf);
+            byId = ascending ? byId : byId.reversed();
+            var comparator = sortField == null ? byId : ReflectionUtil.<T>propertyComparator(ascending, sortField).thenComparing(byId);
+            filteredStream = filteredStream.sorted(comparator);
+        } else if (spec.getCursor() != null) {
+            throw new IllegalArgumentException("Continuation cursors are not supported by this query resolver");
+        } else if (sortField != null) {
+            var comparator = propertyComparator(ascending, sortField);
             filteredStream = filteredStream.sorted(comparator);
         }
 
@@ -77,4 +111,34 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         return filteredStream.skip(spec.getOffset()).limit(spec.getLimit());
     }
 
+    private int compareToCursor(T element, String sortField, QueryCursor cursor) {
+        if (sortField != null) {
+            var result = compareValues(ReflectionUtil.getFieldValueSilent(sortField, element), cursor.getSortValue());
+            if (result != 0) {
+                return result;
+            }
+        }
+        return idOf(element).compareTo(cursor.getId());
+    }
+
+    private String idOf(T element) {
+        return String.valueOf((Object) ReflectionUtil.getFieldValueSilent(idField, element));
+    }
+
+    /**
+     * Compares a field value with the one of the cursor, in which numbers are decoded as long or double.
+     */
+    private static int compareValues(Object value, Object cursorValue) {
+        if (value instanceof Number number && cursorValue instanceof Number cursorNumber) {
+            if (number instanceof Double || number instanceof Float || cursorNumber instanceof Double) {
+                return Double.compare(number.doubleValue(), cursorNumber.doubleValue());
+            }
+            return Long.compare(number.longValue(), cursorNumber.longValue());
+        }
+        if (value instanceof Boolean bool && cursorValue instanceof Boolean cursorBool) {
+            return bool.compareTo(cursorBool);
+        }
+        return String.valueOf(value).compareTo(String.valueOf(cursorValue));
+    }
+
 }
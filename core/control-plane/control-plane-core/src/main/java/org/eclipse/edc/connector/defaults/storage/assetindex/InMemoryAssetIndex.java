@@ -9,6 +9,7 @@
  *
  *  Contributors:
  *       Microsoft Corporation - initial API and implementation
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - secondary indexes
  *
  */
 
@@ -24,65 +25,67 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 
 /**
- * An ephemeral asset index, that is also a DataAddressResolver
+ * An ephemeral asset index, that is also a DataAddressResolver.
+ * <p>
+ * Besides the lookup by id, it maintains a hash index for every one of the configured properties: queries that contain
+ * an "=" or an "in" criterion on an indexed property only evaluate the assets found in the index for the most selective
+ * of these criteria, instead of scanning the whole index. Reads don't acquire any lock, writes are serialized.
  */
 public class InMemoryAssetIndex implements AssetIndex {
     private final Map<String, Asset> cache = new ConcurrentHashMap<>();
     private final Map<String, DataAddress> dataAddresses = new ConcurrentHashMap<>();
+    private final Map<String, Map<Object, Set<String>>> propertyIndexes = new ConcurrentHashMap<>();
     private final AssetPredicateConverter predicateConverter = new AssetPredicateConverter();
-    private final ReentrantReadWriteLock lock;
+    private final ReentrantLock writeLock = new ReentrantLock();
 
     public InMemoryAssetIndex() {
-        // fair locks guarantee strong consistency since all waiting threads are processed in order of waiting time
-        lock = new ReentrantReadWriteLock(true);
+        this(Set.of(Asset.PROPERTY_ID));
+    }
+
+    /**
+     * Creates an index that maintains a hash index for every one of the passed properties.
+     *
+     * @param indexedProperties the names of the properties (public or private) to index.
+     */
+    public InMemoryAssetIndex(Collection<String> indexedProperties) {
+        indexedProperties.forEach(property -> propertyIndexes.put(property, new ConcurrentHashMap<>()));
     }
 
     @Override
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
-        lock.readLock().lock();
-        try {
-            var comparator = querySpec.getSortField() == null
-                    ? (Comparator<Asset>) (o1, o2) -> 0
-                    : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
+        var comparator = querySpec.getSortField() == null
+                ? (Comparator<Asset>) (o1, o2) -> 0
+                : new AssetComparator(querySpec.getSortField(), querySpec.getSortOrder());
 
-            return filterBy(querySpec.getFilterExpression())
-                    .sorted(comparator)
-                    .skip(querySpec.getOffset()).limit(querySpec.getLimit());
-
-        } finally {
-            lock.readLock().unlock();
-        }
+        return filterBy(querySpec.getFilterExpression())
+                .sorted(comparator)
+                .skip(querySpec.getOffset()).limit(querySpec.getLimit());
     }
 
     @Override
     public Asset findById(String assetId) {
-        lock.readLock().lock();
-        try {
-            return cache.values().stream()
-                    .filter(asset -> asset.getId().equals(assetId))
-                    .findFirst()
-                    .orElse(null);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return assetId == null ? null : cache.get(assetId);
     }
 
     @Override
     public StoreResult<Void> create(Asset asset) {
-        lock.writeLock().lock();
+        writeLock.lock();
         try {
             if (asset.hasDuplicatePropertyKeys()) {
                 var msg = format(DUPLICATE_PROPERTY_KEYS_TEMPLATE);
@@ -95,20 +98,20 @@ public class InMemoryAssetIndex implements AssetIndex {
             }
             add(asset, asset.getDataAddress());
         } finally {
-            lock.writeLock().unlock();
+            writeLock.unlock();
         }
         return StoreResult.success();
     }
 
     @Override
     public StoreResult<Asset> deleteById(String assetId) {
-        lock.writeLock().lock();
+        writeLock.lock();
         try {
             return Optional.ofNullable(delete(assetId))
                     .map(StoreResult::success)
                     .orElse(StoreResult.notFound(format(ASSET_NOT_FOUND_TEMPLATE, assetId)));
         } finally {
-            lock.writeLock().unlock();
+            writeLock.unlock();
         }
     }
 
@@ -119,24 +122,28 @@ public class InMemoryAssetIndex implements AssetIndex {
 
     @Override
     public StoreResult<Asset> updateAsset(Asset asset) {
-        lock.writeLock().lock();
+        writeLock.lock();
         try {
             var id = asset.getId();
             Objects.requireNonNull(asset, "asset");
             Objects.requireNonNull(id, "assetId");
-            if (cache.containsKey(id)) {
+            var existing = cache.get(id);
+            if (existing != null) {
+                // index the new values before removing the old ones, so that concurrent queries never miss the asset
+                index(asset);
                 cache.put(id, asset);
+                unindex(existing, asset);
                 return StoreResult.success(asset);
             }
             return StoreResult.notFound(format(ASSET_NOT_FOUND_TEMPLATE, id));
         } finally {
-            lock.writeLock().unlock();
+            writeLock.unlock();
         }
     }
 
     @Override
     public StoreResult<DataAddress> updateDataAddress(String assetId, DataAddress dataAddress) {
-        lock.writeLock().lock();
+        writeLock.lock();
         try {
             Objects.requireNonNull(dataAddress, "dataAddress");
             Objects.requireNonNull(assetId, "asset.getId()");
@@ -146,19 +153,14 @@ public class InMemoryAssetIndex implements AssetIndex {
             }
             return StoreResult.notFound(format(DATA_ADDRESS_NOT_FOUND_TEMPLATE, assetId));
         } finally {
-            lock.writeLock().unlock();
+            writeLock.unlock();
         }
     }
 
     @Override
     public DataAddress resolveForAsset(String assetId) {
         Objects.requireNonNull(assetId, "assetId");
-        lock.readLock().lock();
-        try {
-            return dataAddresses.get(assetId);
-        } finally {
-            lock.readLock().unlock();
-        }
+        return dataAddresses.get(assetId);
     }
 
     private Stream<Asset> filterBy(List<Criterion> criteria) {
@@ -166,13 +168,58 @@ public class InMemoryAssetIndex implements AssetIndex {
                 .map(predicateConverter::convert)
                 .reduce(x -> true, Predicate::and);
 
-        return cache.values().stream()
+        var candidates = criteria.stream()
+                .map(this::lookup)
+                .filter(Objects::nonNull)
+                .min(Comparator.comparingInt(Set::size));
+
+        return candidates
+                .map(ids -> ids.stream().map(cache::get).filter(Objects::nonNull))
+                .orElseGet(() -> cache.values().stream())
                 .filter(predicate);
     }
 
+    /**
+     * Returns the ids of the assets that could satisfy the criterion according to the property indexes, or null if the
+     * criterion cannot be resolved through them. The returned ids are a superset of the matching ones, the criterion
+     * still needs to be evaluated on the assets.
+     */
+    @Nullable
+    private Set<String> lookup(Criterion criterion) {
+        if (!(criterion.getOperandLeft() instanceof String property)) {
+            return null;
+        }
+        var index = propertyIndexes.get(property);
+        if (index == null) {
+            return null;
+        }
+        switch (criterion.getOperator().toLowerCase()) {
+            case "=":
+                return indexed(index, criterion.getOperandRight());
+            case "in":
+                if (criterion.getOperandRight() instanceof Iterable<?> values) {
+                    var ids = new LinkedHashSet<String>();
+                    values.forEach(value -> ids.addAll(indexed(index, value)));
+                    return ids;
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private Set<String> indexed(Map<Object, Set<String>> index, Object value) {
+        var key = indexKey(value);
+        return key == null ? Set.of() : index.getOrDefault(key, Set.of());
+    }
+
     private Asset delete(String assetId) {
         dataAddresses.remove(assetId);
-        return cache.remove(assetId);
+        var removed = cache.remove(assetId);
+        if (removed != null) {
+            unindex(removed, null);
+        }
+        return removed;
     }
 
     /**
@@ -184,6 +231,39 @@ public class InMemoryAssetIndex implements AssetIndex {
         Objects.requireNonNull(id, "asset.getId()");
         cache.put(id, asset);
         dataAddresses.put(id, address);
+        index(asset);
+    }
+
+    private void index(Asset asset) {
+        propertyIndexes.forEach((property, index) -> {
+            var key = indexKey(predicateConverter.property(property, asset));
+            if (key != null) {
+                index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(asset.getId());
+            }
+        });
+    }
+
+    /**
+     * Removes the entries of the old asset from the property indexes, except the ones still valid for the replacement.
+     */
+    private void unindex(Asset old, @Nullable Asset replacement) {
+        propertyIndexes.forEach((property, index) -> {
+            var key = indexKey(predicateConverter.property(property, old));
+            if (key == null || replacement != null && key.equals(indexKey(predicateConverter.property(property, replacement)))) {
+                return;
+            }
+            index.computeIfPresent(key, (k, ids) -> {
+                ids.remove(old.getId());
+                return ids.isEmpty() ? null : ids;
+            });
+        });
+    }
+
+    /**
+     * Enum values are indexed by name, since the "=" criterion matches them against their name as well.
+     */
+    private Object indexKey(Object value) {
+        return value instanceof Enum<?> enumValue ? enumValue.name() : value;
     }
 
     private record AssetComparator(String sortField, SortOrder sortOrder) implements Comparator<Asset> {
@@ -28,11 +28,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -42,12 +42,12 @@ import static java.lang.String.format;
  */
 public class InMemoryContractNegotiationStore implements ContractNegotiationStore {
 
-    private final QueryResolver<ContractNegotiation> negotiationQueryResolver = new ReflectionBasedQueryResolver<>(ContractNegotiation.class);
+    private final QueryResolver<ContractNegotiation> negotiationQueryResolver = new ReflectionBasedQueryResolver<>(ContractNegotiation.class, "id");
     private final QueryResolver<ContractAgreement> agreementQueryResolver = new ReflectionBasedQueryResolver<>(ContractAgreement.class);
     private final InMemoryStatefulEntityStore<ContractNegotiation> store;
 
     public InMemoryContractNegotiationStore() {
-        this(UUID.randomUUID().toString(), Clock.systemUTC(), new HashMap<>());
+        this(UUID.randomUUID().toString(), Clock.systemUTC(), new ConcurrentHashMap<>());
     }
 
     public InMemoryContractNegotiationStore(String leaseHolder, Clock clock, Map<String, Lease> leases) {
@@ -66,9 +66,7 @@ public class InMemoryContractNegotiationStore implements ContractNegotiationStor
 
     @Override
     public @Nullable ContractAgreement findContractAgreement(String contractId) {
-        return store.findAll()
-                .map(ContractNegotiation::getContractAgreement)
-                .filter(Objects::nonNull)
+        return getAgreements()
                 .filter(a -> Objects.equals(contractId, a.getId()))
                 .findFirst()
                 .orElse(null);
@@ -104,9 +102,27 @@ public class InMemoryContractNegotiationStore implements ContractNegotiationStor
         return store.leaseAndGet(max, criteria);
     }
 
+    @Override
+    public void registerWorkAvailableListener(Runnable listener) {
+        store.registerWorkAvailableListener(listener);
+    }
+
+    @Override
+    public int archive(int max, long stateTimestampBefore, Criterion... criteria) {
+        return store.archive(max, stateTimestampBefore, criteria);
+    }
+
+    @Override
+    public @NotNull Stream<ContractNegotiation> findArchived(QuerySpec querySpec) {
+        return store.findArchived(querySpec);
+    }
+
+    /**
+     * Returns the agreements of the archived negotiations too, as they are still in force.
+     */
     @NotNull
     private Stream<ContractAgreement> getAgreements() {
-        return store.findAll()
+        return Stream.concat(store.findAll(), store.findArchived())
                 .map(ContractNegotiation::getContractAgreement)
                 .filter(Objects::nonNull);
     }
@@ -24,10 +24,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import static org.eclipse.edc.spi.query.Criterion.criterion;
@@ -40,7 +40,7 @@ public class InMemoryTransferProcessStore implements TransferProcessStore {
     private final InMemoryStatefulEntityStore<TransferProcess> store;
 
     public InMemoryTransferProcessStore() {
-        this(UUID.randomUUID().toString(), Clock.systemUTC(), new HashMap<>());
+        this(UUID.randomUUID().toString(), Clock.systemUTC(), new ConcurrentHashMap<>());
     }
 
     public InMemoryTransferProcessStore(String leaserId, Clock clock, Map<String, Lease> leases) {
@@ -80,4 +80,19 @@ public class InMemoryTransferProcessStore implements TransferProcessStore {
         return store.leaseAndGet(max, criteria);
     }
 
+    @Override
+    public void registerWorkAvailableListener(Runnable listener) {
+        store.registerWorkAvailableListener(listener);
+    }
+
+    @Override
+    public int archive(int max, long stateTimestampBefore, Criterion... criteria) {
+        return store.archive(max, stateTimestampBefore, criteria);
+    }
+
+    @Override
+    public @NotNull Stream<TransferProcess> findArchived(QuerySpec querySpec) {
+        return store.findArchived(querySpec);
+    }
+
 }
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.retention;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.query.Criterion;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Moves the entities of {@link StateEntityStore}s that reached a final state into the archive of their store, once
+ * their last state transition is older than the retention period of the store.
+ * <p>
+ * The stores are archived in batches, with a pause between two batches to limit the load on the store. Once there's
+ * nothing left to archive, the next run starts after the configured period.
+ */
+public class EntityArchiver {
+
+    private final ScheduledExecutorService executor;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final Duration period;
+    private final List<Target> targets = new CopyOnWriteArrayList<>();
+    private final AtomicLong archived = new AtomicLong();
+
+    public EntityArchiver(ScheduledExecutorService executor, Clock clock, Monitor monitor, int batchSize, Duration batchPause, Duration period) {
+        this.executor = executor;
+        this.clock = clock;
+        this.monitor = monitor;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.period = period;
+    }
+
+    /**
+     * Registers a store to be archived.
+     *
+     * @param name      the name of the entities, used in the logs.
+     * @param store     the store.
+     * @param retention the time after its last state transition after which an entity is archived.
+     * @param states    the final states of the entities.
+     */
+    public void register(String name, StateEntityStore<?> store, Duration retention, int... states) {
+        var stateCodes = Arrays.stream(states).boxed().collect(toList());
+        targets.add(new Target(name, store, retention, new Criterion("state", "in", stateCodes)));
+    }
+
+    public void start() {
+        schedule(Duration.ZERO);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Archives a batch of entities of every store.
+     *
+     * @return true if a store could have more entities to archive.
+     */
+    public boolean archiveBatch() {
+        var more = false;
+        for (var target : targets) {
+            try {
+                var before = clock.millis() - target.retention().toMillis();
+                var count = target.store().archive(batchSize, before, target.criterion());
+                if (count > 0) {
+                    archived.addAndGet(count);
+                    monitor.debug(() -> format("Archived %d %s", count, target.name()));
+                }
+                more |= count >= batchSize;
+            } catch (Exception e) {
+                monitor.severe(format("Failed to archive %s", target.name()), e);
+            }
+        }
+        return more;
+    }
+
+    /**
+     * Returns the number of entities archived since the start.
+     */
+    public long getArchivedCount() {
+        return archived.get();
+    }
+
+    private void run() {
+        var more = archiveBatch();
+        schedule(more ? batchPause : period);
+    }
+
+    private void schedule(Duration delay) {
+        try {
+            executor.schedule(this::run, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // stopped
+        }
+    }
+
+    private record Target(String name, StateEntityStore<?> store, Duration retention, Criterion criterion) {
+    }
+}
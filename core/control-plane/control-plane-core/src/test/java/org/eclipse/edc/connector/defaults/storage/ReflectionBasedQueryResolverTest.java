@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.defaults.storage;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -115,6 +116,36 @@ class ReflectionBasedQueryResolverTest {
                 .hasMessage("Operator [GREATER_THAN] is not supported by this converter!");
     }
 
+    @Test
+    void verifyQuery_keysetShouldContinueAfterCursor() {
+        var keysetResolver = new ReflectionBasedQueryResolver<>(FakeItem.class, "id");
+        var items = List.of(new FakeItem(3, "Bob"), new FakeItem(1, "Alice"), new FakeItem(2, "Bob"), new FakeItem(4, "Alice"));
+
+        var firstPage = QuerySpec.Builder.newInstance().sortField("name").limit(2).build();
+        assertThat(keysetResolver.query(items.stream(), firstPage)).extracting(FakeItem::getId).containsExactly(1, 4);
+
+        var cursor = QueryCursor.of("Alice", "4").encode();
+        var nextPage = QuerySpec.Builder.newInstance().sortField("name").limit(2).cursor(cursor).build();
+        assertThat(keysetResolver.query(items.stream(), nextPage)).extracting(FakeItem::getId).containsExactly(2, 3);
+    }
+
+    @Test
+    void verifyQuery_keysetShouldContinueAfterCursor_whenSortIsDescending() {
+        var keysetResolver = new ReflectionBasedQueryResolver<>(FakeItem.class, "id");
+        var stream = IntStream.range(0, 10).mapToObj(FakeItem::new);
+
+        var spec = QuerySpec.Builder.newInstance().sortField("id").sortOrder(SortOrder.DESC).limit(3).cursor(QueryCursor.of(7, "7").encode()).build();
+        assertThat(keysetResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(6, 5, 4);
+    }
+
+    @Test
+    void verifyExceptionThrown_cursorWithoutKeyset() {
+        var stream = IntStream.range(0, 10).mapToObj(FakeItem::new);
+
+        var spec = QuerySpec.Builder.newInstance().cursor(QueryCursor.of(null, "1").encode()).build();
+        assertThatThrownBy(() -> queryResolver.query(stream, spec)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     private static class FakeItem {
         private int id;
         private String name;
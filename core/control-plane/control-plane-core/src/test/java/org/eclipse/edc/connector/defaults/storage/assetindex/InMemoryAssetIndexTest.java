@@ -16,19 +16,56 @@ package org.eclipse.edc.connector.defaults.storage.assetindex;
 
 
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.testfixtures.asset.AssetIndexTestBase;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class InMemoryAssetIndexTest extends AssetIndexTestBase {
 
     private InMemoryAssetIndex index;
 
     @BeforeEach
     void setUp() {
-        index = new InMemoryAssetIndex();
+        index = new InMemoryAssetIndex(List.of(Asset.PROPERTY_ID, Asset.PROPERTY_NAME, "version", "pKey"));
+    }
+
+    @Test
+    void queryAssets_shouldReflectUpdatedIndexedProperty() {
+        index.create(createAsset("old-name", "id1"));
+
+        index.updateAsset(createAsset("new-name", "id1"));
+
+        assertThat(index.queryAssets(filter(new Criterion(Asset.PROPERTY_NAME, "=", "old-name")))).isEmpty();
+        assertThat(index.queryAssets(filter(new Criterion(Asset.PROPERTY_NAME, "=", "new-name")))).hasSize(1);
+    }
+
+    @Test
+    void queryAssets_shouldNotReturnDeletedAsset() {
+        index.create(createAsset("name", "id1"));
+        index.create(createAsset("name", "id2"));
+
+        index.deleteById("id1");
+
+        assertThat(index.queryAssets(filter(new Criterion(Asset.PROPERTY_NAME, "in", List.of("name", "other")))))
+                .extracting(Asset::getId).containsExactly("id2");
+    }
+
+    @Test
+    void countAssets_shouldCombineIndexedAndNotIndexedCriteria() {
+        index.create(createAssetBuilder("id1").name("name").property("notIndexed", "a").build());
+        index.create(createAssetBuilder("id2").name("name").property("notIndexed", "b").build());
+
+        var count = index.countAssets(List.of(new Criterion(Asset.PROPERTY_NAME, "=", "name"), new Criterion("notIndexed", "=", "b")));
+
+        assertThat(count).isEqualTo(1);
     }
 
     @Override
@@ -41,4 +78,8 @@ class InMemoryAssetIndexTest extends AssetIndexTestBase {
         return index;
     }
 
+    private QuerySpec filter(Criterion criterion) {
+        return QuerySpec.Builder.newInstance().filter(criterion).build();
+    }
+
 }
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.retention;
+
+import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EntityArchiverTest {
+
+    private final TransferProcessStore store = mock(TransferProcessStore.class);
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(100_000), ZoneOffset.UTC);
+    private final EntityArchiver archiver = new EntityArchiver(mock(ScheduledExecutorService.class), clock, mock(Monitor.class),
+            10, Duration.ofMillis(1), Duration.ofMinutes(1));
+
+    @Test
+    void archiveBatch_shouldArchiveFinalStatesBeforeRetention() {
+        archiver.register("transfer processes", store, Duration.ofSeconds(60), 800, 850);
+        when(store.archive(anyInt(), anyLong(), any())).thenReturn(3);
+
+        var more = archiver.archiveBatch();
+
+        assertThat(more).isFalse();
+        assertThat(archiver.getArchivedCount()).isEqualTo(3);
+        verify(store).archive(10, 40_000, new Criterion("state", "in", List.of(800, 850)));
+    }
+
+    @Test
+    void archiveBatch_shouldReportMore_whenBatchIsFull() {
+        archiver.register("transfer processes", store, Duration.ofSeconds(60), 800);
+        when(store.archive(anyInt(), anyLong(), any())).thenReturn(10);
+
+        assertThat(archiver.archiveBatch()).isTrue();
+    }
+
+    @Test
+    void archiveBatch_shouldContinue_whenStoreFails() {
+        var other = mock(TransferProcessStore.class);
+        archiver.register("failing", store, Duration.ofSeconds(60), 800);
+        archiver.register("other", other, Duration.ofSeconds(60), 800);
+        when(store.archive(anyInt(), anyLong(), any())).thenThrow(new RuntimeException("error"));
+        when(other.archive(anyInt(), anyLong(), any())).thenReturn(1);
+
+        archiver.archiveBatch();
+
+        assertThat(archiver.getArchivedCount()).isEqualTo(1);
+    }
+}
@@ -55,6 +55,7 @@ import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -65,6 +66,7 @@ import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 /**
  * Provides core data transfer services to the system.
@@ -82,6 +84,7 @@ public class TransferCoreExtension implements ServiceExtension {
     public static final int DEFAULT_BATCH_SIZE = 20;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
+    public static final int DEFAULT_STATE_MACHINE_WORKERS = 0;
 
     @Setting(value = "the iteration wait time in milliseconds in the transfer process state machine. Default value " + DEFAULT_ITERATION_WAIT, type = "long")
     private static final String TRANSFER_STATE_MACHINE_ITERATION_WAIT_MILLIS = "edc.transfer.state-machine.iteration-wait-millis";
@@ -89,6 +92,10 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
 
+    @Setting(value = "the number of workers that process the entities of every state of the transfer process state machine concurrently. " +
+            "With 0, all the states are processed sequentially on a single thread", type = "int", defaultValue = DEFAULT_STATE_MACHINE_WORKERS + "")
+    private static final String TRANSFER_STATE_MACHINE_WORKERS = "edc.transfer.state-machine.workers";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the transfer with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
 
@@ -160,7 +167,14 @@ public class TransferCoreExtension implements ServiceExtension {
         context.registerService(ProvisionManager.class, provisionManager);
 
         var iterationWaitMillis = context.getSetting(TRANSFER_STATE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
-        var waitStrategy = context.hasService(TransferWaitStrategy.class) ? context.getService(TransferWaitStrategy.class) : new ExponentialWaitStrategy(iterationWaitMillis);
+        // every state machine loop gets its own exponential wait strategy, as it counts the errors of the loop
+        Supplier<WaitStrategy> waitStrategySupplier;
+        if (context.hasService(TransferWaitStrategy.class)) {
+            var waitStrategy = context.getService(TransferWaitStrategy.class);
+            waitStrategySupplier = () -> waitStrategy;
+        } else {
+            waitStrategySupplier = () -> new ExponentialWaitStrategy(iterationWaitMillis);
+        }
 
         typeTransformerRegistry.register(new DataAddressToEndpointDataReferenceTransformer());
 
@@ -182,7 +196,7 @@ public class TransferCoreExtension implements ServiceExtension {
         var entityRetryProcessConfiguration = new EntityRetryProcessConfiguration(retryLimit, () -> new ExponentialWaitStrategy(retryBaseDelay));
 
         processManager = TransferProcessManagerImpl.Builder.newInstance()
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategySupplier)
                 .manifestGenerator(manifestGenerator)
                 .dataFlowManager(dataFlowManager)
                 .provisionManager(provisionManager)
@@ -200,6 +214,7 @@ public class TransferCoreExtension implements ServiceExtension {
                 .transferProcessStore(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .stateMachineWorkers(context.getSetting(TRANSFER_STATE_MACHINE_WORKERS, DEFAULT_STATE_MACHINE_WORKERS))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhook(protocolWebhook)
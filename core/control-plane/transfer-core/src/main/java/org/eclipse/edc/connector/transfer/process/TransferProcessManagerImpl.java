@@ -71,6 +71,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -80,6 +81,7 @@ import static org.eclipse.edc.connector.transfer.TransferCoreExtension.DEFAULT_B
 import static org.eclipse.edc.connector.transfer.TransferCoreExtension.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.transfer.TransferCoreExtension.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.transfer.TransferCoreExtension.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.connector.transfer.TransferCoreExtension.DEFAULT_STATE_MACHINE_WORKERS;
 import static org.eclipse.edc.connector.transfer.spi.types.TransferProcess.Type.CONSUMER;
 import static org.eclipse.edc.connector.transfer.spi.types.TransferProcess.Type.PROVIDER;
 import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.COMPLETING;
@@ -119,7 +121,8 @@ import static org.eclipse.edc.spi.types.domain.DataAddress.EDC_DATA_ADDRESS_SECR
  */
 public class TransferProcessManagerImpl implements TransferProcessManager, ProvisionCallbackDelegate {
     private int batchSize = DEFAULT_BATCH_SIZE;
-    private WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
+    private int stateMachineWorkers = DEFAULT_STATE_MACHINE_WORKERS;
+    private Supplier<WaitStrategy> waitStrategySupplier = () -> () -> DEFAULT_ITERATION_WAIT;
     private ResourceManifestGenerator manifestGenerator;
     private ProvisionManager provisionManager;
     private TransferProcessStore transferProcessStore;
@@ -148,18 +151,19 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
 
     public void start() {
         entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
-        stateMachineManager = StateMachineManager.Builder.newInstance("transfer-process", monitor, executorInstrumentation, waitStrategy)
-                .processor(processTransfersInState(INITIAL, this::processInitial))
-                .processor(processTransfersInState(PROVISIONING, this::processProvisioning))
-                .processor(processTransfersInState(PROVISIONED, this::processProvisioned))
-                .processor(processTransfersInState(REQUESTING, this::processRequesting))
-                .processor(processTransfersInState(STARTING, this::processStarting))
-                .processor(processTransfersInState(STARTED, this::processStarted))
-                .processor(processTransfersInState(COMPLETING, this::processCompleting))
-                .processor(processTransfersInState(TERMINATING, this::processTerminating))
-                .processor(processTransfersInState(DEPROVISIONING, this::processDeprovisioning))
+        stateMachineManager = StateMachineManager.Builder.newInstance("transfer-process", monitor, executorInstrumentation, waitStrategySupplier)
+                .processor(INITIAL.name(), processTransfersInState(INITIAL, this::processInitial), stateMachineWorkers)
+                .processor(PROVISIONING.name(), processTransfersInState(PROVISIONING, this::processProvisioning), stateMachineWorkers)
+                .processor(PROVISIONED.name(), processTransfersInState(PROVISIONED, this::processProvisioned), stateMachineWorkers)
+                .processor(REQUESTING.name(), processTransfersInState(REQUESTING, this::processRequesting), stateMachineWorkers)
+                .processor(STARTING.name(), processTransfersInState(STARTING, this::processStarting), stateMachineWorkers)
+                .processor(STARTED.name(), processTransfersInState(STARTED, this::processStarted), stateMachineWorkers)
+                .processor(COMPLETING.name(), processTransfersInState(COMPLETING, this::processCompleting), stateMachineWorkers)
+                .processor(TERMINATING.name(), processTransfersInState(TERMINATING, this::processTerminating), stateMachineWorkers)
+                .processor(DEPROVISIONING.name(), processTransfersInState(DEPROVISIONING, this::processDeprovisioning), stateMachineWorkers)
                 .processor(onCommands(this::processCommand))
                 .build();
+        transferProcessStore.registerWorkAvailableListener(stateMachineManager::wakeUp);
         stateMachineManager.start();
     }
 
@@ -842,8 +846,21 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             return this;
         }
 
+        public Builder stateMachineWorkers(int stateMachineWorkers) {
+            manager.stateMachineWorkers = stateMachineWorkers;
+            return this;
+        }
+
         public Builder waitStrategy(WaitStrategy waitStrategy) {
-            manager.waitStrategy = waitStrategy;
+            manager.waitStrategySupplier = () -> waitStrategy;
+            return this;
+        }
+
+        /**
+         * Supplies a wait strategy for every loop of the state machine, needed for strategies that hold state.
+         */
+        public Builder waitStrategySupplier(Supplier<WaitStrategy> waitStrategySupplier) {
+            manager.waitStrategySupplier = waitStrategySupplier;
             return this;
         }
 
@@ -32,6 +32,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
@@ -58,6 +59,8 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Setting
     private static final String WAIT_TIMEOUT = "edc.dataplane.wait";
     private static final long DEFAULT_WAIT_TIMEOUT = 1000;
+    @Setting(value = "Maximum number of transfers that can run concurrently on every transfer service, unbounded if not set")
+    private static final String MAX_CONCURRENT_TRANSFERS = "edc.dataplane.transfer.max-concurrent";
     @Setting
     private static final String TRANSFER_THREADS = "edc.dataplane.transfer.threads";
     private static final int DEFAULT_TRANSFER_THREADS = 10;
@@ -75,6 +78,9 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private MetricsInstrumentation metricsInstrumentation;
+
     @Inject
     private Telemetry telemetry;
 
@@ -104,13 +110,17 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         var queueCapacity = context.getSetting(QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY);
         var workers = context.getSetting(WORKERS, DEFAULT_WORKERS);
         var waitTimeout = context.getSetting(WAIT_TIMEOUT, DEFAULT_WAIT_TIMEOUT);
+        var maxConcurrentTransfers = context.getSetting(MAX_CONCURRENT_TRANSFERS, Integer.MAX_VALUE);
 
-        monitor.debug(() -> format("Initializing DataPlaneManager with queueCapacity=%s, workers=%s, waitTimeout=%s, numThreads=%s", queueCapacity, workers, waitTimeout, numThreads));
+        monitor.debug(() -> format("Initializing DataPlaneManager with queueCapacity=%s, workers=%s, waitTimeout=%s, maxConcurrentTransfers=%s, numThreads=%s",
+                queueCapacity, workers, waitTimeout, maxConcurrentTransfers, numThreads));
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
                 .queueCapacity(queueCapacity)
                 .executorInstrumentation(executorInstrumentation)
+                .metricsInstrumentation(metricsInstrumentation)
                 .workers(workers)
                 .waitTimeout(waitTimeout)
+                .maxConcurrentTransfers(maxConcurrentTransfers)
                 .pipelineService(pipelineService)
                 .transferServiceRegistry(transferServiceRegistry)
                 .store(registerStore(context))
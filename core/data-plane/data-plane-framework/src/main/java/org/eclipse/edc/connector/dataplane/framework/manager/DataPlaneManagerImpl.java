@@ -20,42 +20,65 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore.State;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.ResponseStatus;
+import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.toMap;
 
 /**
  * Default data manager implementation.
  * <p>
- * This implementation uses a simple bounded queue to support backpressure when the system is overloaded. This should support sufficient performance since data transfers
- * generally do not require low-latency. If low-latency operation becomes a requirement, a concurrent queuing mechanism can be used.
+ * Requests are queued in a lane per {@link TransferService}, every lane is bounded: when it is full, the request gets
+ * rejected with a {@link ResponseStatus#ERROR_RETRY} failure, so the caller can retry later. The workers pick requests
+ * from the lanes in round-robin, so a burst of requests for a transfer service does not starve the others, and every
+ * lane limits the number of transfers that can run concurrently on its transfer service.
  */
 public class DataPlaneManagerImpl implements DataPlaneManager {
     private final AtomicBoolean active = new AtomicBoolean();
+    private final Map<TransferService, Lane> lanes = new ConcurrentHashMap<>();
+    private final List<Lane> laneOrder = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextLane = new AtomicInteger();
+    private final Semaphore queued = new Semaphore(0);
+    private final Object dispatchable = new Object();
     private int queueCapacity = 10000;
     private int workers = 1;
+    private int maxConcurrentTransfers = Integer.MAX_VALUE;
     private long waitTimeout = 100;
     private PipelineService pipelineService;
     private ExecutorInstrumentation executorInstrumentation;
+    private MetricsInstrumentation metricsInstrumentation;
     private Monitor monitor;
     private Telemetry telemetry;
-    private BlockingQueue<DataFlowRequest> queue;
+    private Clock clock;
     private ExecutorService executorService;
     private DataPlaneStore store;
     private TransferServiceRegistry transferServiceRegistry;
@@ -67,7 +90,6 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
     }
 
     public void start() {
-        queue = new ArrayBlockingQueue<>(queueCapacity);
         active.set(true);
         executorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(workers), getClass().getSimpleName());
         for (var i = 0; i < workers; i++) {
@@ -99,13 +121,28 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
     }
 
     @Override
-    public void initiateTransfer(DataFlowRequest dataRequest) {
+    public StatusResult<Void> initiateTransfer(DataFlowRequest dataRequest) {
         // store current trace context in entity for request traceability
         var dataRequestWithTraceContext = dataRequest.toBuilder()
                 .traceContext(telemetry.getCurrentTraceContext())
                 .build();
-        queue.add(dataRequestWithTraceContext);
+
+        var transferService = transferServiceRegistry.resolveTransferService(dataRequestWithTraceContext);
+        if (transferService == null) {
+            // Should not happen since resolving a transferService is part of payload validation
+            // TODO persist error details
+            store.completed(dataRequestWithTraceContext.getProcessId());
+            return StatusResult.failure(ResponseStatus.FATAL_ERROR, format("Cannot find a transfer Service that can handle %s source and %s destination",
+                    dataRequest.getSourceDataAddress().getType(), dataRequest.getDestinationDataAddress().getType()));
+        }
+
+        var lane = lanes.computeIfAbsent(transferService, this::createLane);
+        if (!lane.queue.offer(new QueuedRequest(dataRequestWithTraceContext, clock.millis()))) {
+            return StatusResult.failure(ResponseStatus.ERROR_RETRY, format("Data plane queue for %s is full, retry later", lane.name));
+        }
         store.received(dataRequestWithTraceContext.getProcessId());
+        queued.release();
+        return StatusResult.success();
     }
 
     @Override
@@ -123,52 +160,82 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         return store.getState(processId);
     }
 
+    /**
+     * Returns the status of every lane, keyed by the name of its transfer service.
+     */
+    public Map<String, LaneStatus> laneStatuses() {
+        return laneOrder.stream().collect(toMap(lane -> lane.name, Lane::status, (a, b) -> a));
+    }
+
     private void run() {
         while (active.get()) {
-            DataFlowRequest request = null;
+            Dispatch dispatch = null;
             try {
-                request = queue.poll(waitTimeout, TimeUnit.MILLISECONDS);
-                if (request == null) {
+                if (!queued.tryAcquire(waitTimeout, TimeUnit.MILLISECONDS)) {
+                    continue;
+                }
+                dispatch = nextDispatch();
+                if (dispatch == null) {
+                    // every lane with queued requests has reached its concurrency limit
+                    queued.release();
+                    synchronized (dispatchable) {
+                        dispatchable.wait(waitTimeout);
+                    }
                     continue;
                 }
                 // propagate trace context for request into the current thread
-                telemetry.contextPropagationMiddleware(this::processDataFlowRequest).accept(request);
+                telemetry.contextPropagationMiddleware(this::processDataFlowRequest).accept(dispatch);
 
             } catch (InterruptedException e) {
                 Thread.interrupted();
                 active.set(false);
                 break;
             } catch (Exception e) {
-                if (request == null) {
+                if (dispatch == null) {
                     monitor.severe("Unable to dequeue data request", e);
                 } else {
-                    monitor.severe("Error processing data request: " + request.getProcessId(), e);
+                    dispatch.lane.release();
+                    monitor.severe("Error processing data request: " + dispatch.getProcessId(), e);
                     // TODO persist error details
-                    store.completed(request.getProcessId());
+                    store.completed(dispatch.getProcessId());
                 }
             }
         }
     }
 
-    private void processDataFlowRequest(DataFlowRequest request) {
-        var transferService = transferServiceRegistry.resolveTransferService(request);
-        if (transferService == null) {
-            // Should not happen since resolving a transferService is part of payload validation
-            // TODO persist error details
-            store.completed(request.getProcessId());
-        } else {
-            transferService.transfer(request).whenComplete((result, exception) -> {
-
-                if (request.isTrackable()) {
-                    // TODO persist TransferResult or error details
-                    store.completed(request.getProcessId());
+    /**
+     * Picks the next request from the lanes in round-robin, skipping the ones that reached their concurrency limit.
+     */
+    @Nullable
+    private Dispatch nextDispatch() {
+        var size = laneOrder.size();
+        var start = Math.floorMod(nextLane.getAndIncrement(), Math.max(size, 1));
+        for (var i = 0; i < size; i++) {
+            var lane = laneOrder.get((start + i) % size);
+            if (!lane.queue.isEmpty() && lane.running.tryAcquire()) {
+                var queuedRequest = lane.queue.poll();
+                if (queuedRequest != null) {
+                    lane.lastQueueLatency.set(clock.millis() - queuedRequest.enqueuedAt());
+                    return new Dispatch(lane, queuedRequest.request());
                 }
+                lane.running.release();
+            }
+        }
+        return null;
+    }
 
-                onTransferFinished(request, result, exception);
+    private void processDataFlowRequest(Dispatch dispatch) {
+        var request = dispatch.request();
+        dispatch.lane.transferService.transfer(request).whenComplete((result, exception) -> {
+            dispatch.lane.release();
 
+            if (request.isTrackable()) {
+                // TODO persist TransferResult or error details
+                store.completed(request.getProcessId());
+            }
 
-            });
-        }
+            onTransferFinished(request, result, exception);
+        });
     }
 
     private void onTransferFinished(DataFlowRequest request, StreamResult<Void> result, Throwable exception) {
@@ -181,12 +248,69 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         }
     }
 
+    private Lane createLane(TransferService transferService) {
+        var lane = new Lane(transferService.getClass().getSimpleName(), transferService, new ArrayBlockingQueue<>(queueCapacity), new Semaphore(maxConcurrentTransfers));
+        laneOrder.add(lane);
+        var tags = Map.of("lane", lane.name);
+        metricsInstrumentation.gauge("edc.dataplane.lane.queued", tags, lane.queue::size);
+        metricsInstrumentation.gauge("edc.dataplane.lane.running", tags, () -> maxConcurrentTransfers - lane.running.availablePermits());
+        metricsInstrumentation.gauge("edc.dataplane.lane.queue.latency", tags, lane.lastQueueLatency::get);
+        return lane;
+    }
+
+    /**
+     * The status of a lane.
+     *
+     * @param queued the number of requests waiting in the lane.
+     * @param running the number of transfers currently running.
+     * @param lastQueueLatency the time in milliseconds the last dispatched request waited in the lane.
+     */
+    public record LaneStatus(int queued, int running, long lastQueueLatency) {
+    }
+
+    private record QueuedRequest(DataFlowRequest request, long enqueuedAt) {
+    }
+
+    private record Dispatch(Lane lane, DataFlowRequest request) {
+        String getProcessId() {
+            return request.getProcessId();
+        }
+    }
+
+    private class Lane {
+        private final String name;
+        private final TransferService transferService;
+        private final BlockingQueue<QueuedRequest> queue;
+        private final Semaphore running;
+        private final AtomicLong lastQueueLatency = new AtomicLong();
+
+        Lane(String name, TransferService transferService, BlockingQueue<QueuedRequest> queue, Semaphore running) {
+            this.name = name;
+            this.transferService = transferService;
+            this.queue = queue;
+            this.running = running;
+        }
+
+        void release() {
+            running.release();
+            synchronized (dispatchable) {
+                dispatchable.notifyAll();
+            }
+        }
+
+        LaneStatus status() {
+            return new LaneStatus(queue.size(), maxConcurrentTransfers - running.availablePermits(), lastQueueLatency.get());
+        }
+    }
+
     public static class Builder {
         private final DataPlaneManagerImpl manager;
 
         private Builder() {
             manager = new DataPlaneManagerImpl();
             manager.telemetry = new Telemetry(); // default noop implementation
+            manager.clock = Clock.systemUTC();
+            manager.metricsInstrumentation = MetricsInstrumentation.noop();
         }
 
         public static Builder newInstance() {
@@ -203,6 +327,14 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        /**
+         * Publishes the number of queued and running transfers and the queue latency of every lane.
+         */
+        public Builder metricsInstrumentation(MetricsInstrumentation metricsInstrumentation) {
+            manager.metricsInstrumentation = metricsInstrumentation;
+            return this;
+        }
+
         public Builder transferServiceRegistry(TransferServiceRegistry transferServiceRegistry) {
             manager.transferServiceRegistry = transferServiceRegistry;
             return this;
@@ -218,6 +350,14 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        public Builder clock(Clock clock) {
+            manager.clock = clock;
+            return this;
+        }
+
+        /**
+         * The capacity of the queue of every transfer service.
+         */
         public Builder queueCapacity(int capacity) {
             manager.queueCapacity = capacity;
             return this;
@@ -228,6 +368,14 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        /**
+         * The maximum number of transfers that can run concurrently on every transfer service.
+         */
+        public Builder maxConcurrentTransfers(int maxConcurrentTransfers) {
+            manager.maxConcurrentTransfers = maxConcurrentTransfers;
+            return this;
+        }
+
         public Builder waitTimeout(long waitTimeout) {
             manager.waitTimeout = waitTimeout;
             return this;
@@ -16,18 +16,27 @@ package org.eclipse.edc.connector.dataplane.framework.manager;
 
 import org.eclipse.edc.connector.api.client.spi.transferprocess.NoopTransferProcessClient;
 import org.eclipse.edc.connector.dataplane.framework.store.InMemoryDataPlaneStore;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsInstrumentation;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleSupplier;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
@@ -122,6 +131,67 @@ class DataPlaneManagerImplTest {
         });
     }
 
+    @Test
+    void initiateTransfer_shouldFailWithRetry_whenQueueIsFull() {
+        var dataPlaneManager = createDataPlaneManagerBuilder().queueCapacity(1).build();
+
+        var first = dataPlaneManager.initiateTransfer(request);
+        var second = dataPlaneManager.initiateTransfer(request);
+
+        assertThat(first.succeeded()).isTrue();
+        assertThat(second.failed()).isTrue();
+        assertThat(second.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+    }
+
+    @Test
+    void initiateTransfer_shouldPublishLaneQueueDepth() {
+        var metricsInstrumentation = mock(MetricsInstrumentation.class);
+        var dataPlaneManager = createDataPlaneManagerBuilder().metricsInstrumentation(metricsInstrumentation).build();
+
+        dataPlaneManager.initiateTransfer(request);
+
+        var queued = ArgumentCaptor.forClass(DoubleSupplier.class);
+        var tags = Map.of("lane", transferService.getClass().getSimpleName());
+        verify(metricsInstrumentation).gauge(eq("edc.dataplane.lane.queued"), eq(tags), queued.capture());
+        verify(metricsInstrumentation).gauge(eq("edc.dataplane.lane.running"), eq(tags), isA(DoubleSupplier.class));
+        verify(metricsInstrumentation).gauge(eq("edc.dataplane.lane.queue.latency"), eq(tags), isA(DoubleSupplier.class));
+        assertThat(queued.getValue().getAsDouble()).isEqualTo(1);
+    }
+
+    @Test
+    void initiateTransfer_shouldFailFatally_whenNoTransferServiceIsAvailable() {
+        var dataPlaneManager = createDataPlaneManager();
+        when(registry.resolveTransferService(request)).thenReturn(null);
+
+        var result = dataPlaneManager.initiateTransfer(request);
+
+        assertThat(result.fatalError()).isTrue();
+    }
+
+    @Test
+    void verifyWorkDispatch_shouldLimitConcurrentTransfers() {
+        var dataPlaneManager = createDataPlaneManagerBuilder().workers(2).maxConcurrentTransfers(1).build();
+        var future = new CompletableFuture<StreamResult<Void>>();
+        when(transferService.transfer(request)).thenReturn(future, completedFuture(StreamResult.success()));
+
+        dataPlaneManager.start();
+        dataPlaneManager.initiateTransfer(request);
+        dataPlaneManager.initiateTransfer(request);
+
+        await().untilAsserted(() -> {
+            verify(transferService, times(1)).transfer(request);
+            assertThat(dataPlaneManager.laneStatuses().values())
+                    .singleElement().satisfies(status -> {
+                        assertThat(status.running()).isEqualTo(1);
+                        assertThat(status.queued()).isEqualTo(1);
+                    });
+        });
+
+        future.complete(StreamResult.success());
+
+        await().untilAsserted(() -> verify(transferService, times(2)).transfer(request));
+    }
+
     DataFlowRequest createRequest() {
         return DataFlowRequest.Builder.newInstance()
                 .id("1")
@@ -132,6 +202,10 @@ class DataPlaneManagerImplTest {
     }
 
     private DataPlaneManagerImpl createDataPlaneManager() {
+        return createDataPlaneManagerBuilder().build();
+    }
+
+    private DataPlaneManagerImpl.Builder createDataPlaneManagerBuilder() {
         return DataPlaneManagerImpl.Builder.newInstance()
                 .queueCapacity(100)
                 .workers(1)
@@ -140,8 +214,7 @@ class DataPlaneManagerImplTest {
                 .transferServiceRegistry(registry)
                 .store(store)
                 .transferProcessClient(new NoopTransferProcessClient())
-                .monitor(mock(Monitor.class))
-                .build();
+                .monitor(mock(Monitor.class));
     }
 
 }
@@ -19,26 +19,24 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
-import org.eclipse.edc.spi.response.StatusResult;
-import org.eclipse.edc.spi.result.AbstractResult;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Consumer;
-import java.util.stream.Stream;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.failure;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
-import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
-import static org.eclipse.edc.spi.response.StatusResult.failure;
-import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
  * Asynchronously streams data to a response client.
@@ -52,12 +50,53 @@ public class AsyncStreamingDataSink implements DataSink {
     public interface AsyncResponseContext {
 
         /**
-         * Registers a callback when an output stream is available for writing data.
+         * Registers a callback to be invoked when an output stream is available for writing data.
          *
-         * @param consumer the callback
+         * @param callback the callback
          * @return true if the callback was successfully registered
          */
-        boolean register(Consumer<OutputStream> consumer);
+        boolean register(AsyncResponseCallback callback);
+    }
+
+    /**
+     * Writes the content of the {@link DataSource.Part}s of a source, one after the other, to a response output stream,
+     * without buffering it.
+     */
+    public interface AsyncResponseCallback {
+
+        /**
+         * The media type of the content, or null if it is not known.
+         */
+        @Nullable
+        String mediaType();
+
+        /**
+         * The size of the content, or {@link DataSource.Part#SIZE_UNKNOWN} if it is not known.
+         */
+        long size();
+
+        /**
+         * The position of the content in the source content, as value of a {@code Content-Range} header, or null if
+         * the whole source content is written.
+         */
+        @Nullable
+        String contentRange();
+
+        /**
+         * Writes the whole content to the output stream.
+         */
+        default void writeTo(OutputStream outputStream) {
+            writeTo(outputStream, 0, DataSource.Part.SIZE_UNKNOWN);
+        }
+
+        /**
+         * Writes a segment of the content to the output stream.
+         *
+         * @param outputStream the output stream
+         * @param offset the number of bytes to be skipped
+         * @param length the number of bytes to be written, or {@link DataSource.Part#SIZE_UNKNOWN} to write until the end
+         */
+        void writeTo(OutputStream outputStream, long offset, long length);
     }
 
     private final AsyncResponseContext asyncContext;
@@ -77,31 +116,14 @@ public class AsyncStreamingDataSink implements DataSink {
             return completedFuture(failure(streamResult.getFailure()));
         }
         var partStream = streamResult.getContent();
-        return partStream
-                .map(part -> supplyAsync(() -> transferPart(part), executorService))
-                .collect(asyncAllOf())
-                .thenApply(r -> processResults(r, partStream));
+        // a response can be resumed only once, so all the parts are written through a single callback
+        return supplyAsync(() -> transferParts(partStream.collect(toList())), executorService)
+                .whenComplete((result, throwable) -> close(partStream));
     }
 
     @NotNull
-    private StreamResult<Void> processResults(List<? extends StatusResult<?>> results, Stream<DataSource.Part> partStream) {
-        close(partStream);
-        if (results.stream().anyMatch(AbstractResult::failed)) {
-            return error("Error transferring data");
-        }
-        return success();
-    }
-
-    @NotNull
-    private StatusResult<?> transferPart(DataSource.Part part) {
-        var result = asyncContext.register(outputStream -> {
-            try {
-                part.openStream().transferTo(outputStream);
-            } catch (IOException e) {
-                throw new EdcException(e);
-            }
-        });
-        return result ? StatusResult.success() : failure(FATAL_ERROR, "Could not resume output stream write");
+    private StreamResult<Void> transferParts(List<DataSource.Part> parts) {
+        return asyncContext.register(new PartsCallback(parts)) ? success() : error("Could not resume output stream write");
     }
 
     private void close(AutoCloseable closeable) {
@@ -112,4 +134,73 @@ public class AsyncStreamingDataSink implements DataSink {
         }
     }
 
+    private record PartsCallback(List<DataSource.Part> parts) implements AsyncResponseCallback {
+
+        private static final int BUFFER_SIZE = 8192;
+
+        @Override
+        public String mediaType() {
+            return parts.isEmpty() ? null : parts.get(0).mediaType();
+        }
+
+        @Override
+        public long size() {
+            var total = 0L;
+            for (var part : parts) {
+                if (part.size() == DataSource.Part.SIZE_UNKNOWN) {
+                    return DataSource.Part.SIZE_UNKNOWN;
+                }
+                total += part.size();
+            }
+            return total;
+        }
+
+        @Override
+        public String contentRange() {
+            return parts.size() == 1 ? parts.get(0).contentRange() : null;
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream, long offset, long length) {
+            try (var inputStream = openStream()) {
+                inputStream.skipNBytes(offset);
+                if (length == DataSource.Part.SIZE_UNKNOWN) {
+                    inputStream.transferTo(outputStream);
+                    return;
+                }
+
+                var buffer = new byte[BUFFER_SIZE];
+                var remaining = length;
+                while (remaining > 0) {
+                    var read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read < 0) {
+                        break;
+                    }
+                    outputStream.write(buffer, 0, read);
+                    remaining -= read;
+                }
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
+
+        /**
+         * Concatenates the content of the parts, every part being opened only once the previous one has been read.
+         */
+        private InputStream openStream() {
+            var streams = parts.stream().map(DataSource.Part::openStream).iterator();
+            return new SequenceInputStream(new Enumeration<>() {
+                @Override
+                public boolean hasMoreElements() {
+                    return streams.hasNext();
+                }
+
+                @Override
+                public InputStream nextElement() {
+                    return streams.next();
+                }
+            });
+        }
+    }
+
 }
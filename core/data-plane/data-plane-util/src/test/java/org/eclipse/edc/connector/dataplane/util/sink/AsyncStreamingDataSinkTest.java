@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.util.sink;
 
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink.AsyncResponseCallback;
 import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink.AsyncResponseContext;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.AfterEach;
@@ -27,7 +28,6 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
@@ -39,6 +39,8 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AsyncStreamingDataSinkTest {
@@ -60,11 +62,9 @@ class AsyncStreamingDataSinkTest {
 
         var outputStream = new ByteArrayOutputStream();
 
-        //noinspection unchecked
-        when(asyncContext.register(isA(Consumer.class))).thenAnswer((Answer<Boolean>) invocation -> {
-            @SuppressWarnings("rawtypes") var consumer = (Consumer) invocation.getArgument(0);
-            //noinspection unchecked
-            consumer.accept(outputStream);
+        when(asyncContext.register(isA(AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            var callback = (AsyncResponseCallback) invocation.getArgument(0);
+            callback.writeTo(outputStream);
             return true;
         });
 
@@ -77,6 +77,64 @@ class AsyncStreamingDataSinkTest {
         assertThat(outputStream.toByteArray()).isEqualTo(TEST_CONTENT);
     }
 
+    @Test
+    void verify_streamingSegment() throws Exception {
+        var part = mock(DataSource.Part.class);
+        when(part.openStream()).thenReturn(new ByteArrayInputStream(TEST_CONTENT));
+        when(part.mediaType()).thenReturn("text/plain");
+        when(part.size()).thenReturn((long) TEST_CONTENT.length);
+
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(success(Stream.of(part)));
+
+        var dataSink = new AsyncStreamingDataSink(asyncContext, executorService, monitor);
+
+        var outputStream = new ByteArrayOutputStream();
+
+        when(asyncContext.register(isA(AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            var callback = (AsyncResponseCallback) invocation.getArgument(0);
+            assertThat(callback.mediaType()).isEqualTo("text/plain");
+            assertThat(callback.size()).isEqualTo(TEST_CONTENT.length);
+            callback.writeTo(outputStream, 1, 2);
+            return true;
+        });
+
+        var result = dataSink.transfer(dataSource).get(2000, MILLISECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(outputStream.toString()).isEqualTo("es");
+    }
+
+    @Test
+    void verify_streamingAllPartsThroughSingleCallback() throws Exception {
+        var part1 = mock(DataSource.Part.class);
+        when(part1.openStream()).thenReturn(new ByteArrayInputStream("te".getBytes()));
+        when(part1.size()).thenReturn(2L);
+        var part2 = mock(DataSource.Part.class);
+        when(part2.openStream()).thenReturn(new ByteArrayInputStream("st".getBytes()));
+        when(part2.size()).thenReturn(2L);
+
+        var dataSource = mock(DataSource.class);
+        when(dataSource.openPartStream()).thenReturn(success(Stream.of(part1, part2)));
+
+        var dataSink = new AsyncStreamingDataSink(asyncContext, executorService, monitor);
+
+        var outputStream = new ByteArrayOutputStream();
+
+        when(asyncContext.register(isA(AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            var callback = (AsyncResponseCallback) invocation.getArgument(0);
+            assertThat(callback.size()).isEqualTo(TEST_CONTENT.length);
+            callback.writeTo(outputStream, 1, 2);
+            return true;
+        });
+
+        var result = dataSink.transfer(dataSource).get(2000, MILLISECONDS);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(outputStream.toString()).isEqualTo("es");
+        verify(asyncContext, times(1)).register(isA(AsyncResponseCallback.class));
+    }
+
     @Test
     void verify_exceptionThrown() throws Exception {
         var part = mock(DataSource.Part.class);
@@ -93,11 +151,9 @@ class AsyncStreamingDataSinkTest {
 
         doThrow(testException).when(outputStream).write(isA(byte[].class), anyInt(), anyInt());
 
-        //noinspection unchecked
-        when(asyncContext.register(isA(Consumer.class))).thenAnswer((Answer<Boolean>) invocation -> {
-            @SuppressWarnings("rawtypes") var consumer = (Consumer) invocation.getArgument(0);
-            //noinspection unchecked
-            consumer.accept(outputStream);
+        when(asyncContext.register(isA(AsyncResponseCallback.class))).thenAnswer((Answer<Boolean>) invocation -> {
+            var callback = (AsyncResponseCallback) invocation.getArgument(0);
+            callback.writeTo(outputStream);
             return true;
         });
 
@@ -18,6 +18,7 @@ import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -59,6 +60,11 @@ public class DspApiConfigurationExtension implements ServiceExtension {
             .name("Protocol API")
             .build();
     
+    public static final long DEFAULT_MAX_BODY_SIZE = 10 * 1024 * 1024;
+
+    @Setting(value = "Maximum size in bytes of a JSON-LD request body of the Protocol API, larger bodies are rejected", defaultValue = DEFAULT_MAX_BODY_SIZE + "")
+    public static final String MAX_BODY_SIZE = "edc.dsp.request.max-body-size";
+
     @Inject
     private TypeManager typeManager;
 
@@ -89,7 +95,8 @@ public class DspApiConfigurationExtension implements ServiceExtension {
         
         var jsonLdMapper = typeManager.getMapper(JSON_LD);
         webService.registerResource(config.getContextAlias(), new ObjectMapperProvider(jsonLdMapper));
-        webService.registerResource(config.getContextAlias(), new JerseyJsonLdInterceptor(jsonLd, jsonLdMapper));
+        var maxBodySize = context.getSetting(MAX_BODY_SIZE, DEFAULT_MAX_BODY_SIZE);
+        webService.registerResource(config.getContextAlias(), new JerseyJsonLdInterceptor(jsonLd, jsonLdMapper, maxBodySize));
     }
     
 }
@@ -33,11 +33,13 @@ public class QuerySpecDto extends BaseDto {
     public static final String EDC_QUERY_SPEC_FILTER_EXPRESSION = EDC_NAMESPACE + "filterExpression";
     public static final String EDC_QUERY_SPEC_SORT_ORDER = EDC_NAMESPACE + "sortOrder";
     public static final String EDC_QUERY_SPEC_SORT_FIELD = EDC_NAMESPACE + "sortField";
+    public static final String EDC_QUERY_SPEC_CURSOR = EDC_NAMESPACE + "cursor";
 
     private Integer offset = 0;
     private Integer limit = 50;
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private String cursor;
     private final List<CriterionDto> filterExpression = new ArrayList<>();
 
     public Integer getOffset() {
@@ -56,6 +58,10 @@ public class QuerySpecDto extends BaseDto {
         return sortField;
     }
 
+    public String getCursor() {
+        return cursor;
+    }
+
     public List<CriterionDto> getFilterExpression() {
         return filterExpression;
     }
@@ -93,6 +99,11 @@ public class QuerySpecDto extends BaseDto {
             return this;
         }
 
+        public Builder cursor(String cursor) {
+            querySpec.cursor = cursor;
+            return this;
+        }
+
         public Builder filter(CriterionDto criterion) {
             querySpec.filterExpression.add(criterion);
             return this;
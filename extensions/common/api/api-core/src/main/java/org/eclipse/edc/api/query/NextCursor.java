@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.query;
+
+import org.eclipse.edc.spi.query.QueryCursor;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.eclipse.edc.util.reflection.ReflectionUtil.getFieldValueSilent;
+
+/**
+ * Computes the continuation cursor returned by query endpoints that support keyset pagination, in the
+ * {@link #HEADER} response header. The client passes it as {@code cursor} of the next query, with the same filter
+ * and sort, to get the next page.
+ * <p>
+ * The sort value is read from the field of the element, which only matches the value compared by the stores for
+ * scalar fields of the element itself: queries that continue from a cursor and sort by any other field are rejected.
+ */
+public final class NextCursor {
+
+    public static final String HEADER = "Edc-Next-Cursor";
+
+    private NextCursor() {
+    }
+
+    /**
+     * Returns the cursor of the last element of the page, or null if the page is not full, as there are no more
+     * elements then.
+     *
+     * @param query the query that returned the page.
+     * @param page the elements returned by the query.
+     * @param idFunction returns the id of an element.
+     */
+    @Nullable
+    public static <T> String of(QuerySpec query, List<T> page, Function<T, String> idFunction) {
+        if (page.isEmpty() || page.size() < query.getLimit()) {
+            return null;
+        }
+        var last = page.get(page.size() - 1);
+        var sortValue = query.getSortField() == null ? null : getFieldValueSilent(query.getSortField(), last);
+        return QueryCursor.of(sortValue, idFunction.apply(last)).encode();
+    }
+}
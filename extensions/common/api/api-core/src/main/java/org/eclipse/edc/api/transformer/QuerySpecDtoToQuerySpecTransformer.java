@@ -39,7 +39,8 @@ public class QuerySpecDtoToQuerySpecTransformer implements DtoTransformer<QueryS
                 .limit(query.getLimit())
                 .offset(query.getOffset())
                 .sortField(query.getSortField())
-                .sortOrder(query.getSortOrder());
+                .sortOrder(query.getSortOrder())
+                .cursor(query.getCursor());
 
         query.getFilterExpression()
                 .forEach(criterionDto -> {
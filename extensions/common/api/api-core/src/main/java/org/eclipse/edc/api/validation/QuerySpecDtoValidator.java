@@ -26,6 +26,7 @@ import java.util.Optional;
 
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
+import static org.eclipse.edc.api.model.QuerySpecDto.EDC_QUERY_SPEC_CURSOR;
 import static org.eclipse.edc.api.model.QuerySpecDto.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.api.model.QuerySpecDto.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.api.model.QuerySpecDto.EDC_QUERY_SPEC_OFFSET;
@@ -46,6 +47,8 @@ public class QuerySpecDtoValidator {
                 .verify(EDC_QUERY_SPEC_LIMIT, OptionalValueGreaterZero::new)
                 .verify(EDC_QUERY_SPEC_SORT_ORDER, OptionalValueSortField::new)
                 .verify(EDC_QUERY_SPEC_SORT_FIELD, OptionalValueNotBlank::new)
+                .verify(EDC_QUERY_SPEC_CURSOR, OptionalValueNotBlank::new)
+                .verify(EDC_QUERY_SPEC_CURSOR, CursorWithoutOffset::new)
                 .verifyObject(EDC_QUERY_SPEC_FILTER_EXPRESSION, CriterionDtoValidator::instance);
     }
 
@@ -83,6 +86,23 @@ public class QuerySpecDtoValidator {
         }
     }
 
+    private record CursorWithoutOffset(JsonLdPath path) implements Validator<JsonObject> {
+
+        @Override
+        public ValidationResult validate(JsonObject input) {
+            var offset = Optional.ofNullable(input.getJsonArray(EDC_QUERY_SPEC_OFFSET))
+                    .map(it -> it.getJsonObject(0))
+                    .map(it -> it.getInt(VALUE))
+                    .orElse(0);
+
+            if (input.containsKey(path.last()) && offset > 0) {
+                return ValidationResult.failure(violation(format("optional value '%s' cannot be combined with an offset", path), path.toString(), offset));
+            }
+
+            return ValidationResult.success();
+        }
+    }
+
     private record OptionalValueSortField(JsonLdPath path) implements Validator<JsonObject> {
 
         @Override
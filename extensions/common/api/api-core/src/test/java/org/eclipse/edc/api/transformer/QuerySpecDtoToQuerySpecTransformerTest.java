@@ -75,6 +75,18 @@ class QuerySpecDtoToQuerySpecTransformerTest {
         assertThat(spec.getFilterExpression()).hasSize(0);
         assertThat(spec.getSortOrder()).isEqualTo(SortOrder.ASC);
         assertThat(spec.getSortField()).isNull();
+        assertThat(spec.getCursor()).isNull();
+    }
+
+    @Test
+    void transform_withCursor() {
+        var context = mock(TransformerContext.class);
+        var querySpecDto = QuerySpecDto.Builder.newInstance().sortField("field").cursor("cursor").build();
+
+        var spec = transformer.transform(querySpecDto, context);
+
+        assertThat(spec.getSortField()).isEqualTo("field");
+        assertThat(spec.getCursor()).isEqualTo("cursor");
     }
 
     @Test
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createObjectBuilder;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
+import static org.eclipse.edc.api.model.QuerySpecDto.EDC_QUERY_SPEC_CURSOR;
 import static org.eclipse.edc.api.model.QuerySpecDto.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.api.model.QuerySpecDto.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.api.model.QuerySpecDto.EDC_QUERY_SPEC_OFFSET;
@@ -111,6 +112,23 @@ class QuerySpecDtoValidatorTest {
                 .asString().contains("blank");
     }
 
+    @Test
+    void shouldFail_whenCursorIsCombinedWithOffset() {
+        var input = Json.createObjectBuilder()
+                .add(EDC_QUERY_SPEC_CURSOR, value("cursor"))
+                .add(EDC_QUERY_SPEC_OFFSET, value(10))
+                .build();
+
+        var result = validator.validate(input);
+
+        assertThat(result).isFailed().extracting(ValidationFailure::getViolations).asInstanceOf(list(Violation.class))
+                .filteredOn(v -> v.path().equals(EDC_QUERY_SPEC_CURSOR))
+                .hasSize(1)
+                .first()
+                .extracting(Violation::message)
+                .asString().contains("offset");
+    }
+
     @Test
     void shouldFail_whenFilterExpressionNotValid() {
         var input = Json.createObjectBuilder()
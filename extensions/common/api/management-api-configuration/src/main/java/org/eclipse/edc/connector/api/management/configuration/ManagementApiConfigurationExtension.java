@@ -20,6 +20,7 @@ import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -57,6 +58,11 @@ public class ManagementApiConfigurationExtension implements ServiceExtension {
             .name(WEB_SERVICE_NAME)
             .build();
 
+    public static final long DEFAULT_MAX_BODY_SIZE = 10 * 1024 * 1024;
+
+    @Setting(value = "Maximum size in bytes of a JSON-LD request body of the Management API, larger bodies are rejected", defaultValue = DEFAULT_MAX_BODY_SIZE + "")
+    public static final String MAX_BODY_SIZE = "edc.management.request.max-body-size";
+
     @Inject
     private WebService webService;
 
@@ -89,6 +95,7 @@ public class ManagementApiConfigurationExtension implements ServiceExtension {
 
         var jsonLdMapper = typeManager.getMapper(JSON_LD);
         webService.registerResource(webServiceConfiguration.getContextAlias(), new ObjectMapperProvider(jsonLdMapper));
-        webService.registerResource(webServiceConfiguration.getContextAlias(), new JerseyJsonLdInterceptor(jsonLd, jsonLdMapper));
+        var maxBodySize = context.getSetting(MAX_BODY_SIZE, DEFAULT_MAX_BODY_SIZE);
+        webService.registerResource(webServiceConfiguration.getContextAlias(), new JerseyJsonLdInterceptor(jsonLd, jsonLdMapper, maxBodySize));
     }
 }
@@ -18,6 +18,7 @@ package org.eclipse.edc.web.jersey;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.web.jersey.jsonld.JsonObjectStreamWriter;
 import org.eclipse.edc.web.jersey.jsonld.ObjectMapperProvider;
 import org.eclipse.edc.web.jersey.mapper.EdcApiExceptionMapper;
 import org.eclipse.edc.web.jersey.mapper.UnexpectedExceptionMapper;
@@ -90,6 +91,7 @@ public class JerseyRestService implements WebService {
         resourceConfig.registerClasses(controllers.stream().map(Object::getClass).collect(toSet()));
         resourceConfig.registerInstances(new Binder());
         resourceConfig.registerInstances(new ObjectMapperProvider(typeManager.getMapper()));
+        resourceConfig.registerInstances(new JsonObjectStreamWriter(monitor));
         resourceConfig.registerInstances(new EdcApiExceptionMapper());
         resourceConfig.registerInstances(new UnexpectedExceptionMapper(monitor));
 
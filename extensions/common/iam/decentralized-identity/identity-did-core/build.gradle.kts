@@ -6,6 +6,7 @@ plugins {
 dependencies {
     api(project(":spi:common:identity-did-spi"))
     implementation(project(":extensions:common:iam:decentralized-identity:identity-did-crypto"))
+    implementation(project(":core:common:util"))
 
     implementation(libs.jakarta.rsApi)
 
@@ -19,6 +19,7 @@ import com.nimbusds.jose.jwk.RSAKey;
 import org.eclipse.edc.iam.did.parser.EcPrivateKeyParserFunction;
 import org.eclipse.edc.iam.did.parser.PrivateKeyWrapperParserFunction;
 import org.eclipse.edc.iam.did.parser.RsaPrivateKeyParserFunction;
+import org.eclipse.edc.iam.did.resolution.CachingDidResolverRegistry;
 import org.eclipse.edc.iam.did.resolution.DidPublicKeyResolverImpl;
 import org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl;
 import org.eclipse.edc.iam.did.spi.key.PrivateKeyWrapper;
@@ -27,19 +28,44 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 
 @Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class })
 @Extension(value = IdentityDidCoreExtension.NAME)
 public class IdentityDidCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Identity Did Core";
+
+    @Setting(value = "Seconds a resolved DID document is cached when its resolver doesn't state a cache time, 0 disables the cache", defaultValue = "300")
+    public static final String DID_CACHE_TTL = "edc.iam.did.cache.ttl";
+
+    @Setting(value = "Seconds an expired DID document is still used while a new one is resolved in the background", defaultValue = "600")
+    public static final String DID_CACHE_STALE_WHILE_REVALIDATE = "edc.iam.did.cache.stale-while-revalidate";
+
+    @Setting(value = "Maximum number of cached DID documents, the least recently used ones are evicted first", defaultValue = "10000")
+    public static final String DID_CACHE_MAX_SIZE = "edc.iam.did.cache.max-size";
+
     @Inject
     private PrivateKeyResolver privateKeyResolver;
 
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService refreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -47,7 +73,7 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl();
+        var didResolverRegistry = createDidResolverRegistry(context);
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(didResolverRegistry);
@@ -56,6 +82,26 @@ public class IdentityDidCoreExtension implements ServiceExtension {
         registerParsers(privateKeyResolver);
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    private DidResolverRegistry createDidResolverRegistry(ServiceExtensionContext context) {
+        var registry = new DidResolverRegistryImpl();
+        var ttl = context.getSetting(DID_CACHE_TTL, 300);
+        if (ttl <= 0) {
+            return registry;
+        }
+        var staleWhileRevalidate = context.getSetting(DID_CACHE_STALE_WHILE_REVALIDATE, 600);
+        var maxSize = context.getSetting(DID_CACHE_MAX_SIZE, 10000);
+        refreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "DID document refresh");
+        return new CachingDidResolverRegistry(registry, clock, Duration.ofSeconds(ttl), Duration.ofSeconds(staleWhileRevalidate),
+                maxSize, refreshExecutor, context.getMonitor());
+    }
+
     private void registerParsers(PrivateKeyResolver resolver) {
         resolver.addParser(RSAKey.class, new RsaPrivateKeyParserFunction());
         resolver.addParser(ECKey.class, new EcPrivateKeyParserFunction());
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.did.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.document.VerificationMethod;
+import org.eclipse.edc.iam.did.spi.key.PublicKeyWrapper;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolution;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.concurrency.RefreshingCache;
+import org.eclipse.edc.util.concurrency.RefreshingCache.Expiring;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * {@link DidResolverRegistry} decorator that caches the resolved DID documents, and the public keys converted from
+ * them, by DID.
+ * <p>
+ * A document is fresh for the cache time stated by its resolver (e.g. the {@code Cache-Control} header of a web DID),
+ * or for the configured time-to-live if none is stated. After that it's still returned for the stale-while-revalidate
+ * window, while a new document is resolved on the refresh executor, so a slow DID endpoint doesn't block the callers.
+ * Concurrent misses for the same DID wait for a single resolution. Failed resolutions are not cached. The DIDs come
+ * from the tokens of the counter-parties, so the number of cached documents is bounded: the least recently used ones
+ * are evicted first.
+ */
+public class CachingDidResolverRegistry implements DidResolverRegistry {
+
+    private final DidResolverRegistry delegate;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration staleWhileRevalidate;
+    private final RefreshingCache<String, Entry> entries;
+
+    public CachingDidResolverRegistry(DidResolverRegistry delegate, Clock clock, Duration ttl, Duration staleWhileRevalidate,
+                                      int maxSize, Executor refreshExecutor, Monitor monitor) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.entries = new RefreshingCache<>(clock, maxSize, refreshExecutor, (didKey, failure) ->
+                monitor.warning("DID document refresh failed for %s, the cached document will be used until it's stale".formatted(didKey), failure));
+    }
+
+    @Override
+    public void register(DidResolver resolver) {
+        delegate.register(resolver);
+    }
+
+    @Override
+    public Result<DidDocument> resolve(String didKey) {
+        return resolveWithMetadata(didKey).map(DidResolution::document);
+    }
+
+    @Override
+    public Result<DidResolution> resolveWithMetadata(String didKey) {
+        var now = clock.instant();
+        try {
+            return Result.success(entries.get(didKey, now, resolvedAt -> resolve(didKey, resolvedAt)).toResolution(now));
+        } catch (ResolutionFailure e) {
+            return Result.failure(e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the public key converted from the verification method. If the verification method belongs to the cached
+     * document of the DID, the converted key is cached with the document.
+     */
+    @Override
+    public Result<PublicKeyWrapper> resolvePublicKey(String didKey, VerificationMethod verificationMethod,
+                                                     Function<VerificationMethod, Result<PublicKeyWrapper>> converter) {
+        var entry = entries.getIfPresent(didKey);
+        if (entry == null || entry.document().getVerificationMethod().stream().noneMatch(it -> it == verificationMethod)) {
+            return converter.apply(verificationMethod);
+        }
+        return entry.publicKeys().computeIfAbsent(verificationMethod, converter);
+    }
+
+    /**
+     * Removes all the cached documents.
+     */
+    public void invalidate() {
+        entries.invalidate();
+    }
+
+    private Expiring<Entry> resolve(String didKey, Instant resolvedAt) {
+        var result = delegate.resolveWithMetadata(didKey);
+        if (result.failed()) {
+            throw new ResolutionFailure(result.getFailureDetail());
+        }
+        var resolution = result.getContent();
+        var maxAge = resolution.maxAge() != null ? resolution.maxAge() : ttl;
+        if (maxAge.isNegative()) {
+            maxAge = Duration.ZERO;
+        }
+        var freshUntil = resolvedAt.plus(maxAge);
+        // documents that must not be cached are not served stale either
+        var staleUntil = maxAge.isZero() ? freshUntil : freshUntil.plus(staleWhileRevalidate);
+        return new Expiring<>(new Entry(resolution.document(), freshUntil, new ConcurrentHashMap<>()), freshUntil, staleUntil);
+    }
+
+    private record Entry(DidDocument document, Instant freshUntil, Map<VerificationMethod, Result<PublicKeyWrapper>> publicKeys) {
+
+        DidResolution toResolution(Instant now) {
+            var remaining = Duration.between(now, freshUntil);
+            return new DidResolution(document, remaining.isNegative() ? Duration.ZERO : remaining);
+        }
+    }
+
+    private static class ResolutionFailure extends EdcException {
+        ResolutionFailure(String message) {
+            super(message);
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.iam.did.resolution;
 
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolution;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.spi.result.Result;
@@ -40,6 +41,11 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
 
     @Override
     public Result<DidDocument> resolve(String didKey) {
+        return resolveWithMetadata(didKey).map(DidResolution::document);
+    }
+
+    @Override
+    public Result<DidResolution> resolveWithMetadata(String didKey) {
         Objects.requireNonNull(didKey);
         // for the definition of DID syntax, .cf https://www.w3.org/TR/did-core/#did-syntax
         var tokens = didKey.split(":");
@@ -54,6 +60,6 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
         if (resolver == null) {
             return Result.failure("No resolver registered for DID Method: " + methodName);
         }
-        return resolver.resolve(didKey);
+        return resolver.resolveWithMetadata(didKey);
     }
 }
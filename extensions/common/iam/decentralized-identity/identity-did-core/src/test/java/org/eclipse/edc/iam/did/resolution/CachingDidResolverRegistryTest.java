@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.did.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.document.VerificationMethod;
+import org.eclipse.edc.iam.did.spi.key.PublicKeyWrapper;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolution;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDidResolverRegistryTest {
+
+    private static final String DID = "did:web:example.com";
+
+    private final Instant now = Instant.now();
+    private final Clock clock = mock(Clock.class);
+    private final DidResolverRegistry delegate = mock(DidResolverRegistry.class);
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final CachingDidResolverRegistry registry = new CachingDidResolverRegistry(delegate, clock, Duration.ofSeconds(100),
+            Duration.ofSeconds(50), 2, refreshes::add, mock(Monitor.class));
+
+    @Test
+    void resolve_shouldReturnCachedDocument_whileFresh() {
+        var document = didDocument();
+        when(clock.instant()).thenReturn(now, now.plusSeconds(99));
+        when(delegate.resolveWithMetadata(DID)).thenReturn(Result.success(new DidResolution(document, null)));
+
+        var first = registry.resolve(DID);
+        var second = registry.resolve(DID);
+
+        assertThat(first.getContent()).isSameAs(document);
+        assertThat(second.getContent()).isSameAs(document);
+        verify(delegate, times(1)).resolveWithMetadata(DID);
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    void resolve_shouldHonourMaxAgeOfResolution() {
+        when(clock.instant()).thenReturn(now, now.plusSeconds(10), now.plusSeconds(70));
+        when(delegate.resolveWithMetadata(DID)).thenReturn(Result.success(new DidResolution(didDocument(), Duration.ofSeconds(10))),
+                Result.success(new DidResolution(didDocument(), Duration.ofSeconds(10))));
+
+        registry.resolve(DID);
+        registry.resolve(DID);
+        registry.resolve(DID);
+
+        assertThat(refreshes).hasSize(1);
+        verify(delegate, times(2)).resolveWithMetadata(DID);
+    }
+
+    @Test
+    void resolve_shouldNotCache_whenMaxAgeIsZero() {
+        when(clock.instant()).thenReturn(now);
+        when(delegate.resolveWithMetadata(DID)).thenReturn(Result.success(new DidResolution(didDocument(), Duration.ZERO)));
+
+        registry.resolve(DID);
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolveWithMetadata(DID);
+    }
+
+    @Test
+    void resolve_shouldReturnStaleDocumentAndRefreshInBackground() {
+        var stale = didDocument();
+        var refreshed = didDocument();
+        when(clock.instant()).thenReturn(now, now.plusSeconds(120), now.plusSeconds(121), now.plusSeconds(122), now.plusSeconds(123));
+        when(delegate.resolveWithMetadata(DID)).thenReturn(Result.success(new DidResolution(stale, null)), Result.success(new DidResolution(refreshed, null)));
+
+        registry.resolve(DID);
+        var whileStale = registry.resolve(DID);
+        var whileRefreshing = registry.resolve(DID);
+        assertThat(refreshes).hasSize(1);
+        refreshes.get(0).run();
+        var afterRefresh = registry.resolve(DID);
+
+        assertThat(whileStale.getContent()).isSameAs(stale);
+        assertThat(whileRefreshing.getContent()).isSameAs(stale);
+        assertThat(afterRefresh.getContent()).isSameAs(refreshed);
+        verify(delegate, times(2)).resolveWithMetadata(DID);
+    }
+
+    @Test
+    void resolve_shouldResolveAgain_whenStaleWindowIsOver() {
+        when(clock.instant()).thenReturn(now, now.plusSeconds(150));
+        when(delegate.resolveWithMetadata(DID)).thenReturn(Result.success(new DidResolution(didDocument(), null)));
+
+        registry.resolve(DID);
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolveWithMetadata(DID);
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    void resolve_shouldNotCacheFailures() {
+        when(clock.instant()).thenReturn(now);
+        when(delegate.resolveWithMetadata(DID)).thenReturn(Result.failure("error"), Result.success(new DidResolution(didDocument(), null)));
+
+        var first = registry.resolve(DID);
+        var second = registry.resolve(DID);
+
+        assertThat(first.failed()).isTrue();
+        assertThat(second.succeeded()).isTrue();
+    }
+
+    @Test
+    void resolve_shouldEvictLeastRecentlyUsedDocument_whenCacheIsFull() {
+        when(clock.instant()).thenReturn(now);
+        when(delegate.resolveWithMetadata(any())).thenAnswer(i -> Result.success(new DidResolution(didDocument(), null)));
+
+        registry.resolve(DID);
+        registry.resolve("did:web:other.com");
+        registry.resolve(DID);
+        registry.resolve("did:web:third.com");
+        registry.resolve(DID);
+        registry.resolve("did:web:other.com");
+
+        verify(delegate, times(1)).resolveWithMetadata(DID);
+        verify(delegate, times(2)).resolveWithMetadata("did:web:other.com");
+    }
+
+    @Test
+    void resolvePublicKey_shouldConvertOnce_forCachedDocument() {
+        var document = didDocument();
+        when(clock.instant()).thenReturn(now);
+        when(delegate.resolveWithMetadata(DID)).thenReturn(Result.success(new DidResolution(document, null)));
+        Function<VerificationMethod, Result<PublicKeyWrapper>> converter = mock();
+        when(converter.apply(any())).thenReturn(Result.success(mock(PublicKeyWrapper.class)));
+
+        var verificationMethod = registry.resolve(DID).getContent().getVerificationMethod().get(0);
+        var first = registry.resolvePublicKey(DID, verificationMethod, converter);
+        var second = registry.resolvePublicKey(DID, verificationMethod, converter);
+
+        assertThat(second.getContent()).isSameAs(first.getContent());
+        verify(converter, times(1)).apply(verificationMethod);
+    }
+
+    @Test
+    void resolvePublicKey_shouldConvert_whenVerificationMethodIsNotFromCachedDocument() {
+        when(clock.instant()).thenReturn(now);
+        when(delegate.resolveWithMetadata(DID)).thenReturn(Result.success(new DidResolution(didDocument(), null)));
+        Function<VerificationMethod, Result<PublicKeyWrapper>> converter = mock();
+        when(converter.apply(any())).thenReturn(Result.success(mock(PublicKeyWrapper.class)));
+        registry.resolve(DID);
+
+        var otherVerificationMethod = didDocument().getVerificationMethod().get(0);
+        registry.resolvePublicKey(DID, otherVerificationMethod, converter);
+        registry.resolvePublicKey(DID, otherVerificationMethod, converter);
+
+        verify(converter, times(2)).apply(otherVerificationMethod);
+    }
+
+    private DidDocument didDocument() {
+        var verificationMethod = VerificationMethod.Builder.create()
+                .id("#key-1")
+                .type("JsonWebKey2020")
+                .build();
+        return DidDocument.Builder.newInstance()
+                .id(DID)
+                .verificationMethod(List.of(verificationMethod))
+                .build();
+    }
+}
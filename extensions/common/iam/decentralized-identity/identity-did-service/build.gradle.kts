@@ -6,6 +6,7 @@ plugins {
 dependencies {
     api(project(":spi:common:identity-did-spi"))
     implementation(project(":extensions:common:iam:decentralized-identity:identity-did-crypto"))
+    implementation(project(":core:common:jwt-core"))
 
     testImplementation(testFixtures(project(":extensions:common:iam:decentralized-identity:identity-did-test")))
     testImplementation(project(":core:common:junit"))
@@ -25,6 +25,7 @@ import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.document.VerificationMethod;
 import org.eclipse.edc.iam.did.spi.key.PrivateKeyWrapper;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.jwt.VerifiedTokenCache;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.iam.TokenParameters;
@@ -32,6 +33,7 @@ import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.text.ParseException;
 import java.time.Clock;
@@ -47,14 +49,25 @@ public class DecentralizedIdentityService implements IdentityService {
     private final PrivateKeyWrapper privateKey;
     private final String issuer;
     private final Clock clock;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public DecentralizedIdentityService(DidResolverRegistry resolverRegistry, CredentialsVerifier credentialsVerifier, Monitor monitor, PrivateKeyWrapper privateKey, String issuer, Clock clock) {
+        this(resolverRegistry, credentialsVerifier, monitor, privateKey, issuer, clock, null);
+    }
+
+    /**
+     * Creates a service that caches the claims of the verified tokens, keyed by token and audience, until their
+     * expiration.
+     */
+    public DecentralizedIdentityService(DidResolverRegistry resolverRegistry, CredentialsVerifier credentialsVerifier, Monitor monitor, PrivateKeyWrapper privateKey, String issuer, Clock clock,
+                                        @Nullable VerifiedTokenCache verifiedTokenCache) {
         this.resolverRegistry = resolverRegistry;
         this.credentialsVerifier = credentialsVerifier;
         this.monitor = monitor;
         this.privateKey = privateKey;
         this.issuer = issuer;
         this.clock = clock;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -66,12 +79,25 @@ public class DecentralizedIdentityService implements IdentityService {
 
     @Override
     public Result<ClaimToken> verifyJwtToken(TokenRepresentation tokenRepresentation, String audience) {
+        var token = tokenRepresentation.getToken();
+        if (verifiedTokenCache == null || token == null) {
+            return verify(token, audience);
+        }
+        var cached = verifiedTokenCache.get(token, audience);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+        return verify(token, audience);
+    }
+
+    private Result<ClaimToken> verify(String token, String audience) {
         try {
-            var jwt = SignedJWT.parse(tokenRepresentation.getToken());
+            var jwt = SignedJWT.parse(token);
             monitor.debug("Starting verification...");
 
             monitor.debug("Resolving other party's DID Document");
-            var didResult = resolverRegistry.resolve(jwt.getJWTClaimsSet().getIssuer());
+            var issuer = jwt.getJWTClaimsSet().getIssuer();
+            var didResult = resolverRegistry.resolve(issuer);
             if (didResult.failed()) {
                 return Result.failure("Unable to resolve DID: " + String.join(", ", didResult.getFailureMessages()));
             }
@@ -84,8 +110,8 @@ public class DecentralizedIdentityService implements IdentityService {
             }
 
             //convert the POJO into a usable PK-wrapper:
-            var publicKeyJwk = publicKey.get().getPublicKeyJwk();
-            var publicKeyWrapperResult = KeyConverter.toPublicKeyWrapper(publicKeyJwk, publicKey.get().getId());
+            var publicKeyWrapperResult = resolverRegistry.resolvePublicKey(issuer, publicKey.get(),
+                    method -> KeyConverter.toPublicKeyWrapper(method.getPublicKeyJwk(), method.getId()));
             if (publicKeyWrapperResult.failed()) {
                 monitor.debug("Failed to convert JWK into public key wrapper");
                 return publicKeyWrapperResult.mapTo();
@@ -108,9 +134,13 @@ public class DecentralizedIdentityService implements IdentityService {
             monitor.debug("Building ClaimToken");
             var claimToken = ClaimToken.Builder.newInstance()
                     .claims(credentialsResult.getContent())
-                    .claim(DEFAULT_IDENTITY_CLAIM_KEY, jwt.getJWTClaimsSet().getIssuer())
+                    .claim(DEFAULT_IDENTITY_CLAIM_KEY, issuer)
                     .build();
 
+            if (verifiedTokenCache != null) {
+                var expiration = jwt.getJWTClaimsSet().getExpirationTime();
+                verifiedTokenCache.put(token, audience, claimToken, expiration != null ? expiration.toInstant() : null);
+            }
             return Result.success(claimToken);
         } catch (ParseException e) {
             monitor.severe("Error parsing JWT", e);
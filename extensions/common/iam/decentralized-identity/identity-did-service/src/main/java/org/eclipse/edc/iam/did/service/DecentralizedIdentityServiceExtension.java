@@ -18,17 +18,21 @@ package org.eclipse.edc.iam.did.service;
 import org.eclipse.edc.iam.did.spi.credentials.CredentialsVerifier;
 import org.eclipse.edc.iam.did.spi.key.PrivateKeyWrapper;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.edc.jwt.VerifiedTokenCache;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
+import org.eclipse.edc.spi.system.MetricsInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Objects;
 
 import static java.lang.String.format;
@@ -39,6 +43,13 @@ import static org.eclipse.edc.iam.did.spi.document.DidConstants.DID_URL_SETTING;
 public class DecentralizedIdentityServiceExtension implements ServiceExtension {
 
     public static final String NAME = "Distributed Identity Service";
+
+    @Setting(value = "Maximum number of verified incoming tokens cached, 0 disables the cache", defaultValue = "0")
+    public static final String VALIDATION_CACHE_SIZE = "edc.iam.did.validation.cache.size";
+
+    @Setting(value = "Maximum seconds a verified incoming token is cached, regardless of its expiration", defaultValue = "60")
+    public static final String VALIDATION_CACHE_MAX_TTL = "edc.iam.did.validation.cache.max-ttl";
+
     @Inject
     private DidResolverRegistry resolverRegistry;
 
@@ -51,6 +62,9 @@ public class DecentralizedIdentityServiceExtension implements ServiceExtension {
     @Inject
     private Clock clock;
 
+    @Inject
+    private MetricsInstrumentation metricsInstrumentation;
+
     @Override
     public String name() {
         return NAME;
@@ -68,6 +82,12 @@ public class DecentralizedIdentityServiceExtension implements ServiceExtension {
         var privateKey = privateKeyResolver.resolvePrivateKey(connectorName, PrivateKeyWrapper.class);
         Objects.requireNonNull(privateKey, "Couldn't resolve private key for " + connectorName);
 
-        return new DecentralizedIdentityService(resolverRegistry, credentialsVerifier, context.getMonitor(), privateKey, didUrl, clock);
+        var cacheSize = context.getSetting(VALIDATION_CACHE_SIZE, 0);
+        VerifiedTokenCache verifiedTokenCache = null;
+        if (cacheSize > 0) {
+            verifiedTokenCache = new VerifiedTokenCache(clock, Duration.ofSeconds(context.getSetting(VALIDATION_CACHE_MAX_TTL, 60)), cacheSize);
+            verifiedTokenCache.registerMetrics(metricsInstrumentation, "did");
+        }
+        return new DecentralizedIdentityService(resolverRegistry, credentialsVerifier, context.getMonitor(), privateKey, didUrl, clock, verifiedTokenCache);
     }
 }
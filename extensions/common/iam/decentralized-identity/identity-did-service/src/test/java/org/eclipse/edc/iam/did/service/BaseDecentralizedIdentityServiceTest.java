@@ -61,6 +61,7 @@ abstract class BaseDecentralizedIdentityServiceTest {
 
     @BeforeEach
     void setUp() {
+        when(didResolverRegistryMock.resolvePublicKey(anyString(), any(), any())).thenCallRealMethod();
         identityService = new DecentralizedIdentityService(didResolverRegistryMock, credentialsVerifierMock, new ConsoleMonitor(), privateKeyWrapper(keyPair), DID_URL, Clock.systemUTC());
     }
 
@@ -24,6 +24,7 @@ import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.List;
@@ -38,6 +39,7 @@ public class Oauth2ClientImpl implements Oauth2Client {
     private static final String FORM_URLENCODED = "application/x-www-form-urlencoded";
     private static final String APPLICATION_JSON = "application/json";
     private static final String RESPONSE_ACCESS_TOKEN_CLAIM = "access_token";
+    private static final String RESPONSE_EXPIRES_IN_CLAIM = "expires_in";
 
     private final EdcHttpClient httpClient;
     private final TypeManager typeManager;
@@ -55,8 +57,25 @@ public class Oauth2ClientImpl implements Oauth2Client {
     private Result<TokenRepresentation> handleResponse(Response response) {
         return getStringBody(response)
                 .map(it -> typeManager.readValue(it, Map.class))
-                .map(it -> it.get(RESPONSE_ACCESS_TOKEN_CLAIM).toString())
-                .map(it -> TokenRepresentation.Builder.newInstance().token(it).build());
+                .map(it -> TokenRepresentation.Builder.newInstance()
+                        .token(it.get(RESPONSE_ACCESS_TOKEN_CLAIM).toString())
+                        .expiresIn(toExpiresIn(it.get(RESPONSE_EXPIRES_IN_CLAIM)))
+                        .build());
+    }
+
+    @Nullable
+    private static Long toExpiresIn(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String string) {
+            try {
+                return Long.parseLong(string);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
     }
 
     private static Request toRequest(Oauth2CredentialsRequest request) {
@@ -18,6 +18,7 @@ package org.eclipse.edc.iam.oauth2;
 import org.eclipse.edc.iam.oauth2.identity.IdentityProviderKeyResolver;
 import org.eclipse.edc.iam.oauth2.identity.IdentityProviderKeyResolverConfiguration;
 import org.eclipse.edc.iam.oauth2.identity.Oauth2ServiceImpl;
+import org.eclipse.edc.iam.oauth2.identity.Oauth2TokenCache;
 import org.eclipse.edc.iam.oauth2.jwt.Oauth2JwtDecoratorRegistryRegistryImpl;
 import org.eclipse.edc.iam.oauth2.jwt.X509CertificateDecorator;
 import org.eclipse.edc.iam.oauth2.rule.Oauth2ValidationRulesRegistryImpl;
@@ -26,8 +27,11 @@ import org.eclipse.edc.iam.oauth2.spi.Oauth2AssertionDecorator;
 import org.eclipse.edc.iam.oauth2.spi.Oauth2JwtDecoratorRegistry;
 import org.eclipse.edc.iam.oauth2.spi.Oauth2ValidationRulesRegistry;
 import org.eclipse.edc.iam.oauth2.spi.client.Oauth2Client;
+import org.eclipse.edc.jwt.CachingTokenValidationService;
 import org.eclipse.edc.jwt.TokenGenerationServiceImpl;
 import org.eclipse.edc.jwt.TokenValidationServiceImpl;
+import org.eclipse.edc.jwt.VerifiedTokenCache;
+import org.eclipse.edc.jwt.spi.TokenValidationService;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
@@ -37,13 +41,19 @@ import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.jetbrains.annotations.Nullable;
 
 import java.security.PrivateKey;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -81,7 +91,18 @@ public class Oauth2ServiceExtension implements ServiceExtension {
     private static final String CLIENT_ID = "edc.oauth.client.id";
     @Setting
     private static final String NOT_BEFORE_LEEWAY = "edc.oauth.validation.nbf.leeway";
+    @Setting(value = "Whether the tokens obtained from the authorization server are cached until their expiration", defaultValue = "true")
+    private static final String TOKEN_CACHE_ENABLED = "edc.oauth.token.cache.enabled";
+    @Setting(value = "Seconds subtracted from the token 'expires_in' lifetime before a cached token is no longer used", defaultValue = "30")
+    private static final String TOKEN_CACHE_EXPIRY_MARGIN = "edc.oauth.token.cache.expiry-margin";
+    @Setting(value = "Maximum number of cached tokens, the least recently used ones are evicted first", defaultValue = "1000")
+    private static final String TOKEN_CACHE_MAX_SIZE = "edc.oauth.token.cache.max-size";
+    @Setting(value = "Maximum number of verified incoming tokens cached, 0 disables the cache", defaultValue = "0")
+    private static final String VALIDATION_CACHE_SIZE = "edc.oauth.validation.cache.size";
+    @Setting(value = "Maximum seconds a verified incoming token is cached, regardless of its expiration", defaultValue = "60")
+    private static final String VALIDATION_CACHE_MAX_TTL = "edc.oauth.validation.cache.max-ttl";
     private IdentityProviderKeyResolver providerKeyResolver;
+    private ExecutorService tokenRefreshExecutor;
 
     @Inject
     private EdcHttpClient httpClient;
@@ -104,6 +125,12 @@ public class Oauth2ServiceExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private MetricsInstrumentation metricsInstrumentation;
+
     @Override
     public String name() {
         return NAME;
@@ -136,8 +163,9 @@ public class Oauth2ServiceExtension implements ServiceExtension {
                 new TokenGenerationServiceImpl(privateKey),
                 oauth2Client,
                 jwtDecoratorRegistry,
-                new TokenValidationServiceImpl(configuration.getIdentityProviderKeyResolver(), validationRulesRegistry),
-                credentialsRequestAdditionalParametersProvider
+                createTokenValidationService(context, configuration, validationRulesRegistry),
+                credentialsRequestAdditionalParametersProvider,
+                createTokenCache(context)
         );
 
         context.registerService(IdentityService.class, oauth2Service);
@@ -151,6 +179,33 @@ public class Oauth2ServiceExtension implements ServiceExtension {
     @Override
     public void shutdown() {
         providerKeyResolver.stop();
+        if (tokenRefreshExecutor != null) {
+            tokenRefreshExecutor.shutdownNow();
+        }
+    }
+
+    private TokenValidationService createTokenValidationService(ServiceExtensionContext context, Oauth2ServiceConfiguration configuration,
+                                                                Oauth2ValidationRulesRegistry validationRulesRegistry) {
+        var tokenValidationService = new TokenValidationServiceImpl(configuration.getIdentityProviderKeyResolver(), validationRulesRegistry);
+        var cacheSize = context.getSetting(VALIDATION_CACHE_SIZE, 0);
+        if (cacheSize <= 0) {
+            return tokenValidationService;
+        }
+        var maxTtl = Duration.ofSeconds(context.getSetting(VALIDATION_CACHE_MAX_TTL, 60));
+        var verifiedTokenCache = new VerifiedTokenCache(clock, maxTtl, cacheSize);
+        verifiedTokenCache.registerMetrics(metricsInstrumentation, "oauth2");
+        return new CachingTokenValidationService(tokenValidationService, verifiedTokenCache);
+    }
+
+    @Nullable
+    private Oauth2TokenCache createTokenCache(ServiceExtensionContext context) {
+        if (!context.getSetting(TOKEN_CACHE_ENABLED, true)) {
+            return null;
+        }
+        var expiryMargin = Duration.ofSeconds(context.getSetting(TOKEN_CACHE_EXPIRY_MARGIN, 30));
+        tokenRefreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "OAuth2 token refresh");
+        var maxSize = context.getSetting(TOKEN_CACHE_MAX_SIZE, 1000);
+        return new Oauth2TokenCache(clock, expiryMargin, maxSize, tokenRefreshExecutor, context.getMonitor());
     }
 
     private Oauth2ServiceConfiguration createConfig(ServiceExtensionContext context) {
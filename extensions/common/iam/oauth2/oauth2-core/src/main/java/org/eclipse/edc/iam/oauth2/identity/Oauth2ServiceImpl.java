@@ -32,6 +32,9 @@ import org.eclipse.edc.spi.iam.TokenParameters;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
 
 /**
  * Implements the OAuth2 client credentials flow and bearer token validation.
@@ -46,6 +49,7 @@ public class Oauth2ServiceImpl implements IdentityService {
     private final TokenGenerationService tokenGenerationService;
     private final TokenValidationService tokenValidationService;
     private final CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider;
+    private final Oauth2TokenCache tokenCache;
 
     /**
      * Creates a new instance of the OAuth2 Service
@@ -60,19 +64,40 @@ public class Oauth2ServiceImpl implements IdentityService {
     public Oauth2ServiceImpl(Oauth2ServiceConfiguration configuration, TokenGenerationService tokenGenerationService,
                              Oauth2Client client, JwtDecoratorRegistry jwtDecoratorRegistry, TokenValidationService tokenValidationService,
                              CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider) {
+        this(configuration, tokenGenerationService, client, jwtDecoratorRegistry, tokenValidationService, credentialsRequestAdditionalParametersProvider, null);
+    }
+
+    /**
+     * Creates a new instance of the OAuth2 Service that caches the obtained tokens
+     *
+     * @param configuration                                  The configuration
+     * @param tokenGenerationService                         Service used to generate the signed tokens
+     * @param client                                         client for Oauth2 server
+     * @param jwtDecoratorRegistry                           Registry containing the decorator for build the JWT
+     * @param tokenValidationService                         Service used for token validation
+     * @param credentialsRequestAdditionalParametersProvider Provides additional form parameters
+     * @param tokenCache                                     Cache for the obtained tokens, null to disable caching
+     */
+    public Oauth2ServiceImpl(Oauth2ServiceConfiguration configuration, TokenGenerationService tokenGenerationService,
+                             Oauth2Client client, JwtDecoratorRegistry jwtDecoratorRegistry, TokenValidationService tokenValidationService,
+                             CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider, @Nullable Oauth2TokenCache tokenCache) {
         this.configuration = configuration;
         this.client = client;
         this.jwtDecoratorRegistry = jwtDecoratorRegistry;
         this.tokenGenerationService = tokenGenerationService;
         this.tokenValidationService = tokenValidationService;
         this.credentialsRequestAdditionalParametersProvider = credentialsRequestAdditionalParametersProvider;
+        this.tokenCache = tokenCache;
     }
 
     @Override
     public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
-        return generateClientAssertion()
-                .map(assertion -> createRequest(parameters, assertion))
-                .compose(client::requestToken);
+        var additionalParameters = credentialsRequestAdditionalParametersProvider.provide(parameters);
+        if (tokenCache == null) {
+            return requestToken(parameters, additionalParameters);
+        }
+        var key = new TokenCacheKey(parameters.getAudience(), parameters.getScope(), parameters.getAdditional(), additionalParameters);
+        return tokenCache.get(key, () -> requestToken(parameters, additionalParameters));
     }
 
     @Override
@@ -80,6 +105,12 @@ public class Oauth2ServiceImpl implements IdentityService {
         return tokenValidationService.validate(tokenRepresentation);
     }
 
+    private Result<TokenRepresentation> requestToken(TokenParameters parameters, Map<String, String> additionalParameters) {
+        return generateClientAssertion()
+                .map(assertion -> createRequest(parameters, additionalParameters, assertion))
+                .compose(client::requestToken);
+    }
+
     @NotNull
     private Result<String> generateClientAssertion() {
         var decorators = jwtDecoratorRegistry.getAll().toArray(JwtDecorator[]::new);
@@ -88,14 +119,16 @@ public class Oauth2ServiceImpl implements IdentityService {
     }
 
     @NotNull
-    private Oauth2CredentialsRequest createRequest(TokenParameters parameters, String assertion) {
+    private Oauth2CredentialsRequest createRequest(TokenParameters parameters, Map<String, String> additionalParameters, String assertion) {
         return PrivateKeyOauth2CredentialsRequest.Builder.newInstance()
                 .url(configuration.getTokenUrl())
                 .clientAssertion(assertion)
                 .scope(parameters.getScope())
                 .grantType(GRANT_TYPE)
-                .params(credentialsRequestAdditionalParametersProvider.provide(parameters))
+                .params(additionalParameters)
                 .build();
     }
 
+    private record TokenCacheKey(String audience, String scope, Map<String, Object> additional, Map<String, String> additionalParameters) {
+    }
 }
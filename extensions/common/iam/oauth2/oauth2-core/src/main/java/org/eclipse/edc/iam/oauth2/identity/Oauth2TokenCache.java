@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.oauth2.identity;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.concurrency.RefreshingCache;
+import org.eclipse.edc.util.concurrency.RefreshingCache.Expiring;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Caches the tokens obtained through the client credentials flow. A token is reused until its {@code expires_in}
+ * lifetime minus the configured margin has elapsed, tokens without a stated lifetime are not cached.
+ * <p>
+ * Concurrent requests for the same key wait for a single token request. Once three quarters of the usable lifetime are
+ * elapsed the cached token is still returned and a new one is requested on the refresh executor, so callers don't
+ * block on the identity provider while the token is valid.
+ */
+public class Oauth2TokenCache {
+
+    private final Clock clock;
+    private final Duration expiryMargin;
+    private final RefreshingCache<Object, TokenRepresentation> tokens;
+
+    public Oauth2TokenCache(Clock clock, Duration expiryMargin, int maxSize, Executor refreshExecutor, Monitor monitor) {
+        this.clock = clock;
+        this.expiryMargin = expiryMargin;
+        this.tokens = new RefreshingCache<>(clock, maxSize, refreshExecutor, (key, failure) ->
+                monitor.warning("OAuth2 token refresh failed, the cached token will be used until expiration", failure));
+    }
+
+    /**
+     * Returns the cached token for the key, or requests a new one.
+     *
+     * @param key the cache key, must implement equals and hashCode.
+     * @param tokenRequest requests a token from the identity provider, called on cache miss and on refresh.
+     * @return the token, or the failure of the token request.
+     */
+    public Result<TokenRepresentation> get(Object key, Supplier<Result<TokenRepresentation>> tokenRequest) {
+        try {
+            return Result.success(tokens.get(key, clock.instant(), obtainedAt -> requestToken(tokenRequest, obtainedAt)));
+        } catch (TokenRequestFailure e) {
+            return Result.failure(e.getMessage());
+        }
+    }
+
+    /**
+     * Removes all the cached tokens.
+     */
+    public void invalidate() {
+        tokens.invalidate();
+    }
+
+    private Expiring<TokenRepresentation> requestToken(Supplier<Result<TokenRepresentation>> tokenRequest, Instant obtainedAt) {
+        var result = tokenRequest.get();
+        if (result.failed()) {
+            throw new TokenRequestFailure(result.getFailureDetail());
+        }
+        var token = result.getContent();
+        var usableLifetime = token.getExpiresIn() == null ? Duration.ZERO : Duration.ofSeconds(token.getExpiresIn()).minus(expiryMargin);
+        if (usableLifetime.isNegative()) {
+            usableLifetime = Duration.ZERO;
+        }
+        return new Expiring<>(token, obtainedAt.plus(usableLifetime.multipliedBy(3).dividedBy(4)), obtainedAt.plus(usableLifetime));
+    }
+
+    private static class TokenRequestFailure extends EdcException {
+        TokenRequestFailure(String message) {
+            super(message);
+        }
+    }
+}
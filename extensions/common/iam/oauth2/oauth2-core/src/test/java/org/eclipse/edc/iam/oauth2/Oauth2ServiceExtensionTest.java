@@ -21,6 +21,7 @@ import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.configuration.Config;
 import org.eclipse.edc.spi.system.configuration.ConfigFactory;
@@ -59,6 +60,7 @@ class Oauth2ServiceExtensionTest {
         context.registerService(CredentialsRequestAdditionalParametersProvider.class, mock(CredentialsRequestAdditionalParametersProvider.class));
         context.registerService(PrivateKeyResolver.class, privateKeyResolver);
         context.registerService(EdcHttpClient.class, mock(EdcHttpClient.class));
+        context.registerService(ExecutorInstrumentation.class, ExecutorInstrumentation.noop());
         extension = factory.constructInstance(Oauth2ServiceExtension.class);
         this.context = spy(context);
     }
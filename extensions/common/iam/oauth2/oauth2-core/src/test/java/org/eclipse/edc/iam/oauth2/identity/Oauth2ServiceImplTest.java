@@ -40,6 +40,7 @@ import org.eclipse.edc.jwt.spi.TokenGenerationService;
 import org.eclipse.edc.spi.iam.PublicKeyResolver;
 import org.eclipse.edc.spi.iam.TokenParameters;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
@@ -48,6 +49,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
@@ -62,6 +64,7 @@ import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.NOT_BEFORE;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -79,6 +82,9 @@ class Oauth2ServiceImplTest {
     private final TokenGenerationService tokenGenerationService = mock(TokenGenerationService.class);
     private final CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider = mock(CredentialsRequestAdditionalParametersProvider.class);
     private final JwtDecorator jwtDecorator = mock(JwtDecorator.class);
+    private Oauth2ServiceConfiguration configuration;
+    private TokenValidationServiceImpl tokenValidationService;
+    private JwtDecoratorRegistryImpl jwtDecoratorRegistry;
     private Oauth2ServiceImpl authService;
     private JWSSigner jwsSigner;
 
@@ -91,7 +97,7 @@ class Oauth2ServiceImplTest {
         var privateKeyResolverMock = mock(PrivateKeyResolver.class);
         var certificateResolverMock = mock(CertificateResolver.class);
         when(publicKeyResolverMock.resolveKey(anyString())).thenReturn(testKey.toPublicKey());
-        var configuration = Oauth2ServiceConfiguration.Builder.newInstance()
+        configuration = Oauth2ServiceConfiguration.Builder.newInstance()
                 .tokenUrl(OAUTH2_SERVER_URL)
                 .clientId(CLIENT_ID)
                 .privateKeyAlias(PRIVATE_KEY_ALIAS)
@@ -105,9 +111,9 @@ class Oauth2ServiceImplTest {
 
         var clock = Clock.fixed(now, UTC);
         var validationRulesRegistry = new Oauth2ValidationRulesRegistryImpl(configuration, clock);
-        var tokenValidationService = new TokenValidationServiceImpl(publicKeyResolverMock, validationRulesRegistry);
+        tokenValidationService = new TokenValidationServiceImpl(publicKeyResolverMock, validationRulesRegistry);
 
-        var jwtDecoratorRegistry = new JwtDecoratorRegistryImpl();
+        jwtDecoratorRegistry = new JwtDecoratorRegistryImpl();
         jwtDecoratorRegistry.register(jwtDecorator);
 
         authService = new Oauth2ServiceImpl(configuration, tokenGenerationService, client, jwtDecoratorRegistry, tokenValidationService, credentialsRequestAdditionalParametersProvider);
@@ -187,6 +193,25 @@ class Oauth2ServiceImplTest {
         assertThat(result.getFailureDetail()).contains("test error");
     }
 
+    @Test
+    void obtainClientCredentials_shouldReuseCachedToken_forSameParameters() {
+        var tokenCache = new Oauth2TokenCache(Clock.fixed(now, UTC), Duration.ofSeconds(10), 10, Runnable::run, mock(Monitor.class));
+        var cachingService = new Oauth2ServiceImpl(configuration, tokenGenerationService, client, jwtDecoratorRegistry, tokenValidationService, credentialsRequestAdditionalParametersProvider, tokenCache);
+        when(credentialsRequestAdditionalParametersProvider.provide(any())).thenReturn(emptyMap());
+        when(tokenGenerationService.generate(any())).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("assertionToken").build()));
+        when(client.requestToken(any())).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("accessToken").expiresIn(3600L).build()));
+
+        var first = cachingService.obtainClientCredentials(TokenParameters.Builder.newInstance().audience("audience").scope("scope").build());
+        var second = cachingService.obtainClientCredentials(TokenParameters.Builder.newInstance().audience("audience").scope("scope").build());
+        var otherAudience = cachingService.obtainClientCredentials(TokenParameters.Builder.newInstance().audience("other").scope("scope").build());
+
+        assertThat(first.getContent().getToken()).isEqualTo("accessToken");
+        assertThat(second.getContent().getToken()).isEqualTo("accessToken");
+        assertThat(otherAudience.succeeded()).isTrue();
+        verify(client, times(2)).requestToken(any());
+        verify(tokenGenerationService, times(2)).generate(any());
+    }
+
     @Test
     void verifyNoAudienceToken() {
         var jwt = createJwt(null, Date.from(now.minusSeconds(1000)), Date.from(now.plusSeconds(1000)));
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.oauth2.identity;
+
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class Oauth2TokenCacheTest {
+
+    private final Instant now = Instant.now();
+    private final Clock clock = mock(Clock.class);
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final Oauth2TokenCache cache = new Oauth2TokenCache(clock, Duration.ofSeconds(20), 10, refreshes::add, mock(Monitor.class));
+    @SuppressWarnings("unchecked")
+    private final Supplier<Result<TokenRepresentation>> tokenRequest = mock(Supplier.class);
+
+    @Test
+    void get_shouldReuseToken_untilExpiryMarginIsReached() {
+        when(clock.instant()).thenReturn(now, now.plusSeconds(50), now.plusSeconds(100));
+        when(tokenRequest.get()).thenReturn(token("first", 100L), token("second", 100L));
+
+        var first = cache.get("key", tokenRequest);
+        var second = cache.get("key", tokenRequest);
+        var third = cache.get("key", tokenRequest);
+
+        assertThat(first.getContent().getToken()).isEqualTo("first");
+        assertThat(second.getContent().getToken()).isEqualTo("first");
+        assertThat(third.getContent().getToken()).isEqualTo("second");
+        verify(tokenRequest, times(2)).get();
+    }
+
+    @Test
+    void get_shouldRequestTokenForEveryKey() {
+        when(clock.instant()).thenReturn(now);
+        when(tokenRequest.get()).thenReturn(token("first", 100L), token("second", 100L));
+
+        var first = cache.get("key", tokenRequest);
+        var second = cache.get("other-key", tokenRequest);
+
+        assertThat(first.getContent().getToken()).isEqualTo("first");
+        assertThat(second.getContent().getToken()).isEqualTo("second");
+    }
+
+    @Test
+    void get_shouldNotCache_whenExpiresInIsMissing() {
+        when(clock.instant()).thenReturn(now);
+        when(tokenRequest.get()).thenReturn(token("first", null), token("second", null));
+
+        cache.get("key", tokenRequest);
+        var second = cache.get("key", tokenRequest);
+
+        assertThat(second.getContent().getToken()).isEqualTo("second");
+        verify(tokenRequest, times(2)).get();
+    }
+
+    @Test
+    void get_shouldNotCacheFailures() {
+        when(clock.instant()).thenReturn(now);
+        when(tokenRequest.get()).thenReturn(Result.failure("error"), token("token", 100L));
+
+        var first = cache.get("key", tokenRequest);
+        var second = cache.get("key", tokenRequest);
+
+        assertThat(first.failed()).isTrue();
+        assertThat(second.getContent().getToken()).isEqualTo("token");
+    }
+
+    @Test
+    void get_shouldRefreshInBackground_whenRefreshTimeIsReached() {
+        when(clock.instant()).thenReturn(now, now.plusSeconds(70), now.plusSeconds(70), now.plusSeconds(71), now.plusSeconds(72));
+        when(tokenRequest.get()).thenReturn(token("first", 100L), token("second", 100L));
+
+        cache.get("key", tokenRequest);
+        var beforeRefresh = cache.get("key", tokenRequest);
+        var whileRefreshing = cache.get("key", tokenRequest);
+        assertThat(refreshes).hasSize(1);
+        refreshes.get(0).run();
+        var afterRefresh = cache.get("key", tokenRequest);
+
+        assertThat(beforeRefresh.getContent().getToken()).isEqualTo("first");
+        assertThat(whileRefreshing.getContent().getToken()).isEqualTo("first");
+        assertThat(afterRefresh.getContent().getToken()).isEqualTo("second");
+        verify(tokenRequest, times(2)).get();
+    }
+
+    @Test
+    void get_shouldRequestTokenOnce_whenCalledConcurrently() throws InterruptedException {
+        when(clock.instant()).thenReturn(now);
+        var requested = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(tokenRequest.get()).thenAnswer(i -> {
+            requested.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return token("token", 100L);
+        });
+
+        var first = CompletableFuture.supplyAsync(() -> cache.get("key", tokenRequest));
+        assertThat(requested.await(10, TimeUnit.SECONDS)).isTrue();
+        var second = new CompletableFuture<Result<TokenRepresentation>>();
+        var secondCaller = new Thread(() -> second.complete(cache.get("key", tokenRequest)));
+        secondCaller.start();
+        await().untilAsserted(() -> assertThat(secondCaller.getState()).isEqualTo(Thread.State.WAITING));
+        release.countDown();
+
+        assertThat(first.join().getContent().getToken()).isEqualTo("token");
+        assertThat(second.join().getContent().getToken()).isEqualTo("token");
+        verify(tokenRequest, times(1)).get();
+    }
+
+    private Result<TokenRepresentation> token(String token, Long expiresIn) {
+        return Result.success(TokenRepresentation.Builder.newInstance().token(token).expiresIn(expiresIn).build());
+    }
+}
@@ -32,11 +32,9 @@ import java.io.File;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static jakarta.json.Json.createBuilderFactory;
 import static jakarta.json.Json.createObjectBuilder;
-import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
 import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
@@ -48,6 +46,8 @@ public class TitaniumJsonLd implements JsonLd {
     private final Monitor monitor;
     private final Map<String, String> additionalNamespaces = new HashMap<>();
     private final CachedDocumentLoader documentLoader;
+    private final JsonLdOptions options;
+    private volatile JsonDocument compactionContext;
 
     public TitaniumJsonLd(Monitor monitor) {
         this(monitor, JsonLdConfiguration.Builder.newInstance().build());
@@ -56,6 +56,7 @@ public class TitaniumJsonLd implements JsonLd {
     public TitaniumJsonLd(Monitor monitor, JsonLdConfiguration configuration) {
         this.monitor = monitor;
         this.documentLoader = new CachedDocumentLoader(configuration);
+        this.options = new JsonLdOptions(documentLoader);
     }
 
     @Override
@@ -63,7 +64,7 @@ public class TitaniumJsonLd implements JsonLd {
         try {
             var document = JsonDocument.of(injectVocab(json));
             var expanded = com.apicatalog.jsonld.JsonLd.expand(document)
-                    .options(new JsonLdOptions(documentLoader))
+                    .options(options)
                     .get();
             if (expanded.size() > 0) {
                 return Result.success(expanded.getJsonObject(0));
@@ -79,11 +80,9 @@ public class TitaniumJsonLd implements JsonLd {
     public Result<JsonObject> compact(JsonObject json) {
         try {
             var document = JsonDocument.of(json);
-            var jsonFactory = createBuilderFactory(Map.of());
-            var contextDocument = JsonDocument.of(jsonFactory.createObjectBuilder()
-                    .add(CONTEXT, createContextObject())
-                    .build());
-            var compacted = com.apicatalog.jsonld.JsonLd.compact(document, contextDocument).get();
+            var compacted = com.apicatalog.jsonld.JsonLd.compact(document, compactionContext())
+                    .options(options)
+                    .get();
             return Result.success(compacted);
         } catch (JsonLdError e) {
             monitor.warning("Error compacting JSON-LD structure", e);
@@ -94,6 +93,7 @@ public class TitaniumJsonLd implements JsonLd {
     @Override
     public void registerNamespace(String prefix, String contextIri) {
         additionalNamespaces.put(prefix, contextIri);
+        compactionContext = null;
     }
 
     @Override
@@ -102,31 +102,39 @@ public class TitaniumJsonLd implements JsonLd {
     }
 
     private JsonObject injectVocab(JsonObject json) {
-        var jsonObjectBuilder = createObjectBuilder(json);
-
         //only inject the vocab if the @context is an object, not a URL
-        if (json.get(CONTEXT) instanceof JsonObject) {
-            var contextObject = ofNullable(json.getJsonObject(CONTEXT)).orElseGet(() -> createObjectBuilder().build());
-            var contextBuilder = createObjectBuilder(contextObject);
-            if (!contextObject.containsKey(VOCAB)) {
-                var newContextObject = contextBuilder
-                        .add(VOCAB, EDC_NAMESPACE)
-                        .build();
-                jsonObjectBuilder.add(CONTEXT, newContextObject);
-            }
+        if (json.get(CONTEXT) instanceof JsonObject contextObject && !contextObject.containsKey(VOCAB)) {
+            var newContextObject = createObjectBuilder(contextObject)
+                    .add(VOCAB, EDC_NAMESPACE)
+                    .build();
+            return createObjectBuilder(json).add(CONTEXT, newContextObject).build();
         }
-        return jsonObjectBuilder.build();
+        return json;
     }
 
-    private JsonObject createContextObject() {
-        var builder = createObjectBuilder();
-        additionalNamespaces.forEach(builder::add);
-        return builder.build();
+    /**
+     * Returns the compaction context built from the registered namespaces, it's built again only after a new namespace
+     * gets registered.
+     */
+    private JsonDocument compactionContext() {
+        var context = compactionContext;
+        if (context == null) {
+            var builder = createObjectBuilder();
+            additionalNamespaces.forEach(builder::add);
+            context = JsonDocument.of(createObjectBuilder().add(CONTEXT, builder.build()).build());
+            compactionContext = context;
+        }
+        return context;
     }
 
+    /**
+     * Loads the documents registered as files from the file system, the parsed documents are kept in memory, so the
+     * well-known contexts are loaded only once. Any other document is loaded every time through the enabled schemes.
+     */
     private static class CachedDocumentLoader implements DocumentLoader {
 
-        private final Map<String, File> cache = new HashMap<>();
+        private final Map<String, File> cache = new ConcurrentHashMap<>();
+        private final Map<String, Document> documents = new ConcurrentHashMap<>();
         private final DocumentLoader loader;
 
         CachedDocumentLoader(JsonLdConfiguration configuration) {
@@ -138,16 +146,22 @@ public class TitaniumJsonLd implements JsonLd {
 
         @Override
         public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
-            var uri = Optional.of(url.toString())
-                    .map(cache::get)
-                    .map(File::toURI)
-                    .orElse(url);
-
-            return loader.loadDocument(uri, options);
+            var key = url.toString();
+            var file = cache.get(key);
+            if (file == null) {
+                return loader.loadDocument(url, options);
+            }
+            var document = documents.get(key);
+            if (document == null) {
+                document = loader.loadDocument(file.toURI(), options);
+                documents.put(key, document);
+            }
+            return document;
         }
 
         public void register(String contextUrl, File file) {
             cache.put(contextUrl, file);
+            documents.remove(contextUrl);
         }
     }
 }
@@ -23,6 +23,7 @@ import org.eclipse.edc.transform.spi.TransformerContext;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_CURSOR;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -51,6 +52,8 @@ public class JsonObjectToQuerySpecTransformer extends AbstractJsonLdTransformer<
                     return v -> builder.sortOrder(SortOrder.valueOf(transformString(v, context)));
                 case EDC_QUERY_SPEC_SORT_FIELD:
                     return v -> builder.sortField(transformString(v, context));
+                case EDC_QUERY_SPEC_CURSOR:
+                    return v -> builder.cursor(transformString(v, context));
                 default:
                     return doNothing();
             }
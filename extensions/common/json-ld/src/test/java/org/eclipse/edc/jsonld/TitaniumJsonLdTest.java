@@ -20,9 +20,13 @@ import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockserver.integration.ClientAndServer;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createObjectBuilder;
@@ -163,6 +167,42 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void documentResolution_shouldLoadRegisteredFileOnce(@TempDir Path tempDir) throws IOException {
+        var contextUrl = "http://localhost:" + port;
+        var contextFile = tempDir.resolve("context.jsonld");
+        Files.writeString(contextFile, getResourceFileContentAsString("test-context.jsonld"));
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, contextUrl)
+                .add("test:key", "value")
+                .build();
+        var service = defaultService();
+        service.registerCachedDocument(contextUrl, contextFile.toFile());
+
+        var first = service.expand(jsonObject);
+        Files.delete(contextFile);
+        var second = service.expand(jsonObject);
+
+        assertThat(first).isSucceeded();
+        assertThat(second).isSucceeded().satisfies(json -> assertThat(json).isEqualTo(first.getContent()));
+    }
+
+    @Test
+    void compact_shouldUseNamespaceRegisteredAfterCompaction() {
+        var ns = "https://test.org/schema/";
+        var prefix = "customContext";
+        var expanded = createObjectBuilder()
+                .add(ns + "key", createArrayBuilder().add(createObjectBuilder().add(VALUE, "value").build()).build())
+                .build();
+        var service = defaultService();
+        service.compact(expanded);
+
+        service.registerNamespace(prefix, ns);
+        var compacted = service.compact(expanded);
+
+        assertThat(compacted).isSucceeded().satisfies(c -> assertThat(c.getString(prefix + ":key")).isEqualTo("value"));
+    }
+
     @Test
     void documentResolution_shouldFailByDefault_whenContextIsNotRegisteredAndHttpIsNotEnabled() {
         server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
@@ -28,11 +28,12 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 @BaseExtension
-@Provides({ EventListener.class, ExecutorInstrumentation.class, MeterRegistry.class })
+@Provides({ EventListener.class, ExecutorInstrumentation.class, MeterRegistry.class, MetricsInstrumentation.class })
 @Extension(value = MicrometerExtension.NAME)
 public class MicrometerExtension implements ServiceExtension {
 
@@ -66,6 +67,8 @@ public class MicrometerExtension implements ServiceExtension {
             return; // metrics disabled
         }
 
+        context.registerService(MetricsInstrumentation.class, new MicrometerMetricsInstrumentation(registry));
+
         if (enableSystemMetrics) {
             enableSystemMetrics(registry);
         }
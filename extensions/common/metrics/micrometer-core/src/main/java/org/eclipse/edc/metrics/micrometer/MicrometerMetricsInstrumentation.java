@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import org.eclipse.edc.spi.system.MetricsInstrumentation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link MetricsInstrumentation} that registers the metrics as Micrometer {@link Gauge}s and {@link FunctionCounter}s.
+ */
+public class MicrometerMetricsInstrumentation implements MetricsInstrumentation {
+    private final MeterRegistry registry;
+    // function counters only keep a weak reference to the object they read
+    private final List<LongSupplier> counters = new CopyOnWriteArrayList<>();
+
+    public MicrometerMetricsInstrumentation(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void gauge(String name, Map<String, String> tags, DoubleSupplier value) {
+        Gauge.builder(name, value::getAsDouble)
+                .tags(toTags(tags))
+                .strongReference(true)
+                .register(registry);
+    }
+
+    @Override
+    public void counter(String name, Map<String, String> tags, LongSupplier value) {
+        counters.add(value);
+        FunctionCounter.builder(name, value, LongSupplier::getAsLong)
+                .tags(toTags(tags))
+                .register(registry);
+    }
+
+    private List<Tag> toTags(Map<String, String> tags) {
+        return tags.entrySet().stream().map(entry -> Tag.of(entry.getKey(), entry.getValue())).toList();
+    }
+}
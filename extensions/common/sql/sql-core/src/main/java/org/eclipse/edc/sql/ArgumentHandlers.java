@@ -19,7 +19,11 @@ import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 enum ArgumentHandlers implements ArgumentHandler {
     /**
@@ -203,5 +207,25 @@ enum ArgumentHandlers implements ArgumentHandler {
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setNull(position, java.sql.Types.NULL);
         }
+    };
+
+    /**
+     * The handler of every argument type, resolved the first time an argument of that type is set: all the handlers but
+     * the {@code null} one accept their arguments by type.
+     */
+    private static final Map<Class<?>, Optional<ArgumentHandler>> HANDLERS_BY_TYPE = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the handler for the argument, or null if none can handle it.
+     */
+    static ArgumentHandler forArgument(Object argument) {
+        if (argument == null) {
+            return NULL;
+        }
+        return HANDLERS_BY_TYPE.computeIfAbsent(argument.getClass(), type -> Arrays.stream(values())
+                        .filter(handler -> handler.accepts(argument))
+                        .findFirst()
+                        .map(ArgumentHandler.class::cast))
+                .orElse(null);
     }
 }
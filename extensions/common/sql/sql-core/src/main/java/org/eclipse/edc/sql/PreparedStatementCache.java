@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the prepared statements of every physical connection open, so that executing the same SQL again on that
+ * connection does not need to prepare it again. A statement is removed from the cache while it's in use, so it can
+ * never be shared by two concurrent executions. Every connection keeps up to {@code maxSize} statements, the least
+ * recently used ones get closed first. With a {@code maxSize} of 0 every statement is closed after its execution.
+ */
+class PreparedStatementCache {
+
+    private final int maxSize;
+    private final Map<Connection, Map<String, PreparedStatement>> statements = new HashMap<>();
+
+    PreparedStatementCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns a cached statement for the SQL on the connection, or prepares a new one.
+     */
+    PreparedStatement acquire(Connection connection, String sql) throws SQLException {
+        if (maxSize > 0) {
+            PreparedStatement cached;
+            synchronized (statements) {
+                var connectionStatements = statements.get(physical(connection));
+                cached = connectionStatements == null ? null : connectionStatements.remove(sql);
+            }
+            if (cached != null && !cached.isClosed()) {
+                cached.clearParameters();
+                cached.clearBatch();
+                return cached;
+            }
+        }
+        return connection.prepareStatement(sql);
+    }
+
+    /**
+     * Puts the statement back in the cache, or closes it if the cache is disabled or it already contains a statement
+     * for the same SQL.
+     */
+    void release(Connection connection, String sql, PreparedStatement statement) throws SQLException {
+        if (maxSize > 0 && !statement.isClosed()) {
+            var key = physical(connection);
+            synchronized (statements) {
+                var connectionStatements = statements.get(key);
+                if (connectionStatements == null) {
+                    removeClosedConnections();
+                    connectionStatements = new LruStatements(maxSize);
+                    statements.put(key, connectionStatements);
+                }
+                if (connectionStatements.putIfAbsent(sql, statement) == null) {
+                    return;
+                }
+            }
+        }
+        statement.close();
+    }
+
+    /**
+     * Drops the statements of the connections that got closed in the meantime, their statements are closed as well.
+     */
+    private void removeClosedConnections() {
+        statements.keySet().removeIf(connection -> {
+            try {
+                return connection.isClosed();
+            } catch (SQLException e) {
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Connections obtained through a pool are usually wrappers around the physical connection, the statements are
+     * bound to the latter.
+     */
+    private Connection physical(Connection connection) {
+        try {
+            return connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : connection;
+        } catch (SQLException e) {
+            return connection;
+        }
+    }
+
+    private static class LruStatements extends LinkedHashMap<String, PreparedStatement> {
+        private final int maxSize;
+
+        LruStatements(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+            if (size() <= maxSize) {
+                return false;
+            }
+            try {
+                eldest.getValue().close();
+            } catch (SQLException ignored) {
+                // the statement is not usable anymore anyway
+            }
+            return true;
+        }
+    }
+}
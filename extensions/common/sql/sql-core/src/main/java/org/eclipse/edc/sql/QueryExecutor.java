@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql;
 
 import java.sql.Connection;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +32,18 @@ public interface QueryExecutor {
      */
     int execute(Connection connection, String sql, Object... arguments);
 
+    /**
+     * Intended for mutating queries that need to be executed many times with different parameters, e.g. inserting
+     * multiple rows in a child table.
+     *
+     * @param sql the parametrized sql query
+     * @param argumentsList the parameters of every execution
+     * @return the rows changed by every execution
+     */
+    default int[] executeBatch(Connection connection, String sql, List<Object[]> argumentsList) {
+        return argumentsList.stream().mapToInt(arguments -> execute(connection, sql, arguments)).toArray();
+    }
+
     /**
      * Intended for reading queries.
      * The resulting {@link Stream} must be closed with the "close()" when a terminal operation is used on the stream
@@ -22,7 +22,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -44,6 +44,7 @@ public class SqlQueryExecutor implements QueryExecutor {
     @Deprecated(since = "0.1.0")
     private static final SqlQueryExecutor INSTANCE = new SqlQueryExecutor();
     private final SqlQueryExecutorConfiguration configuration;
+    private final PreparedStatementCache statementCache;
 
     public SqlQueryExecutor() {
         this(SqlQueryExecutorConfiguration.ofDefaults());
@@ -51,6 +52,7 @@ public class SqlQueryExecutor implements QueryExecutor {
 
     public SqlQueryExecutor(SqlQueryExecutorConfiguration configuration) {
         this.configuration = configuration;
+        this.statementCache = new PreparedStatementCache(configuration.statementCacheSize());
     }
 
     @Override
@@ -59,7 +61,10 @@ public class SqlQueryExecutor implements QueryExecutor {
         Objects.requireNonNull(sql, "sql");
         Objects.requireNonNull(arguments, "arguments");
 
-        try (var statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+        var doorKeeper = new DoorKeeper();
+        try (doorKeeper) {
+            var statement = statementCache.acquire(connection, sql);
+            doorKeeper.takeCareOf(() -> statementCache.release(connection, sql, statement));
             setArguments(statement, arguments);
             return statement.execute() ? 0 : statement.getUpdateCount();
         } catch (Exception exception) {
@@ -67,6 +72,30 @@ public class SqlQueryExecutor implements QueryExecutor {
         }
     }
 
+    @Override
+    public int[] executeBatch(Connection connection, String sql, List<Object[]> argumentsList) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(argumentsList, "argumentsList");
+
+        if (argumentsList.isEmpty()) {
+            return new int[0];
+        }
+
+        var doorKeeper = new DoorKeeper();
+        try (doorKeeper) {
+            var statement = statementCache.acquire(connection, sql);
+            doorKeeper.takeCareOf(() -> statementCache.release(connection, sql, statement));
+            for (var arguments : argumentsList) {
+                setArguments(statement, arguments);
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        } catch (Exception exception) {
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        }
+    }
+
     @Override
     public <T> T single(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
         try (var stream = query(connection, closeConnection, resultSetMapper, sql, arguments)) {
@@ -86,8 +115,8 @@ public class SqlQueryExecutor implements QueryExecutor {
             if (closeConnection) {
                 doorKeeper.takeCareOf(connection);
             }
-            var statement = connection.prepareStatement(sql);
-            doorKeeper.takeCareOf(statement);
+            var statement = statementCache.acquire(connection, sql);
+            doorKeeper.takeCareOf(() -> statementCache.release(connection, sql, statement));
             statement.setFetchSize(configuration.fetchSize());
             setArguments(statement, arguments);
             var resultSet = statement.executeQuery();
@@ -113,8 +142,7 @@ public class SqlQueryExecutor implements QueryExecutor {
     }
 
     private void setArgument(PreparedStatement statement, int position, Object argument) throws SQLException {
-        var argumentHandler = Arrays.stream(ArgumentHandlers.values()).filter(it -> it.accepts(argument))
-                .findFirst().orElse(null);
+        var argumentHandler = ArgumentHandlers.forArgument(argument);
 
         if (argumentHandler != null) {
             argumentHandler.handle(statement, position, argument);
@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql.translation;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 
@@ -57,9 +58,36 @@ public class SqlQueryStatement {
     public SqlQueryStatement(String selectStatement, QuerySpec query, TranslationMapping rootModel) {
         this(selectStatement);
         fromQuerySpec = true;
+        if (query.getCursor() != null) {
+            throw new IllegalArgumentException("Continuation cursors are not supported by this query");
+        }
         initialize(query, rootModel);
     }
 
+    /**
+     * Initializes this SQL Query Statement with a SELECT clause, a {@link QuerySpec} and a translation mapping, using
+     * keyset pagination: the results are always ordered by the sort field, if any, and by the id field, which is unique.
+     * The continuation cursor of the query is translated to a {@code (sort, id) > (?, ?)} predicate instead of skipping
+     * rows with {@code OFFSET}, so that the database can seek to the page using an index on these columns. A cursor
+     * requires the sort field to map to a column of the root model: the value of a JSON property or of a joined table
+     * would not be compared as the value read from the entity that the cursor was created from.
+     * <p>
+     * Cursors are compared with the collation of the columns, so they can only continue queries on the store that
+     * returned the previous page.
+     *
+     * @param selectStatement The SELECT clause, e.g. {@code SELECT * FROM your_table}
+     * @param query           a {@link QuerySpec} that contains a query in the canonical format
+     * @param rootModel       A {@link TranslationMapping} that enables mapping from canonical to the SQL-specific
+     *                        model/format
+     * @param idField         the canonical name of the unique field used as tie-breaker, e.g. {@code id}
+     */
+    public SqlQueryStatement(String selectStatement, QuerySpec query, TranslationMapping rootModel, String idField) {
+        this(selectStatement);
+        fromQuerySpec = true;
+        initialize(query, rootModel);
+        initializeKeyset(query, rootModel, idField);
+    }
+
     /**
      * Initializes this SQL Query Statement with a SELECT clause
      *
@@ -130,6 +158,37 @@ public class SqlQueryStatement {
         orderByClause = parseSortField(query, rootModel);
     }
 
+    private void initializeKeyset(QuerySpec query, TranslationMapping rootModel, String idField) {
+        var order = query.getSortOrder() == SortOrder.ASC ? "ASC" : "DESC";
+        var idColumn = rootModel.getStatement(idField);
+        var sortColumn = query.getSortField() == null ? null : rootModel.getStatement(query.getSortField());
+
+        orderByClause = sortColumn == null
+                ? format(ORDER_BY_TOKEN + " ", idColumn, order)
+                : format("ORDER BY %s %s, %s %s ", sortColumn, order, idColumn, order);
+
+        if (query.getCursor() == null) {
+            return;
+        }
+        if (sortColumn != null && !rootModel.isColumn(query.getSortField())) {
+            throw new IllegalArgumentException(format("Continuation cursors are not supported when sorting by %s, which is not a column", query.getSortField()));
+        }
+        var cursor = QueryCursor.decode(query.getCursor());
+        var comparison = query.getSortOrder() == SortOrder.ASC ? ">" : "<";
+        if (sortColumn == null) {
+            whereClauses.add(format("%s %s ?", idColumn, comparison));
+        } else {
+            if (cursor.getSortValue() == null) {
+                throw new IllegalArgumentException("The cursor has no value for the sort field " + query.getSortField());
+            }
+            whereClauses.add(format("(%s, %s) %s (?, ?)", sortColumn, idColumn, comparison));
+            parameters.add(cursor.getSortValue());
+        }
+        parameters.add(cursor.getId());
+        // the cursor replaces the offset
+        offset = 0;
+    }
+
     private String parseSortField(QuerySpec query, TranslationMapping rootModel) {
         if (query.getSortField() == null) {
             return orderByClause;
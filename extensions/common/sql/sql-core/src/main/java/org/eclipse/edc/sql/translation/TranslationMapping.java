@@ -57,6 +57,16 @@ public abstract class TranslationMapping {
         return entry.toString();
     }
 
+    /**
+     * Whether a field/property from the canonical model maps to a column of this model, rather than to a nested model,
+     * e.g. a JSON column or a joined table.
+     *
+     * @param canonicalPropertyName the name of the property, nested properties are never columns of this model.
+     */
+    public boolean isColumn(String canonicalPropertyName) {
+        var entry = fieldMap.get(canonicalPropertyName);
+        return entry != null && !(entry instanceof TranslationMapping);
+    }
 
     protected void add(String fieldId, Object value) {
         fieldMap.put(fieldId, value);
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -102,6 +103,30 @@ public class SqlQueryExecutorIntegrationTest {
         assertThat(kvs).hasSize(1).first().isEqualTo(keyValue);
     }
 
+    @Test
+    void executeBatch(Connection connection) {
+        var sql = format("INSERT INTO %s (k, v) values (?, ?)", table);
+
+        var result = executor.executeBatch(connection, sql, List.of(new Object[]{ "k1", "v1" }, new Object[]{ "k2", "v2" }));
+
+        assertThat(result).containsExactly(1, 1);
+        var count = executor.single(connection, false, rs -> rs.getInt(1), format("SELECT COUNT(*) FROM %s", table));
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    void executeQuery_withStatementCache(Connection connection) {
+        var cachingExecutor = new SqlQueryExecutor(new SqlQueryExecutorConfiguration(10, 10));
+        var keyValue = insertRow(connection);
+        var sql = "SELECT v FROM key_value WHERE k = ?";
+
+        var first = cachingExecutor.single(connection, false, rs -> rs.getString(1), sql, keyValue.key);
+        var second = cachingExecutor.single(connection, false, rs -> rs.getString(1), sql, "any other");
+
+        assertThat(first).isEqualTo(keyValue.value);
+        assertThat(second).isNull();
+    }
+
     @Test
     void testInvalidSql(Connection connection) {
         assertThatThrownBy(() -> executor.execute(connection, "Lorem ipsum dolor sit amet")).isInstanceOf(EdcPersistenceException.class);
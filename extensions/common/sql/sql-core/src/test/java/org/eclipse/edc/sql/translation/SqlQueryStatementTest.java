@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql.translation;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.junit.jupiter.api.Test;
@@ -114,6 +115,61 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactly("testid1", customParameter, 50, 0);
     }
 
+    @Test
+    void keyset_shouldOrderById() {
+        var criterion = new Criterion("field1", "=", "testid1");
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new TestMapping(), "fooBar");
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? ORDER BY edc_foo_bar ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("testid1", 50, 0);
+    }
+
+    @Test
+    void keyset_shouldTranslateCursorToPredicate() {
+        var cursor = QueryCursor.of("a description", "an-id").encode();
+        var query = queryBuilder(new Criterion("field1", "=", "testid1")).sortField("description").cursor(cursor).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), "fooBar");
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE edc_field_1 = ? AND (edc_description, edc_foo_bar) > (?, ?) ORDER BY edc_description ASC, edc_foo_bar ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("testid1", "a description", "an-id", 50, 0);
+    }
+
+    @Test
+    void keyset_shouldInvertPredicate_whenOrderIsDescending() {
+        var cursor = QueryCursor.of(null, "an-id").encode();
+        var query = queryBuilder().sortOrder(SortOrder.DESC).cursor(cursor).limit(10).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), "fooBar");
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_foo_bar < ? ORDER BY edc_foo_bar DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("an-id", 10, 0);
+    }
+
+    @Test
+    void keyset_shouldRejectCursor_whenSortFieldIsNotAColumn() {
+        var query = queryBuilder().sortField("complex.field2").cursor(QueryCursor.of("value", "an-id").encode()).build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), "fooBar"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("complex.field2");
+    }
+
+    @Test
+    void keyset_shouldSortByNestedField_whenThereIsNoCursor() {
+        var query = queryBuilder().sortField("complex.field2").build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping(), "fooBar");
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " ORDER BY edc_field_2 ASC, edc_foo_bar ASC LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void cursor_shouldThrow_whenKeysetIsNotEnabled() {
+        var query = queryBuilder().cursor(QueryCursor.of(null, "an-id").encode()).build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private QuerySpec.Builder queryBuilder(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion));
     }
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.sql.lease;
 
+import java.util.Collections;
+
 import static java.lang.String.format;
 
 /**
@@ -28,10 +30,60 @@ public interface LeaseStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * The name of the table that contains the leased entities.
+     */
+    String getEntityTableName();
+
+    /**
+     * The name of the id column of the leased entities table.
+     */
+    String getEntityIdColumn();
+
+    /**
+     * Deletes the expired leases of a batch of entities. The parameters are the entity ids, followed by the current time.
+     *
+     * @param count the number of entities in the batch.
+     */
+    default String getDeleteExpiredLeasesTemplate(int count) {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s IN (%s)) AND (? > (%s + %s));",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getEntityTableName(), getEntityIdColumn(),
+                placeholders(count), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    /**
+     * Inserts a lease for every entity of the batch that is not leased. The lease id is the concatenation of the
+     * first parameter and the entity id. The parameters are the lease id prefix, the lease holder, the current time,
+     * the lease duration and the entity ids.
+     *
+     * @param count the number of entities in the batch.
+     */
+    default String getInsertLeasesTemplate(int count) {
+        return format("INSERT INTO %s (%s, %s, %s, %s) SELECT CONCAT(?, %s), ?, ?, ? FROM %s WHERE %s IN (%s) AND %s IS NULL;",
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(),
+                getEntityIdColumn(), getEntityTableName(), getEntityIdColumn(), placeholders(count), getLeaseIdColumn());
+    }
+
+    /**
+     * Links every entity of the batch that is not leased to the lease inserted by {@link #getInsertLeasesTemplate(int)}.
+     * The parameters are the lease id prefix and the entity ids.
+     *
+     * @param count the number of entities in the batch.
+     */
+    default String getUpdateLeasesTemplate(int count) {
+        return format("UPDATE %s SET %s = CONCAT(?, %s) WHERE %s IN (%s) AND %s IS NULL;",
+                getEntityTableName(), getLeaseIdColumn(), getEntityIdColumn(), getEntityIdColumn(), placeholders(count), getLeaseIdColumn());
+    }
+
+    /**
+     * Filter on the entities that have no lease, or whose lease is expired. The lease is looked up by primary key for
+     * every candidate entity, so the cost doesn't depend on the number of leases. The only parameter is the current
+     * time in milliseconds.
+     */
     default String getNotLeasedFilter() {
-        return format("(%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))",
-                getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
-                getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn());
+        return format("NOT EXISTS (SELECT 1 FROM %s l WHERE l.%s = %s.%s AND ? <= (l.%s + l.%s))",
+                getLeaseTableName(), getLeaseIdColumn(), getEntityTableName(), getLeaseIdColumn(),
+                getLeasedAtColumn(), getLeaseDurationColumn());
     }
 
     default String getLeaseTableName() {
@@ -54,4 +106,8 @@ public interface LeaseStatements {
         return "lease_id";
     }
 
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
 }
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.lease;
+
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.util.List;
+
+/**
+ * Wakes the work available listeners of a store up once the saved state is committed, so that they can see it. Nothing
+ * is notified when the transaction is rolled back.
+ */
+public class NotifyWorkAvailable implements TransactionContext.TransactionSynchronization {
+    private final List<Runnable> workAvailableListeners;
+
+    public NotifyWorkAvailable(List<Runnable> workAvailableListeners) {
+        this.workAvailableListeners = workAvailableListeners;
+    }
+
+    @Override
+    public void beforeCompletion() {
+    }
+
+    @Override
+    public void afterCompletion(boolean committed) {
+        if (committed) {
+            workAvailableListeners.forEach(Runnable::run);
+        }
+    }
+}
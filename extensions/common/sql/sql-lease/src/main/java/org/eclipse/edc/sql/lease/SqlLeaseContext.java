@@ -26,6 +26,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -33,6 +35,8 @@ import java.util.UUID;
  * SQL-based implementation of the LeaseContext.
  * Acquiring a lease is implemented by adding an entry into the "lease" table in the database
  * Breaking a lease is implemented by deleting the respective entry
+ * Acquiring the leases of a batch of entities is implemented with a constant number of statements, independently of
+ * the batch size.
  */
 public class SqlLeaseContext implements LeaseContext {
     private static final long DEFAULT_LEASE_DURATION = 60_000;
@@ -101,6 +105,39 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    @Override
+    public void acquireLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+
+        trxContext.execute(() -> {
+            var now = clock.millis();
+            var count = entityIds.size();
+
+            //clean out expired leases
+            var deleteParams = new ArrayList<Object>(entityIds);
+            deleteParams.add(now);
+            queryExecutor.execute(connection, statements.getDeleteExpiredLeasesTemplate(count), deleteParams.toArray());
+
+            // create new leases in DB, one for every entity, with the id prefixed by the batch id
+            var prefix = UUID.randomUUID() + "-";
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            var insertParams = new ArrayList<Object>(List.of(prefix, leaseHolder, now, duration));
+            insertParams.addAll(entityIds);
+            queryExecutor.execute(connection, statements.getInsertLeasesTemplate(count), insertParams.toArray());
+
+            //update entities with leases -> effectively lease entities
+            var updateParams = new ArrayList<Object>(List.of(prefix));
+            updateParams.addAll(entityIds);
+            var leased = queryExecutor.execute(connection, statements.getUpdateLeasesTemplate(count), updateParams.toArray());
+
+            if (leased != count) {
+                throw new IllegalStateException("Some entities are currently leased!");
+            }
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
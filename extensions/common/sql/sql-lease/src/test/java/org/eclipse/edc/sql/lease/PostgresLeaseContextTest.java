@@ -38,6 +38,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static java.time.ZoneOffset.UTC;
@@ -145,6 +146,44 @@ class PostgresLeaseContextTest {
         assertThatThrownBy(() -> leaseContext.acquireLease(id)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+
+        leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(isLeased("id1", connection)).isTrue();
+        assertThat(isLeased("id2", connection)).isTrue();
+        assertThat(leaseContext.getLease("id1")).isNotNull()
+                .extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+        assertThat(leaseContext.getLease("id1").getLeaseId()).isNotEqualTo(leaseContext.getLease("id2").getLeaseId());
+    }
+
+    @Test
+    void acquireLeases_oneLeasedByOther_throwsException(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id2");
+
+        assertThatThrownBy(() -> leaseContext.acquireLeases(List.of("id1", "id2"))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void acquireLeases_whenExpiredLeasePresent_shouldReplaceIt(Connection connection) {
+        insertTestEntity("id1", connection);
+        leaseContext.acquireLease("id1");
+        var leaseId = leaseContext.getLease("id1").getLeaseId();
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection);
+        twoMinutesAheadContext.acquireLeases(List.of("id1"));
+
+        assertThat(twoMinutesAheadContext.getLease("id1")).isNotNull()
+                .extracting(SqlLease::getLeaseId).isNotEqualTo(leaseId);
+    }
+
     @Test
     void getLease(Connection connection) {
         var id = "test-id";
@@ -242,9 +281,15 @@ class PostgresLeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
         public String getEntityTableName() {
             return "edc_test_entity";
         }
+
+        @Override
+        public String getEntityIdColumn() {
+            return "id";
+        }
     }
 
     protected static class TestEntity {
@@ -26,6 +26,7 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import static jakarta.transaction.Status.STATUS_ACTIVE;
+import static jakarta.transaction.Status.STATUS_COMMITTED;
 import static jakarta.transaction.Status.STATUS_MARKED_ROLLBACK;
 
 /**
@@ -68,8 +69,8 @@ public class AtomikosTransactionContext implements TransactionContext {
                 }
 
                 @Override
-                public void afterCompletion(int i) {
-
+                public void afterCompletion(int status) {
+                    sync.afterCompletion(STATUS_COMMITTED == status);
                 }
             });
         } catch (SystemException | RollbackException e) {
@@ -92,15 +92,19 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
                         }
                     });
                 } else {
-                    resources.forEach(localTransactionResource -> {
+                    for (var localTransactionResource : resources) {
                         try {
                             localTransactionResource.commit();
                         } catch (Exception e) {
+                            // the synchronizations must not act on changes that may not have been committed
+                            transaction.setRollbackOnly();
                             monitor.severe("Error committing resource", e);
                         }
-                    });
+                    }
                 }
                 transactions.remove();
+                var committed = !transaction.isRollbackOnly();
+                transaction.getSynchronizations().forEach(sync -> sync.afterCompletion(committed));
             }
         }
     }
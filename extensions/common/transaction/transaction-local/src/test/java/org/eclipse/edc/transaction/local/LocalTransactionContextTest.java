@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -152,6 +153,43 @@ class LocalTransactionContextTest {
         });
 
         verify(sync, times(1)).beforeCompletion();
+        verify(sync, times(1)).afterCompletion(true);
+    }
+
+    @Test
+    void verifySynchronizationAfterCommit() {
+        var sync = mock(TransactionContext.TransactionSynchronization.class);
+
+        transactionContext.execute(() -> transactionContext.registerSynchronization(sync));
+
+        var inOrder = inOrder(dsResource, sync);
+        inOrder.verify(sync).beforeCompletion();
+        inOrder.verify(dsResource).commit();
+        inOrder.verify(sync).afterCompletion(true);
+    }
+
+    @Test
+    void verifySynchronizationAfterRollback() {
+        var sync = mock(TransactionContext.TransactionSynchronization.class);
+
+        assertThrows(EdcException.class, () -> transactionContext.execute(() -> {
+            transactionContext.registerSynchronization(sync);
+            throw new RuntimeException();
+        }));
+
+        verify(dsResource).rollback();
+        verify(sync).afterCompletion(false);
+    }
+
+    @Test
+    void verifySynchronizationAfterFailedCommit() {
+        var sync = mock(TransactionContext.TransactionSynchronization.class);
+        doThrow(new RuntimeException()).when(dsResource).commit();
+
+        transactionContext.execute(() -> transactionContext.registerSynchronization(sync));
+
+        verify(dsResource).commit();
+        verify(sync).afterCompletion(false);
     }
 
     @BeforeEach
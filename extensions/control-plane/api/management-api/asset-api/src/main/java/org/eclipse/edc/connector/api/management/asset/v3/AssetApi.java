@@ -23,9 +23,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.api.model.ApiCoreSchema;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
 
@@ -60,7 +60,7 @@ public interface AssetApi {
                     @ApiResponse(responseCode = "400", description = "Request body was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class))))
             })
-    JsonArray requestAssets(JsonObject querySpecDto);
+    JsonObjectStream requestAssets(JsonObject querySpecDto);
 
     @Operation(description = "Gets an asset with the given ID",
             responses = {
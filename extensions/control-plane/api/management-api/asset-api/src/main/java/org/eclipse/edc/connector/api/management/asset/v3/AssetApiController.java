@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.api.management.asset.v3;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -27,6 +26,7 @@ import jakarta.ws.rs.Produces;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.model.QuerySpecDto;
 import org.eclipse.edc.connector.spi.asset.AssetService;
+import org.eclipse.edc.jsonld.spi.JsonObjectStream;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -38,10 +38,10 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
-import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.util.Optional.of;
 import static org.eclipse.edc.api.model.QuerySpecDto.EDC_QUERY_SPEC_TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonObjectStream.APPLICATION_NDJSON;
 import static org.eclipse.edc.spi.types.domain.asset.Asset.EDC_ASSET_TYPE;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
@@ -83,8 +83,9 @@ public class AssetApiController implements AssetApi {
 
     @POST
     @Path("/request")
+    @Produces({ APPLICATION_JSON, APPLICATION_NDJSON + ";qs=0.5" })
     @Override
-    public JsonArray requestAssets(JsonObject querySpecDto) {
+    public JsonObjectStream requestAssets(JsonObject querySpecDto) {
         QuerySpec querySpec;
         if (querySpecDto == null) {
             querySpec = QuerySpec.Builder.newInstance().build();
@@ -96,14 +97,13 @@ public class AssetApiController implements AssetApi {
                     .orElseThrow(InvalidRequestException::new);
         }
 
-        try (var assets = service.query(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null))) {
-            return assets
-                    .map(it -> transformerRegistry.transform(it, JsonObject.class))
-                    .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(toJsonArray());
-        }
+        // transformed while the response is written, the stream is closed by the writer
+        var assets = service.query(querySpec).orElseThrow(exceptionMapper(QuerySpec.class, null));
+        return new JsonObjectStream(assets
+                .map(it -> transformerRegistry.transform(it, JsonObject.class))
+                .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
+                .filter(Result::succeeded)
+                .map(Result::getContent));
     }
 
     @GET
@@ -40,12 +40,14 @@ import java.util.stream.Stream;
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static jakarta.json.Json.createObjectBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.api.model.IdResponseDto.EDC_ID_RESPONSE_DTO_CREATED_AT;
 import static org.eclipse.edc.api.model.IdResponseDto.EDC_ID_RESPONSE_DTO_TYPE;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
+import static org.eclipse.edc.jsonld.spi.JsonObjectStream.APPLICATION_NDJSON;
 import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
 import static org.eclipse.edc.spi.CoreConstants.EDC_PREFIX;
 import static org.eclipse.edc.spi.types.domain.asset.Asset.EDC_ASSET_TYPE;
@@ -116,6 +118,26 @@ class AssetApiControllerTest extends RestControllerTestBase {
         verify(transformerRegistry).transform(isA(QuerySpecDto.class), eq(QuerySpec.class));
     }
 
+    @Test
+    void requestAsset_shouldReturnNdjson_whenRequested() {
+        when(service.query(any()))
+                .thenReturn(ServiceResult.success(Stream.of(Asset.Builder.newInstance().build(), Asset.Builder.newInstance().build())));
+        when(transformerRegistry.transform(isA(Asset.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(createAssetJson().build()));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+
+        var body = baseRequest()
+                .contentType(JSON)
+                .accept(APPLICATION_NDJSON)
+                .post("/assets/request")
+                .then()
+                .statusCode(200)
+                .contentType(APPLICATION_NDJSON)
+                .extract().body().asString();
+
+        assertThat(body.split("\n")).hasSize(2);
+    }
+
     @Test
     void requestAsset_filtersOutFailedTransforms() {
         when(service.query(any()))
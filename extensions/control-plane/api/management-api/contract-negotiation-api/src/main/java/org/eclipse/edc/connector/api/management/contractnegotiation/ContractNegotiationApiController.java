@@ -16,7 +16,6 @@
 
 package org.eclipse.edc.connector.api.management.contractnegotiation;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -25,8 +24,10 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.model.QuerySpecDto;
+import org.eclipse.edc.api.query.NextCursor;
 import org.eclipse.edc.connector.api.management.contractnegotiation.model.ContractAgreementDto;
 import org.eclipse.edc.connector.api.management.contractnegotiation.model.ContractNegotiationDto;
 import org.eclipse.edc.connector.api.management.contractnegotiation.model.NegotiationInitiateRequestDto;
@@ -44,6 +45,7 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.util.List;
 import java.util.Optional;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
@@ -70,7 +72,7 @@ public class ContractNegotiationApiController implements ContractNegotiationApi
     @POST
     @Path("/request")
     @Override
-    public JsonArray queryNegotiations(JsonObject querySpecDto) {
+    public Response queryNegotiations(JsonObject querySpecDto) {
         QuerySpec querySpec;
         if (querySpecDto == null) {
             querySpec = QuerySpec.Builder.newInstance().build();
@@ -83,15 +85,22 @@ public class ContractNegotiationApiController implements ContractNegotiationApi
                     .orElseThrow(InvalidRequestException::new);
         }
 
+        List<ContractNegotiation> negotiations;
         try (var stream = service.query(querySpec).orElseThrow(exceptionMapper(ContractNegotiation.class, null))) {
-            return stream
-                    .map(it -> transformerRegistry.transform(it, ContractNegotiationDto.class)
-                            .compose(dto -> transformerRegistry.transform(dto, JsonObject.class)))
-                    .peek(this::logIfError)
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(toJsonArray());
+            negotiations = stream.toList();
         }
+
+        var result = negotiations.stream()
+                .map(it -> transformerRegistry.transform(it, ContractNegotiationDto.class)
+                        .compose(dto -> transformerRegistry.transform(dto, JsonObject.class)))
+                .peek(this::logIfError)
+                .filter(Result::succeeded)
+                .map(Result::getContent)
+                .collect(toJsonArray());
+
+        return Response.ok(result)
+                .header(NextCursor.HEADER, NextCursor.of(querySpec, negotiations, ContractNegotiation::getId))
+                .build();
     }
 
     @GET
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.api.management.transferprocess;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.links.Link;
 import io.swagger.v3.oas.annotations.links.LinkParameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -24,10 +25,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.model.QuerySpecDto;
+import org.eclipse.edc.api.query.NextCursor;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TerminateTransferDto;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TransferProcessDto;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TransferRequestDto;
@@ -41,11 +43,12 @@ public interface TransferProcessApi {
             requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = QuerySpecDto.class))),
             responses = {
                     @ApiResponse(responseCode = "200", description = "The transfer processes matching the query",
-                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = TransferProcessDto.class)))),
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = TransferProcessDto.class))),
+                            headers = @Header(name = NextCursor.HEADER, description = "Cursor to pass in the query to get the next page, present if the page is full")),
                     @ApiResponse(responseCode = "400", description = "Request was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)))) }
     )
-    JsonArray queryTransferProcesses(JsonObject querySpecDto);
+    Response queryTransferProcesses(JsonObject querySpecDto);
 
     @Operation(description = "Gets an transfer process with the given ID",
             responses = {
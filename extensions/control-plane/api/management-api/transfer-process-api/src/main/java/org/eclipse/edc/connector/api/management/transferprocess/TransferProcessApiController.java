@@ -14,7 +14,6 @@
 
 package org.eclipse.edc.connector.api.management.transferprocess;
 
-import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
@@ -22,8 +21,10 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.model.QuerySpecDto;
+import org.eclipse.edc.api.query.NextCursor;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TerminateTransferDto;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TransferProcessDto;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TransferRequestDto;
@@ -41,6 +42,7 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.util.List;
 import java.util.Optional;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
@@ -73,7 +75,7 @@ public class TransferProcessApiController implements TransferProcessApi {
     @POST
     @Path("request")
     @Override
-    public JsonArray queryTransferProcesses(JsonObject querySpecDto) {
+    public Response queryTransferProcesses(JsonObject querySpecDto) {
         QuerySpec querySpec;
         if (querySpecDto == null) {
             querySpec = QuerySpec.none();
@@ -85,15 +87,22 @@ public class TransferProcessApiController implements TransferProcessApi {
                     .orElseThrow(InvalidRequestException::new);
         }
 
+        List<TransferProcess> transferProcesses;
         try (var stream = service.query(querySpec).orElseThrow(exceptionMapper(TransferProcess.class))) {
-            return stream
-                    .map(transferProcess -> transformerRegistry.transform(transferProcess, TransferProcessDto.class)
-                            .compose(dto -> transformerRegistry.transform(dto, JsonObject.class))
-                            .onFailure(f -> monitor.warning(f.getFailureDetail())))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(toJsonArray());
+            transferProcesses = stream.toList();
         }
+
+        var result = transferProcesses.stream()
+                .map(transferProcess -> transformerRegistry.transform(transferProcess, TransferProcessDto.class)
+                        .compose(dto -> transformerRegistry.transform(dto, JsonObject.class))
+                        .onFailure(f -> monitor.warning(f.getFailureDetail())))
+                .filter(Result::succeeded)
+                .map(Result::getContent)
+                .collect(toJsonArray());
+
+        return Response.ok(result)
+                .header(NextCursor.HEADER, NextCursor.of(querySpec, transferProcesses, TransferProcess::getId))
+                .build();
     }
 
     @GET
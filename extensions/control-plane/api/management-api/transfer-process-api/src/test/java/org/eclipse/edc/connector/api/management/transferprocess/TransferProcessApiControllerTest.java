@@ -18,6 +18,7 @@ import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.model.QuerySpecDto;
+import org.eclipse.edc.api.query.NextCursor;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TerminateTransferDto;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TransferProcessDto;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TransferRequestDto;
@@ -27,6 +28,7 @@ import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.transfer.spi.types.TransferRequest;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.service.spi.result.ServiceResult;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -173,6 +175,28 @@ class TransferProcessApiControllerTest extends RestControllerTestBase {
         verify(transformerRegistry).transform(dto, JsonObject.class);
     }
 
+    @Test
+    void query_shouldReturnNextCursor_whenPageIsFull() {
+        var querySpec = QuerySpec.Builder.newInstance().limit(1).sortField("stateTimestamp").build();
+        var transferProcess = createTransferProcess().id("id").stateTimestamp(1234).build();
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(), eq(QuerySpecDto.class))).thenReturn(Result.success(QuerySpecDto.Builder.newInstance().build()));
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
+        when(service.query(any())).thenReturn(ServiceResult.success(Stream.of(transferProcess)));
+        when(transformerRegistry.transform(any(), eq(TransferProcessDto.class))).thenReturn(Result.success(TransferProcessDto.Builder.newInstance().id("id").build()));
+        when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.success(Json.createObjectBuilder().add("id", "id").build()));
+
+        given()
+                .port(port)
+                .body(Json.createObjectBuilder().build())
+                .contentType(JSON)
+                .post("/v2/transferprocesses/request")
+                .then()
+                .statusCode(200)
+                .header(NextCursor.HEADER, QueryCursor.of(1234L, "id").encode())
+                .body("size()", is(1));
+    }
+
     @Test
     void query_shouldNotReturnError_whenEmptyBody() {
         var querySpec = QuerySpec.none();
@@ -7,4 +7,5 @@ dependencies {
     api(project(":spi:control-plane:control-plane-spi"))
 
     testImplementation(project(":core:common:junit"))
+    testImplementation(libs.awaitility)
 }
@@ -0,0 +1,310 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher;
+
+import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Delivers callback messages asynchronously, without blocking the thread that publishes the event.
+ * <p>
+ * Messages are queued per callback URI in a bounded queue, messages that don't fit are rejected. The bound counts every
+ * message of the URI that is not delivered or discarded yet, including those waiting for a retry. Every queue is
+ * drained by at most one task at a time, which takes up to a batch of messages and dispatches them concurrently, while
+ * messages of the same process are dispatched one after the other, in the order they were queued. A failed dispatch is
+ * retried with exponential back-off, up to the maximum number of retries, then the message is discarded. Retries don't
+ * hold the queue: the following messages of the same process wait for the retry, the others keep being dispatched.
+ */
+public class CallbackDeliveryQueue {
+
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private final RemoteMessageDispatcherRegistry dispatcher;
+    private final Executor executor;
+    private final Clock clock;
+    private final int capacity;
+    private final int batchSize;
+    private final int maxRetries;
+    private final Duration retryDelay;
+    private final Monitor monitor;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    public CallbackDeliveryQueue(RemoteMessageDispatcherRegistry dispatcher, Executor executor, Clock clock, int capacity,
+                                 int batchSize, int maxRetries, Duration retryDelay, Monitor monitor) {
+        this.dispatcher = dispatcher;
+        this.executor = executor;
+        this.clock = clock;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxRetries = maxRetries;
+        this.retryDelay = retryDelay;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Queues the message for delivery to its callback URI.
+     *
+     * @param message the message.
+     * @param processId the id of the process the event belongs to, messages with the same process id are delivered in
+     *                  order. If null, the message is not ordered with the others.
+     * @return true if the message has been queued, false if the queue of the callback URI is full.
+     */
+    public boolean enqueue(CallbackEventRemoteMessage<?> message, @Nullable String processId) {
+        var uri = message.getCounterPartyAddress();
+        var orderingKey = processId != null ? processId : message.getEventEnvelope().getId();
+        var delivery = new Delivery(message, orderingKey, clock.millis());
+        var accepted = new AtomicBoolean();
+        // queued in the compute, so an empty lane cannot be removed while a message is added to it
+        var lane = lanes.compute(uri, (key, existing) -> {
+            var target = existing != null ? existing : new Lane(key);
+            // the size only decreases outside the compute, so it cannot exceed the capacity
+            if (target.size.get() < capacity) {
+                target.size.incrementAndGet();
+                target.queue.add(delivery);
+                accepted.set(true);
+            }
+            return target;
+        });
+
+        if (!accepted.get()) {
+            rejected.incrementAndGet();
+            monitor.warning(format("Callback queue for URI %s is full, event %s discarded", uri, message.getEventEnvelope().getPayload().name()));
+            return false;
+        }
+        schedule(lane);
+        return true;
+    }
+
+    /**
+     * Returns the number of messages not delivered or discarded yet, including those waiting for a retry, over all the
+     * callback URIs.
+     */
+    public int getQueueSize() {
+        return lanes.values().stream().mapToInt(lane -> lane.size.get()).sum();
+    }
+
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public long getRetryCount() {
+        return retried.get();
+    }
+
+    /**
+     * Returns the average time in milliseconds between queueing and successful delivery of a message, 0 if no message
+     * has been delivered yet.
+     */
+    public double getAverageLatencyMillis() {
+        var count = delivered.get();
+        return count == 0 ? 0 : (double) totalLatency.get() / count;
+    }
+
+    /**
+     * Returns the longest time in milliseconds between queueing and successful delivery of a message.
+     */
+    public long getMaxLatencyMillis() {
+        return maxLatency.get();
+    }
+
+    private void schedule(Lane lane) {
+        if (lane.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(lane));
+        }
+    }
+
+    private void drain(Lane lane) {
+        var batch = new ArrayList<Delivery>(batchSize);
+        lane.queue.drainTo(batch, batchSize);
+
+        var byProcess = new LinkedHashMap<String, Queue<Delivery>>();
+        batch.forEach(delivery -> byProcess.computeIfAbsent(delivery.orderingKey(), k -> new ConcurrentLinkedQueue<>()).add(delivery));
+
+        var deliveries = byProcess.entrySet().stream()
+                .filter(entry -> !lane.appendIfWaitingForRetry(entry.getKey(), entry.getValue()))
+                .map(entry -> deliverInOrder(lane, entry.getKey(), entry.getValue(), 0))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(deliveries).whenComplete((v, throwable) -> drained(lane));
+    }
+
+    private void drained(Lane lane) {
+        lane.draining.set(false);
+        removeIfIdle(lane);
+        if (!lane.queue.isEmpty()) {
+            schedule(lane);
+        }
+    }
+
+    private void removeIfIdle(Lane lane) {
+        lanes.computeIfPresent(lane.uri, (key, existing) -> existing == lane && lane.isIdle() ? null : existing);
+    }
+
+    /**
+     * Dispatches the pending messages of a process one after the other. The returned future completes when all of
+     * them have been dispatched, or when one waits for a retry: the rest of the messages are then dispatched once the
+     * retry succeeds or is given up, outside the drain of the queue.
+     */
+    private CompletableFuture<Void> deliverInOrder(Lane lane, String orderingKey, Queue<Delivery> pending, int attempt) {
+        var delivery = lane.next(orderingKey, pending);
+        if (delivery == null) {
+            removeIfIdle(lane);
+            return CompletableFuture.completedFuture(null);
+        }
+        return dispatch(delivery.message())
+                .thenCompose(failure -> {
+                    if (failure == null) {
+                        recordLatency(clock.millis() - delivery.enqueuedAt());
+                        delivered.incrementAndGet();
+                        lane.remove(pending);
+                        return deliverInOrder(lane, orderingKey, pending, 0);
+                    }
+                    var uri = delivery.message().getCounterPartyAddress();
+                    if (attempt >= maxRetries) {
+                        failed.incrementAndGet();
+                        monitor.severe(format("Failed to invoke callback at URI: %s after %d attempts", uri, attempt + 1), failure);
+                        lane.remove(pending);
+                        return deliverInOrder(lane, orderingKey, pending, 0);
+                    }
+                    retried.incrementAndGet();
+                    var delay = retryDelay.toMillis() << Math.min(attempt, MAX_BACKOFF_SHIFT);
+                    monitor.debug(() -> format("Failed to invoke callback at URI: %s, retrying in %d ms: %s", uri, delay, failure.getMessage()));
+                    lane.waitForRetry(orderingKey, pending);
+                    CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor)
+                            .execute(() -> deliverInOrder(lane, orderingKey, pending, attempt + 1));
+                    return CompletableFuture.completedFuture(null);
+                });
+    }
+
+    /**
+     * Dispatches the message, the returned future completes with null on success and with the failure otherwise.
+     */
+    private CompletableFuture<Throwable> dispatch(CallbackEventRemoteMessage<?> message) {
+        try {
+            return dispatcher.dispatch(Object.class, message)
+                    .handle((result, throwable) -> {
+                        if (throwable != null) {
+                            return throwable;
+                        }
+                        return result.succeeded() ? null : new EdcException(result.getFailureDetail());
+                    });
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(e);
+        }
+    }
+
+    private void recordLatency(long latency) {
+        totalLatency.addAndGet(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    private record Delivery(CallbackEventRemoteMessage<?> message, String orderingKey, long enqueuedAt) {
+    }
+
+    private static class Lane {
+        private final String uri;
+        private final BlockingQueue<Delivery> queue = new LinkedBlockingQueue<>();
+        // messages queued, being dispatched or waiting for a retry
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // pending messages of the processes whose first message waits for a retry, guarded by the lane
+        private final Map<String, Queue<Delivery>> waitingForRetry = new HashMap<>();
+
+        Lane(String uri) {
+            this.uri = uri;
+        }
+
+        /**
+         * Removes the first pending message of a process, once it has been delivered or discarded.
+         */
+        void remove(Queue<Delivery> pending) {
+            pending.poll();
+            size.decrementAndGet();
+        }
+
+        /**
+         * Appends the messages to the pending ones of the process if it waits for a retry.
+         *
+         * @return true if the messages have been appended, false if the process doesn't wait for a retry.
+         */
+        synchronized boolean appendIfWaitingForRetry(String orderingKey, Collection<Delivery> deliveries) {
+            var pending = waitingForRetry.get(orderingKey);
+            if (pending == null) {
+                return false;
+            }
+            pending.addAll(deliveries);
+            return true;
+        }
+
+        synchronized void waitForRetry(String orderingKey, Queue<Delivery> pending) {
+            waitingForRetry.put(orderingKey, pending);
+        }
+
+        /**
+         * Returns the next pending message of the process, null if there's none, in which case the process doesn't
+         * wait for a retry anymore.
+         */
+        @Nullable
+        synchronized Delivery next(String orderingKey, Queue<Delivery> pending) {
+            var next = pending.peek();
+            if (next == null) {
+                waitingForRetry.remove(orderingKey, pending);
+            }
+            return next;
+        }
+
+        synchronized boolean isIdle() {
+            return queue.isEmpty() && !draining.get() && waitingForRetry.isEmpty();
+        }
+    }
+}
@@ -14,9 +14,11 @@
 
 package org.eclipse.edc.connector.callback.dispatcher;
 
+import org.eclipse.edc.connector.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
 import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
 import org.eclipse.edc.connector.spi.callback.CallbackProtocolResolverRegistry;
 import org.eclipse.edc.connector.spi.callback.CallbackRegistry;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
@@ -24,6 +26,7 @@ import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
 import java.util.List;
@@ -36,6 +39,9 @@ import static java.lang.String.format;
  * Subscriber for invoking callbacks associated to {@link Event}. If the {@link CallbackAddress#getEvents()} matches
  * the {@link Event#name()}, the callback is the invoked using a {@link RemoteMessageDispatcherRegistry} with protocol
  * extracted by {@link CallbackAddress#getUri()}
+ * <p>
+ * If a {@link CallbackDeliveryQueue} is provided, the non-transactional callbacks are queued on it instead of being
+ * dispatched by the event thread.
  */
 public class CallbackEventDispatcher implements EventSubscriber {
     private final RemoteMessageDispatcherRegistry dispatcher;
@@ -43,13 +49,20 @@ public class CallbackEventDispatcher implements EventSubscriber {
     private final Monitor monitor;
     private final CallbackRegistry callbackRegistry;
     private final CallbackProtocolResolverRegistry resolverRegistry;
+    private final CallbackDeliveryQueue deliveryQueue;
 
     public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry, boolean transactional, Monitor monitor) {
+        this(dispatcher, callbackRegistry, resolveRegistry, transactional, monitor, null);
+    }
+
+    public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry, boolean transactional, Monitor monitor,
+                                   @Nullable CallbackDeliveryQueue deliveryQueue) {
         this.dispatcher = dispatcher;
         this.callbackRegistry = callbackRegistry;
         this.transactional = transactional;
         this.resolverRegistry = resolveRegistry;
         this.monitor = monitor;
+        this.deliveryQueue = transactional ? null : deliveryQueue;
     }
 
     @Override
@@ -61,10 +74,12 @@ public class CallbackEventDispatcher implements EventSubscriber {
             if (matches(eventName, callback)) {
                 try {
                     var protocol = resolverRegistry.resolve(URI.create(callback.getUri()).getScheme());
-                    if (protocol != null) {
-                        dispatcher.dispatch(Object.class, new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol)).get();
-                    } else {
+                    if (protocol == null) {
                         monitor.warning(format("Failed to resolve protocol for URI %s", callback.getUri()));
+                    } else if (deliveryQueue != null) {
+                        deliveryQueue.enqueue(new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol), processId(eventEnvelope.getPayload()));
+                    } else {
+                        dispatcher.dispatch(Object.class, new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol)).get();
                     }
                 } catch (Exception e) {
                     monitor.severe(format("Failed to invoke callback at URI: %s", callback.getUri()), e);
@@ -89,6 +104,17 @@ public class CallbackEventDispatcher implements EventSubscriber {
                 .collect(Collectors.toList());
     }
 
+    @Nullable
+    private String processId(Event event) {
+        if (event instanceof TransferProcessEvent transferProcessEvent) {
+            return transferProcessEvent.getTransferProcessId();
+        }
+        if (event instanceof ContractNegotiationEvent contractNegotiationEvent) {
+            return contractNegotiationEvent.getContractNegotiationId();
+        }
+        return null;
+    }
+
     private boolean matches(String eventName, CallbackAddress callbackAddress) {
         return callbackAddress.getEvents().stream().anyMatch(eventName::startsWith);
     }
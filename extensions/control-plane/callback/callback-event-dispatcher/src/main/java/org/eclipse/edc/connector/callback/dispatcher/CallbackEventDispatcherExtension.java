@@ -20,19 +20,46 @@ import org.eclipse.edc.connector.spi.callback.CallbackRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.MetricsInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Provides(CallbackProtocolResolverRegistry.class)
 @Extension(value = CallbackEventDispatcherExtension.NAME)
 public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher extension";
 
+    @Setting(value = "Whether the non-transactional callbacks are delivered by a queue, instead of by the event thread", defaultValue = "true")
+    public static final String CALLBACK_ASYNC_ENABLED = "edc.callback.async.enabled";
+
+    @Setting(value = "Maximum number of events waiting to be delivered to a callback URI, further events are discarded", defaultValue = "1000")
+    public static final String CALLBACK_ASYNC_QUEUE_CAPACITY = "edc.callback.async.queue.capacity";
+
+    @Setting(value = "Maximum number of events taken at once from the queue of a callback URI", defaultValue = "20")
+    public static final String CALLBACK_ASYNC_BATCH_SIZE = "edc.callback.async.batch.size";
+
+    @Setting(value = "Number of threads delivering the queued events", defaultValue = "4")
+    public static final String CALLBACK_ASYNC_THREADS = "edc.callback.async.threads";
+
+    @Setting(value = "Number of retries of a failed delivery, before the event is discarded", defaultValue = "5")
+    public static final String CALLBACK_ASYNC_RETRY_MAX = "edc.callback.async.retry.max";
+
+    @Setting(value = "Milliseconds before the first retry of a failed delivery, doubled on every further retry", defaultValue = "500")
+    public static final String CALLBACK_ASYNC_RETRY_DELAY = "edc.callback.async.retry.delay";
+
     @Inject
     RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -45,6 +72,17 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Inject
     CallbackRegistry callbackRegistry;
 
+    @Inject
+    Clock clock;
+
+    @Inject
+    ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    MetricsInstrumentation metricsInstrumentation;
+
+    private ExecutorService deliveryExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -58,7 +96,36 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
 
         // Event listener for invoking callbacks in sync (transactional) and async (not transactional)
         router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor, createDeliveryQueue(context)));
+
+    }
+
+    @Override
+    public void shutdown() {
+        if (deliveryExecutor != null) {
+            deliveryExecutor.shutdownNow();
+        }
+    }
 
+    private CallbackDeliveryQueue createDeliveryQueue(ServiceExtensionContext context) {
+        if (!context.getSetting(CALLBACK_ASYNC_ENABLED, true)) {
+            return null;
+        }
+        var threads = context.getSetting(CALLBACK_ASYNC_THREADS, 4);
+        deliveryExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(threads), "Callback delivery");
+        var queue = new CallbackDeliveryQueue(dispatcherRegistry, deliveryExecutor, clock,
+                context.getSetting(CALLBACK_ASYNC_QUEUE_CAPACITY, 1000),
+                context.getSetting(CALLBACK_ASYNC_BATCH_SIZE, 20),
+                context.getSetting(CALLBACK_ASYNC_RETRY_MAX, 5),
+                Duration.ofMillis(context.getSetting(CALLBACK_ASYNC_RETRY_DELAY, 500L)),
+                monitor);
+        metricsInstrumentation.gauge("edc.callback.queue.size", Map.of(), queue::getQueueSize);
+        metricsInstrumentation.counter("edc.callback.delivered", Map.of(), queue::getDeliveredCount);
+        metricsInstrumentation.counter("edc.callback.retried", Map.of(), queue::getRetryCount);
+        metricsInstrumentation.counter("edc.callback.failed", Map.of(), queue::getFailedCount);
+        metricsInstrumentation.counter("edc.callback.rejected", Map.of(), queue::getRejectedCount);
+        metricsInstrumentation.gauge("edc.callback.latency.average", Map.of(), queue::getAverageLatencyMillis);
+        metricsInstrumentation.gauge("edc.callback.latency.max", Map.of(), queue::getMaxLatencyMillis);
+        return queue;
     }
 }
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher;
+
+import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.ResponseStatus;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallbackDeliveryQueueTest {
+
+    private final RemoteMessageDispatcherRegistry dispatcher = mock(RemoteMessageDispatcherRegistry.class);
+    private final Clock clock = Clock.systemUTC();
+    private final Monitor monitor = mock(Monitor.class);
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    @Test
+    void enqueue_shouldDeliverMessage() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        var queue = queue(Runnable::run, 10, 0);
+        var message = message("http://callback", "process");
+
+        var accepted = queue.enqueue(message, "process");
+
+        assertThat(accepted).isTrue();
+        verify(dispatcher).dispatch(Object.class, message);
+        assertThat(queue.getDeliveredCount()).isEqualTo(1);
+        assertThat(queue.getQueueSize()).isZero();
+    }
+
+    @Test
+    void enqueue_shouldReject_whenQueueOfUriIsFull() {
+        var queue = queue(tasks::add, 2, 0);
+
+        queue.enqueue(message("http://callback", "process"), "process");
+        queue.enqueue(message("http://callback", "process"), "process");
+        var accepted = queue.enqueue(message("http://callback", "process"), "process");
+        var otherUri = queue.enqueue(message("http://other-callback", "process"), "process");
+
+        assertThat(accepted).isFalse();
+        assertThat(otherUri).isTrue();
+        assertThat(queue.getRejectedCount()).isEqualTo(1);
+        assertThat(queue.getQueueSize()).isEqualTo(3);
+    }
+
+    @Test
+    void enqueue_shouldDeliverMessagesOfSameProcessInOrder() {
+        var pending = new ArrayList<CompletableFuture<StatusResult<Object>>>();
+        var dispatched = new ArrayList<Object>();
+        when(dispatcher.dispatch(any(), any())).thenAnswer(i -> {
+            dispatched.add(i.getArgument(1));
+            var future = new CompletableFuture<StatusResult<Object>>();
+            pending.add(future);
+            return future;
+        });
+        var queue = queue(tasks::add, 10, 0);
+        var first = message("http://callback", "process");
+        var second = message("http://callback", "process");
+        var other = message("http://callback", "other-process");
+
+        queue.enqueue(first, "process");
+        queue.enqueue(second, "process");
+        queue.enqueue(other, "other-process");
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+
+        assertThat(dispatched).containsExactly(first, other);
+        pending.get(0).complete(StatusResult.success("any"));
+        assertThat(dispatched).containsExactly(first, other, second);
+    }
+
+    @Test
+    void enqueue_shouldRetryFailedDelivery() {
+        when(dispatcher.dispatch(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.failure(ResponseStatus.ERROR_RETRY, "error")))
+                .thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        var queue = queue(Runnable::run, 10, 3);
+
+        queue.enqueue(message("http://callback", "process"), "process");
+
+        await().untilAsserted(() -> assertThat(queue.getDeliveredCount()).isEqualTo(1));
+        verify(dispatcher, times(3)).dispatch(any(), any());
+        assertThat(queue.getRetryCount()).isEqualTo(2);
+        assertThat(queue.getFailedCount()).isZero();
+    }
+
+    @Test
+    void enqueue_shouldKeepDispatchingOtherProcesses_whileRetryIsPending() {
+        var dispatched = new ArrayList<Object>();
+        var failing = message("http://callback", "process");
+        when(dispatcher.dispatch(any(), any())).thenAnswer(i -> {
+            dispatched.add(i.getArgument(1));
+            return i.getArgument(1) == failing
+                    ? CompletableFuture.failedFuture(new RuntimeException("error"))
+                    : CompletableFuture.completedFuture(StatusResult.success("any"));
+        });
+        var queue = new CallbackDeliveryQueue(dispatcher, tasks::add, clock, 10, 5, 3, Duration.ofHours(1), monitor);
+        var sameProcess = message("http://callback", "process");
+        var otherProcess = message("http://callback", "other-process");
+
+        queue.enqueue(failing, "process");
+        tasks.get(0).run();
+        queue.enqueue(sameProcess, "process");
+        queue.enqueue(otherProcess, "other-process");
+        assertThat(tasks).hasSize(2);
+        tasks.get(1).run();
+
+        assertThat(dispatched).containsExactly(failing, otherProcess);
+        assertThat(queue.getQueueSize()).isEqualTo(2);
+    }
+
+    @Test
+    void enqueue_shouldReject_whenMessagesOfUriWaitForRetry() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+        var queue = new CallbackDeliveryQueue(dispatcher, tasks::add, clock, 2, 5, 3, Duration.ofHours(1), monitor);
+
+        queue.enqueue(message("http://callback", "process"), "process");
+        tasks.get(0).run();
+        queue.enqueue(message("http://callback", "process"), "process");
+        tasks.get(1).run();
+        var sameProcess = queue.enqueue(message("http://callback", "process"), "process");
+        var otherProcess = queue.enqueue(message("http://callback", "other-process"), "other-process");
+
+        assertThat(sameProcess).isFalse();
+        assertThat(otherProcess).isFalse();
+        assertThat(queue.getRejectedCount()).isEqualTo(2);
+        assertThat(queue.getQueueSize()).isEqualTo(2);
+        verify(dispatcher, times(1)).dispatch(any(), any());
+    }
+
+    @Test
+    void enqueue_shouldDiscardMessage_whenRetriesAreExhausted() {
+        when(dispatcher.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+        var queue = queue(Runnable::run, 10, 2);
+
+        queue.enqueue(message("http://callback", "process"), "process");
+
+        await().untilAsserted(() -> assertThat(queue.getFailedCount()).isEqualTo(1));
+        verify(dispatcher, times(3)).dispatch(any(), any());
+        assertThat(queue.getDeliveredCount()).isZero();
+    }
+
+    private CallbackDeliveryQueue queue(Executor executor, int capacity, int maxRetries) {
+        return new CallbackDeliveryQueue(dispatcher, executor, clock, capacity, 5, maxRetries, Duration.ofMillis(1), monitor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CallbackEventRemoteMessage<TransferProcessCompleted> message(String uri, String processId) {
+        var callback = CallbackAddress.Builder.newInstance()
+                .uri(uri)
+                .events(Set.of("transfer.process.completed"))
+                .build();
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId(processId).build();
+        EventEnvelope<TransferProcessCompleted> envelope = EventEnvelope.Builder.newInstance().id("id").at(10).payload(event).build();
+        return new CallbackEventRemoteMessage<>(callback, envelope, "http");
+    }
+}
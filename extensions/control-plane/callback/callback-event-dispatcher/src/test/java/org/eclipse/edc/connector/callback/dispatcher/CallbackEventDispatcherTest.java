@@ -37,6 +37,8 @@ import java.util.concurrent.CompletableFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -176,6 +178,29 @@ public class CallbackEventDispatcherTest {
 
     }
 
+    @Test
+    void verifyShouldEnqueue_whenNotTransactionalAndDeliveryQueueIsProvided() {
+        var deliveryQueue = mock(CallbackDeliveryQueue.class);
+        dispatcher = new CallbackEventDispatcher(registry, callbackRegistry, resolverRegistry, false, monitor, deliveryQueue);
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+
+        var callback = CallbackAddress.Builder.newInstance()
+                .uri("local://test")
+                .events(Set.of("transfer.process.completed"))
+                .transactional(false)
+                .build();
+
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(callback))
+                .build();
+
+        dispatcher.on(envelope(event));
+
+        verify(deliveryQueue).enqueue(argThat(message -> message.getCounterPartyAddress().equals("local://test")), eq("id"));
+        verifyNoInteractions(registry);
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends Event> EventEnvelope<T> envelope(T event) {
         return EventEnvelope.Builder.newInstance().id("test").at(10).payload(event).build();
@@ -36,13 +36,17 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.partitioningBy;
-import static java.util.stream.Collectors.toMap;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.stream.StreamSupport.stream;
 
 public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
 
@@ -61,9 +65,9 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         return transactionContext.execute(() -> {
             try {
                 var statement = assetStatements.createQuery(querySpec);
+                var sql = assetStatements.getSelectAssetsWithPropertiesTemplate(statement.getQueryAsString());
 
-                return queryExecutor.query(getConnection(), true, this::mapAssetIds, statement.getQueryAsString(), statement.getParameters())
-                        .map(this::findById);
+                return queryAssetsWithProperties(getConnection(), sql, statement.getParameters());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -74,41 +78,18 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
     public @Nullable Asset findById(String assetId) {
         Objects.requireNonNull(assetId);
 
-        try (var connection = getConnection()) {
-
-            return transactionContext.execute(() -> {
-                if (!existsById(assetId, connection)) {
-                    return null;
-                }
-
-                var selectAssetByIdSql = assetStatements.getSelectAssetByIdTemplate();
-                var findPropertyByIdSql = assetStatements.getFindPropertyByIdTemplate();
-                try (
-                        var createdAtStream = queryExecutor.query(connection, false, this::mapCreatedAt, selectAssetByIdSql, assetId);
-                        var allPropertiesStream = queryExecutor.query(connection, false, this::mapPropertyResultSet, findPropertyByIdSql, assetId)
-                ) {
-                    var createdAt = createdAtStream.findFirst().orElse(0L);
-                    var groupedProperties = allPropertiesStream.collect(partitioningBy(SqlPropertyWrapper::isPrivate));
-                    var assetProperties = groupedProperties.get(false).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
-                    var assetPrivateProperties = groupedProperties.get(true).stream().collect(toMap(SqlPropertyWrapper::getPropertyKey, SqlPropertyWrapper::getPropertyValue));
-                    var dataAddress = resolveForAsset(assetId);
-                    return Asset.Builder.newInstance()
-                            .id(assetId)
-                            .properties(assetProperties)
-                            .privateProperties(assetPrivateProperties)
-                            .createdAt(createdAt)
-                            .dataAddress(dataAddress)
-                            .build();
+        return transactionContext.execute(() -> {
+            var sql = assetStatements.getSelectAssetsWithPropertiesTemplate(assetStatements.getSelectAssetByIdTemplate());
+            try (var assets = queryAssetsWithProperties(getConnection(), sql, assetId)) {
+                return assets.findFirst().orElse(null);
+            } catch (Exception e) {
+                if (e instanceof EdcPersistenceException) {
+                    throw (EdcPersistenceException) e;
+                } else {
+                    throw new EdcPersistenceException(e.getMessage(), e);
                 }
-            });
-
-        } catch (Exception e) {
-            if (e instanceof EdcPersistenceException) {
-                throw (EdcPersistenceException) e;
-            } else {
-                throw new EdcPersistenceException(e.getMessage(), e);
             }
-        }
+        });
     }
 
     @Override
@@ -235,8 +216,33 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         });
     }
 
-    private long mapCreatedAt(ResultSet resultSet) throws SQLException {
-        return resultSet.getLong(assetStatements.getCreatedAtColumn());
+    /**
+     * Runs a query that returns one row per asset property and groups the rows of every asset into an {@link Asset}
+     * while the stream is consumed. The connection is closed together with the stream.
+     */
+    private Stream<Asset> queryAssetsWithProperties(Connection connection, String sql, Object... arguments) {
+        var rows = queryExecutor.query(connection, true, this::mapAssetRow, sql, arguments);
+        var assets = new AssetRowGroupIterator(rows.iterator());
+        return stream(spliteratorUnknownSize(assets, ORDERED), false).onClose(rows::close);
+    }
+
+    private AssetRow mapAssetRow(ResultSet resultSet) throws SQLException, ClassNotFoundException {
+        var property = resultSet.getString(assetStatements.getAssetPropertyNameColumn()) == null ? null : mapPropertyResultSet(resultSet);
+        return new AssetRow(
+                resultSet.getString(assetStatements.getAssetIdColumn()),
+                resultSet.getLong(assetStatements.getCreatedAtColumn()),
+                resultSet.getString(assetStatements.getDataAddressPropertiesColumn()),
+                property);
+    }
+
+    private @Nullable DataAddress toDataAddress(@Nullable String properties) {
+        if (properties == null) {
+            return null;
+        }
+        return DataAddress.Builder.newInstance()
+                .properties(fromJson(properties, new TypeReference<>() {
+                }))
+                .build();
     }
 
     private int mapRowCount(ResultSet resultSet) throws SQLException {
@@ -271,34 +277,78 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
     }
 
     private DataAddress mapDataAddress(ResultSet resultSet) throws SQLException {
-        return DataAddress.Builder.newInstance()
-                .properties(fromJson(resultSet.getString(assetStatements.getDataAddressPropertiesColumn()), new TypeReference<>() {
-                }))
-                .build();
+        return toDataAddress(resultSet.getString(assetStatements.getDataAddressPropertiesColumn()));
     }
 
-    private String mapAssetIds(ResultSet resultSet) throws SQLException {
-        return resultSet.getString(assetStatements.getAssetIdColumn());
+    private void insertProperties(Asset asset, String assetId, Connection connection) {
+        var publicProperties = asset.getProperties().entrySet().stream()
+                .map(property -> toPropertyArguments(assetId, property, false));
+        var privateProperties = asset.getPrivateProperties().entrySet().stream()
+                .map(property -> toPropertyArguments(assetId, property, true));
+        var arguments = Stream.concat(publicProperties, privateProperties).toList();
+
+        queryExecutor.executeBatch(connection, assetStatements.getInsertPropertyTemplate(), arguments);
     }
 
-    private void insertProperties(Asset asset, String assetId, Connection connection) {
-        for (var property : asset.getProperties().entrySet()) {
-            queryExecutor.execute(connection,
-                    assetStatements.getInsertPropertyTemplate(),
-                    assetId,
-                    property.getKey(),
-                    toJson(property.getValue()),
-                    property.getValue().getClass().getName(),
-                    false);
+    private Object[] toPropertyArguments(String assetId, Map.Entry<String, Object> property, boolean isPrivate) {
+        return new Object[]{
+                assetId,
+                property.getKey(),
+                toJson(property.getValue()),
+                property.getValue().getClass().getName(),
+                isPrivate
+        };
+    }
+
+    private record AssetRow(String assetId, long createdAt, String dataAddress, @Nullable SqlPropertyWrapper property) {
+    }
+
+    /**
+     * Groups consecutive rows with the same asset id into an {@link Asset}.
+     */
+    private class AssetRowGroupIterator implements Iterator<Asset> {
+        private final Iterator<AssetRow> rows;
+        private AssetRow next;
+
+        AssetRowGroupIterator(Iterator<AssetRow> rows) {
+            this.rows = rows;
         }
-        for (var privateProperty : asset.getPrivateProperties().entrySet()) {
-            queryExecutor.execute(connection,
-                    assetStatements.getInsertPropertyTemplate(),
-                    assetId,
-                    privateProperty.getKey(),
-                    toJson(privateProperty.getValue()),
-                    privateProperty.getValue().getClass().getName(),
-                    true);
+
+        @Override
+        public boolean hasNext() {
+            return next != null || rows.hasNext();
+        }
+
+        @Override
+        public Asset next() {
+            var first = next != null ? next : rows.next();
+            next = null;
+
+            var properties = new HashMap<String, Object>();
+            var privateProperties = new HashMap<String, Object>();
+            var row = first;
+            while (true) {
+                if (row.property() != null) {
+                    var target = row.property().isPrivate() ? privateProperties : properties;
+                    target.put(row.property().getPropertyKey(), row.property().getPropertyValue());
+                }
+                if (!rows.hasNext()) {
+                    break;
+                }
+                row = rows.next();
+                if (!row.assetId().equals(first.assetId())) {
+                    next = row;
+                    break;
+                }
+            }
+
+            return Asset.Builder.newInstance()
+                    .id(first.assetId())
+                    .properties(properties)
+                    .privateProperties(privateProperties)
+                    .createdAt(first.createdAt())
+                    .dataAddress(toDataAddress(first.dataAddress()))
+                    .build();
         }
     }
 
@@ -189,5 +189,13 @@ public interface AssetStatements {
      */
     String getSelectAssetByIdTemplate();
 
+    /**
+     * SELECT statement that joins the assets returned by the passed query with their properties and data address, one
+     * row per property, ordered by asset id so that the rows of every asset are contiguous.
+     *
+     * @param assetQuery a query on the asset table, e.g. the one created by {@link #createQuery(QuerySpec)}.
+     */
+    String getSelectAssetsWithPropertiesTemplate(String assetQuery);
+
 
 }
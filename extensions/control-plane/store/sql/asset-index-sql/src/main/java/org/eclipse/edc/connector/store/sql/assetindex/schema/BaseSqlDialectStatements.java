@@ -159,6 +159,17 @@ public class BaseSqlDialectStatements implements AssetStatements {
         return format("SELECT * FROM %s WHERE %s=?", getAssetTable(), getAssetIdColumn());
     }
 
+    @Override
+    public String getSelectAssetsWithPropertiesTemplate(String assetQuery) {
+        return format("SELECT a.%s, a.%s, d.%s, p.%s, p.%s, p.%s, p.%s FROM (%s) AS a LEFT JOIN %s AS d ON d.%s = a.%s LEFT JOIN %s AS p ON p.%s = a.%s ORDER BY a.%s",
+                getAssetIdColumn(), getCreatedAtColumn(), getDataAddressPropertiesColumn(),
+                getAssetPropertyNameColumn(), getAssetPropertyValueColumn(), getAssetPropertyTypeColumn(), getAssetPropertyIsPrivateColumn(),
+                assetQuery.trim().replaceAll(";$", ""),
+                getDataAddressTable(), getDataAddressAssetIdFkColumn(), getAssetIdColumn(),
+                getAssetPropertyTable(), getPropertyAssetIdFkColumn(), getAssetIdColumn(),
+                getAssetIdColumn());
+    }
+
     /**
      * Concatenates all SELECT statements on all properties into one big statement, or returns "" if list is empty.
      */
@@ -20,17 +20,23 @@ import org.eclipse.edc.connector.store.sql.assetindex.schema.BaseSqlDialectState
 import org.eclipse.edc.connector.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.testfixtures.asset.AssetIndexTestBase;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
@@ -59,6 +65,18 @@ class PostgresAssetIndexTest extends AssetIndexTestBase {
         setupExtension.runQuery("DROP TABLE " + sqlStatements.getAssetPropertyTable() + " CASCADE");
     }
 
+    @Test
+    void queryAssets_shouldMaterializeEveryAssetWithItsPropertiesAndDataAddress() {
+        var assets = IntStream.range(0, 5)
+                .mapToObj(i -> createAssetBuilder("id" + i).property("shared", "value").privateProperty("private", i).build())
+                .peek(sqlAssetIndex::create)
+                .toList();
+
+        var result = sqlAssetIndex.queryAssets(QuerySpec.Builder.newInstance().filter(new Criterion("shared", "=", "value")).build());
+
+        assertThat(result).hasSize(5).usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(assets);
+    }
+
     @Override
     protected SqlAssetIndex getAssetIndex() {
         return sqlAssetIndex;
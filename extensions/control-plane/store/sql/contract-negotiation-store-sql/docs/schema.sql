@@ -79,3 +79,35 @@ CREATE UNIQUE INDEX IF NOT EXISTS contract_negotiation_id_uindex
 
 CREATE UNIQUE INDEX IF NOT EXISTS contract_agreement_id_uindex
     ON edc_contract_agreement (agr_id);
+
+-- used by the state machine to fetch the negotiations in a given state, oldest first
+CREATE INDEX IF NOT EXISTS contract_negotiation_state_index
+    ON edc_contract_negotiation (state, state_timestamp);
+
+-- used to release the leases, only leased negotiations are indexed
+CREATE INDEX IF NOT EXISTS contract_negotiation_lease_id_index
+    ON edc_contract_negotiation (lease_id) WHERE lease_id IS NOT NULL;
+
+-- archived contract negotiations, partitioned by the time of their last state transition. Create a partition per
+-- period, e.g. per month, to be able to drop old partitions, otherwise they are stored in the default partition.
+-- The agreements of the archived negotiations stay in the edc_contract_agreement table
+CREATE TABLE IF NOT EXISTS edc_contract_negotiation_archive
+(
+    id                   VARCHAR NOT NULL,
+    correlation_id       VARCHAR,
+    counterparty_id      VARCHAR NOT NULL,
+    type                 VARCHAR NOT NULL,
+    state                INTEGER NOT NULL,
+    state_timestamp      BIGINT  NOT NULL,
+    created_at           BIGINT  NOT NULL,
+    agreement_id         VARCHAR,
+    contract_negotiation JSON    NOT NULL
+) PARTITION BY RANGE (state_timestamp);
+
+COMMENT ON COLUMN edc_contract_negotiation_archive.contract_negotiation IS 'ContractNegotiation serialized as JSON';
+
+CREATE TABLE IF NOT EXISTS edc_contract_negotiation_archive_default
+    PARTITION OF edc_contract_negotiation_archive DEFAULT;
+
+CREATE INDEX IF NOT EXISTS contract_negotiation_archive_id_index
+    ON edc_contract_negotiation_archive (id);
@@ -24,8 +24,10 @@ import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.Cont
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.ResultSetMapper;
+import org.eclipse.edc.sql.lease.NotifyWorkAvailable;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -37,8 +39,10 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -53,6 +57,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     private final ContractNegotiationStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final List<Runnable> workAvailableListeners = new CopyOnWriteArrayList<>();
 
     public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName,
                                        TransactionContext transactionContext, ObjectMapper objectMapper,
@@ -112,8 +117,8 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
+            transactionContext.registerSynchronization(new NotifyWorkAvailable(workAvailableListeners));
         });
-
     }
 
     @Override
@@ -173,7 +178,9 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
     public @NotNull List<ContractNegotiation> nextNotLeased(int max, Criterion... criteria) {
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).collect(toList());
-            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
+            // oldest first, as the in-memory store, which also lets the state index serve the ordering
+            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max)
+                    .sortField("stateTimestamp").sortOrder(SortOrder.ASC).build();
             var statement = statements.createNegotiationsQuery(querySpec);
             statement.addWhereClause(statements.getNotLeasedFilter());
             statement.addParameter(clock.millis());
@@ -183,7 +190,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
+                leaseContext.withConnection(connection).acquireLeases(negotiations.stream().map(ContractNegotiation::getId).toList());
                 return negotiations;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -191,6 +198,61 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         });
     }
 
+    @Override
+    public void registerWorkAvailableListener(Runnable listener) {
+        workAvailableListeners.add(listener);
+    }
+
+    @Override
+    public int archive(int max, long stateTimestampBefore, Criterion... criteria) {
+        return transactionContext.execute(() -> {
+            var filter = Arrays.stream(criteria).collect(toList());
+            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max)
+                    .sortField("stateTimestamp").sortOrder(SortOrder.ASC).build();
+            var now = clock.millis();
+            var statement = statements.createNegotiationsQuery(querySpec);
+            statement.addWhereClause(format("%s.%s < ?", statements.getContractNegotiationTable(), statements.getStateTimestampColumn()));
+            statement.addParameter(stateTimestampBefore);
+            statement.addWhereClause(statements.getNotLeasedFilter());
+            statement.addParameter(now);
+
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, contractNegotiationMapper(), statement.getQueryAsString(), statement.getParameters())
+            ) {
+                var negotiations = stream.collect(toList());
+                if (negotiations.isEmpty()) {
+                    return 0;
+                }
+
+                // the negotiations are not leased, so their leases, if any, are expired
+                var leaseParameters = new ArrayList<Object>(negotiations.stream().map(ContractNegotiation::getId).toList());
+                leaseParameters.add(now);
+                queryExecutor.execute(connection, statements.getDeleteExpiredLeasesTemplate(negotiations.size()), leaseParameters.toArray());
+
+                for (var negotiation : negotiations) {
+                    insertArchive(connection, negotiation);
+                    queryExecutor.execute(connection, statements.getDeleteArchivedTemplate(), negotiation.getId());
+                }
+                return negotiations.size();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public @NotNull Stream<ContractNegotiation> findArchived(QuerySpec querySpec) {
+        return transactionContext.execute(() -> {
+            try {
+                var statement = statements.createArchiveQuery(querySpec);
+                return queryExecutor.query(getConnection(), true, this::mapArchivedContractNegotiation, statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     private ContractAgreement findContractAgreementInternal(Connection connection, String contractId) {
         var stmt = statements.getFindContractAgreementTemplate();
         return queryExecutor.single(connection, false, this::mapContractAgreement, stmt, contractId);
@@ -251,6 +313,19 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
     }
 
+    private void insertArchive(Connection connection, ContractNegotiation negotiation) {
+        queryExecutor.execute(connection, statements.getInsertArchiveTemplate(),
+                negotiation.getId(),
+                negotiation.getCorrelationId(),
+                negotiation.getCounterPartyId(),
+                negotiation.getType().name(),
+                negotiation.getState(),
+                negotiation.getStateTimestamp(),
+                negotiation.getCreatedAt(),
+                ofNullable(negotiation.getContractAgreement()).map(ContractAgreement::getId).orElse(null),
+                toJson(negotiation));
+    }
+
     private void upsertAgreement(ContractAgreement contractAgreement) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
@@ -350,8 +425,11 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .build();
     }
 
+    private ContractNegotiation mapArchivedContractNegotiation(ResultSet resultSet) throws SQLException {
+        return fromJson(resultSet.getString(statements.getArchivedNegotiationColumn()), ContractNegotiation.class);
+    }
+
     private ContractAgreement extractContractAgreement(ResultSet resultSet) throws SQLException {
         return resultSet.getString(statements.getContractAgreementIdFkColumn()) == null ? null : mapContractAgreement(resultSet);
     }
-
 }
@@ -84,9 +84,31 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
         return format("SELECT * FROM %s LEFT JOIN %s agr ON %s.%s = agr.%s", getContractNegotiationTable(), getContractAgreementTable(), getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementIdColumn());
     }
 
+    @Override
+    public String getInsertArchiveTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?%s);",
+                getArchiveTable(), getIdColumn(), getCorrelationIdColumn(), getCounterPartyIdColumn(), getTypeColumn(),
+                getStateColumn(), getStateTimestampColumn(), getCreatedAtColumn(), getContractAgreementIdFkColumn(),
+                getArchivedNegotiationColumn(), getFormatJsonOperator());
+    }
+
+    @Override
+    public String getDeleteArchivedTemplate() {
+        // the agreement is kept, as it's still in force
+        return format("DELETE FROM %s WHERE %s = ?;", getContractNegotiationTable(), getIdColumn());
+    }
+
+    @Override
+    public String getSelectArchiveTemplate() {
+        return format("SELECT * FROM %s", getArchiveTable());
+    }
+
     @Override
     public SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec) {
         // for generic SQL, only the limit and offset fields are used!
+        if (querySpec.getCursor() != null) {
+            throw new IllegalArgumentException("Continuation cursors are not supported for generic SQL");
+        }
         var sql = getSelectNegotiationsTemplate();
         var stmt = new SqlQueryStatement(sql);
         stmt.addParameter(querySpec.getLimit());
@@ -104,6 +126,15 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
         return stmt;
     }
 
+    @Override
+    public SqlQueryStatement createArchiveQuery(QuerySpec querySpec) {
+        // for generic SQL, only the limit and offset fields are used!
+        var stmt = new SqlQueryStatement(getSelectArchiveTemplate());
+        stmt.addParameter(querySpec.getLimit());
+        stmt.addParameter(querySpec.getOffset());
+        return stmt;
+    }
+
     @Override
     public String getDeleteLeaseTemplate() {
         return format("DELETE FROM %s WHERE %s=?", getLeaseTableName(), getLeaseIdColumn());
@@ -126,6 +157,16 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 getLeaseTableName(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn());
     }
 
+    @Override
+    public String getEntityTableName() {
+        return getContractNegotiationTable();
+    }
+
+    @Override
+    public String getEntityIdColumn() {
+        return getIdColumn();
+    }
+
     /**
      * Overridable operator to convert strings to JSON. For postgres, this is the "::json" operator
      */
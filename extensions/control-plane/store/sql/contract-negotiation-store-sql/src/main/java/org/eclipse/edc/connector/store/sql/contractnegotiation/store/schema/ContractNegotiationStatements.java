@@ -41,6 +41,12 @@ public interface ContractNegotiationStatements extends LeaseStatements {
 
     String getSelectNegotiationsTemplate();
 
+    String getInsertArchiveTemplate();
+
+    String getDeleteArchivedTemplate();
+
+    String getSelectArchiveTemplate();
+
     default String getContractNegotiationTable() {
         return "edc_contract_negotiation";
     }
@@ -49,6 +55,10 @@ public interface ContractNegotiationStatements extends LeaseStatements {
         return "edc_contract_agreement";
     }
 
+    default String getArchiveTable() {
+        return "edc_contract_negotiation_archive";
+    }
+
     default String getIdColumn() {
         return "id";
     }
@@ -137,7 +147,13 @@ public interface ContractNegotiationStatements extends LeaseStatements {
         return "updated_at";
     }
 
+    default String getArchivedNegotiationColumn() {
+        return "contract_negotiation";
+    }
+
     SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec);
 
     SqlQueryStatement createAgreementsQuery(QuerySpec querySpec);
+
+    SqlQueryStatement createArchiveQuery(QuerySpec querySpec);
 }
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.postgres;
+
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.ContractNegotiationStatements;
+import org.eclipse.edc.sql.translation.TranslationMapping;
+
+/**
+ * Maps the fields of an archived {@link ContractNegotiation} that can be queried onto the columns of the archive
+ * table.
+ */
+class ContractNegotiationArchiveMapping extends TranslationMapping {
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_CORRELATION_ID = "correlationId";
+    private static final String FIELD_COUNTER_PARTY_ID = "counterPartyId";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_STATE = "state";
+    private static final String FIELD_STATETIMESTAMP = "stateTimestamp";
+    private static final String FIELD_CREATED_TIMESTAMP = "createdAt";
+    private static final String FIELD_CONTRACT_AGREEMENT = "contractAgreement";
+
+    ContractNegotiationArchiveMapping(ContractNegotiationStatements statements) {
+        add(FIELD_ID, statements.getIdColumn());
+        add(FIELD_CORRELATION_ID, statements.getCorrelationIdColumn());
+        add(FIELD_COUNTER_PARTY_ID, statements.getCounterPartyIdColumn());
+        add(FIELD_TYPE, statements.getTypeColumn());
+        add(FIELD_STATE, statements.getStateColumn());
+        add(FIELD_STATETIMESTAMP, statements.getStateTimestampColumn());
+        add(FIELD_CREATED_TIMESTAMP, statements.getCreatedAtColumn());
+        add(FIELD_CONTRACT_AGREEMENT, new ArchivedAgreementMapping(statements));
+    }
+
+    private static class ArchivedAgreementMapping extends TranslationMapping {
+        private static final String FIELD_ID = "id";
+
+        ArchivedAgreementMapping(ContractNegotiationStatements statements) {
+            add(FIELD_ID, statements.getContractAgreementIdFkColumn());
+        }
+    }
+}
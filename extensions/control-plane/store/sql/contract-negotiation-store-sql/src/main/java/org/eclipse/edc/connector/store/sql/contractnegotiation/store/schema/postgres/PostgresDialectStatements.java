@@ -27,13 +27,14 @@ import org.eclipse.edc.sql.translation.TranslationMapping;
  *
  * @see ContractNegotiationMapping
  * @see ContractAgreementMapping
+ * @see ContractNegotiationArchiveMapping
  */
 public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
     @Override
     public SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec) {
         var selectStmt = getSelectNegotiationsTemplate();
-        return new SqlQueryStatement(selectStmt, querySpec, new ContractNegotiationMapping(this));
+        return new SqlQueryStatement(selectStmt, querySpec, new ContractNegotiationMapping(this), "id");
     }
 
     @Override
@@ -42,6 +43,11 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         return new SqlQueryStatement(selectStmt, querySpec, new ContractAgreementMapping(this));
     }
 
+    @Override
+    public SqlQueryStatement createArchiveQuery(QuerySpec querySpec) {
+        return new SqlQueryStatement(getSelectArchiveTemplate(), querySpec, new ContractNegotiationArchiveMapping(this));
+    }
+
     /**
      * Overridable operator to convert strings to JSON. For postgres, this is the "::json" operator
      */
@@ -91,6 +91,7 @@ class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestB
         extension.runQuery("DROP TABLE " + dialect.getContractNegotiationTable() + " CASCADE");
         extension.runQuery("DROP TABLE " + dialect.getContractAgreementTable() + " CASCADE");
         extension.runQuery("DROP TABLE " + dialect.getLeaseTableName() + " CASCADE");
+        extension.runQuery("DROP TABLE " + dialect.getArchiveTable() + " CASCADE");
     }
 
     @Test
@@ -80,3 +80,41 @@ CREATE UNIQUE INDEX IF NOT EXISTS data_request_id_uindex
 CREATE UNIQUE INDEX IF NOT EXISTS lease_lease_id_uindex
     ON edc_lease (lease_id);
 
+
+-- used by the state machine to fetch the processes in a given state, oldest first
+CREATE INDEX IF NOT EXISTS transfer_process_state_index
+    ON edc_transfer_process (state, state_time_stamp);
+
+-- used to release the leases, only leased processes are indexed
+CREATE INDEX IF NOT EXISTS transfer_process_lease_id_index
+    ON edc_transfer_process (lease_id) WHERE lease_id IS NOT NULL;
+
+-- used to join the data request to its process, and to cascade the deletion of a process
+CREATE INDEX IF NOT EXISTS data_request_process_id_index
+    ON edc_data_request (process_id);
+
+CREATE INDEX IF NOT EXISTS data_request_transfer_process_id_index
+    ON edc_data_request (transfer_process_id);
+
+-- archived transfer processes, partitioned by the time of their last state transition. Create a partition per
+-- period, e.g. per month, to be able to drop old partitions, otherwise they are stored in the default partition
+CREATE TABLE IF NOT EXISTS edc_transfer_process_archive
+(
+    transferprocess_id VARCHAR NOT NULL,
+    type               VARCHAR NOT NULL,
+    state              INTEGER NOT NULL,
+    state_time_stamp   BIGINT  NOT NULL,
+    created_at         BIGINT  NOT NULL,
+    datarequest_id     VARCHAR,
+    asset_id           VARCHAR,
+    contract_id        VARCHAR,
+    transfer_process   JSON    NOT NULL
+) PARTITION BY RANGE (state_time_stamp);
+
+COMMENT ON COLUMN edc_transfer_process_archive.transfer_process IS 'TransferProcess serialized as JSON';
+
+CREATE TABLE IF NOT EXISTS edc_transfer_process_archive_default
+    PARTITION OF edc_transfer_process_archive DEFAULT;
+
+CREATE INDEX IF NOT EXISTS transfer_process_archive_id_index
+    ON edc_transfer_process_archive (transferprocess_id);
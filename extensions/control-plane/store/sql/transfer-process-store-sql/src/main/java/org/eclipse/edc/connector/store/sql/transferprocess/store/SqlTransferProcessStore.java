@@ -25,8 +25,10 @@ import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.lease.NotifyWorkAvailable;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -38,9 +40,11 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -56,6 +60,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     private final String leaseHolderName;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final List<Runnable> workAvailableListeners = new CopyOnWriteArrayList<>();
 
     public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName,
                                    TransactionContext transactionContext, ObjectMapper objectMapper,
@@ -72,7 +77,9 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     public @NotNull List<TransferProcess> nextNotLeased(int max, Criterion... criteria) {
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).collect(toList());
-            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
+            // oldest first, as the in-memory store, which also lets the state index serve the ordering
+            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max)
+                    .sortField("stateTimestamp").sortOrder(SortOrder.ASC).build();
             var statement = statements.createQuery(querySpec);
             statement.addWhereClause(statements.getNotLeasedFilter());
             statement.addParameter(clock.millis());
@@ -82,7 +89,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
+                leaseContext.withConnection(connection).acquireLeases(transferProcesses.stream().map(TransferProcess::getId).toList());
                 return transferProcesses;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -90,6 +97,62 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         });
     }
 
+    @Override
+    public void registerWorkAvailableListener(Runnable listener) {
+        workAvailableListeners.add(listener);
+    }
+
+    @Override
+    public int archive(int max, long stateTimestampBefore, Criterion... criteria) {
+        return transactionContext.execute(() -> {
+            var filter = Arrays.stream(criteria).collect(toList());
+            var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max)
+                    .sortField("stateTimestamp").sortOrder(SortOrder.ASC).build();
+            var now = clock.millis();
+            var statement = statements.createQuery(querySpec);
+            statement.addWhereClause(format("%s < ?", statements.getStateTimestampColumn()));
+            statement.addParameter(stateTimestampBefore);
+            statement.addWhereClause(statements.getNotLeasedFilter());
+            statement.addParameter(now);
+
+            try (
+                    var connection = getConnection();
+                    var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
+            ) {
+                var transferProcesses = stream.collect(Collectors.toList());
+                if (transferProcesses.isEmpty()) {
+                    return 0;
+                }
+
+                // the processes are not leased, so their leases, if any, are expired
+                var leaseParameters = new ArrayList<Object>(transferProcesses.stream().map(TransferProcess::getId).toList());
+                leaseParameters.add(now);
+                queryExecutor.execute(connection, statements.getDeleteExpiredLeasesTemplate(transferProcesses.size()), leaseParameters.toArray());
+
+                for (var process : transferProcesses) {
+                    insertArchive(connection, process);
+                    // deletes the data request too
+                    queryExecutor.execute(connection, statements.getDeleteTransferProcessTemplate(), process.getId());
+                }
+                return transferProcesses.size();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public @NotNull Stream<TransferProcess> findArchived(QuerySpec querySpec) {
+        return transactionContext.execute(() -> {
+            try {
+                var statement = statements.createArchiveQuery(querySpec);
+                return queryExecutor.query(getConnection(), true, this::mapArchivedTransferProcess, statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public @Nullable TransferProcess findById(String id) {
         return transactionContext.execute(() -> {
@@ -127,6 +190,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
+            transactionContext.registerSynchronization(new NotifyWorkAvailable(workAvailableListeners));
         });
     }
 
@@ -282,6 +346,24 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 dr.isManagedResources());
     }
 
+    private void insertArchive(Connection conn, TransferProcess process) {
+        var dataRequest = process.getDataRequest();
+        queryExecutor.execute(conn, statements.getInsertArchiveTemplate(),
+                process.getId(),
+                process.getType().toString(),
+                process.getState(),
+                process.getStateTimestamp(),
+                process.getCreatedAt(),
+                dataRequest.getId(),
+                dataRequest.getAssetId(),
+                dataRequest.getContractId(),
+                toJson(process));
+    }
+
+    private TransferProcess mapArchivedTransferProcess(ResultSet resultSet) throws SQLException {
+        return fromJson(resultSet.getString(statements.getArchivedTransferProcessColumn()), TransferProcess.class);
+    }
+
     private TransferProcess mapTransferProcess(ResultSet resultSet) throws SQLException {
         return TransferProcess.Builder.newInstance()
                 .id(resultSet.getString(statements.getIdColumn()))
@@ -310,5 +392,4 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         return new TypeReference<>() {
         };
     }
-
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.store.sql.transferprocess.store.schema;
 
+import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.postgres.TransferProcessArchiveMapping;
 import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.postgres.TransferProcessMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
@@ -49,6 +50,16 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 getLeaseTableName(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn());
     }
 
+    @Override
+    public String getEntityTableName() {
+        return getTransferProcessTableName();
+    }
+
+    @Override
+    public String getEntityIdColumn() {
+        return getIdColumn();
+    }
+
     @Override
     public String getInsertStatement() {
         return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?, ?%s, ?, ?%s, ?%s, ?%s, ?, ?%s, ?%s, ?%s);",
@@ -101,8 +112,26 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 getDataDestinationColumn(), getFormatAsJsonOperator(), getManagedResourcesColumn(), getDataRequestIdColumn());
     }
 
+    @Override
+    public String getInsertArchiveTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?%s);",
+                getArchiveTableName(), getIdColumn(), getTypeColumn(), getStateColumn(), getStateTimestampColumn(),
+                getCreatedAtColumn(), getDataRequestIdColumn(), getAssetIdColumn(), getContractIdColumn(),
+                getArchivedTransferProcessColumn(), getFormatAsJsonOperator());
+    }
+
+    @Override
+    public String getSelectArchiveTemplate() {
+        return format("SELECT * FROM %s", getArchiveTableName());
+    }
+
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        return new SqlQueryStatement(getSelectTemplate(), querySpec, new TransferProcessMapping(this));
+        return new SqlQueryStatement(getSelectTemplate(), querySpec, new TransferProcessMapping(this), "id");
+    }
+
+    @Override
+    public SqlQueryStatement createArchiveQuery(QuerySpec querySpec) {
+        return new SqlQueryStatement(getSelectArchiveTemplate(), querySpec, new TransferProcessArchiveMapping(this));
     }
 }
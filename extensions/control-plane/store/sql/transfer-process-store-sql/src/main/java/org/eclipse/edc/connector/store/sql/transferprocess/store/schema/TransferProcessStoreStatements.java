@@ -38,6 +38,10 @@ public interface TransferProcessStoreStatements extends LeaseStatements {
 
     String getUpdateDataRequestTemplate();
 
+    String getInsertArchiveTemplate();
+
+    String getSelectArchiveTemplate();
+
     default String getIdColumn() {
         return "transferprocess_id";
     }
@@ -146,9 +150,19 @@ public interface TransferProcessStoreStatements extends LeaseStatements {
         return "callback_addresses";
     }
 
+    default String getArchiveTableName() {
+        return "edc_transfer_process_archive";
+    }
+
+    default String getArchivedTransferProcessColumn() {
+        return "transfer_process";
+    }
+
     default String getFormatAsJsonOperator() {
         return BaseSqlDialect.getJsonCastOperator();
     }
 
     SqlQueryStatement createQuery(QuerySpec querySpec);
+
+    SqlQueryStatement createArchiveQuery(QuerySpec querySpec);
 }
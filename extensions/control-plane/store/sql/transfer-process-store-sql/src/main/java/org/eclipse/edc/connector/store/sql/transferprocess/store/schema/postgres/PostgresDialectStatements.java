@@ -41,13 +41,13 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         // if any criterion targets a JSON array field, we need to slightly adapt the FROM clause
         if (querySpec.containsAnyLeftOperand("resourceManifest.definitions")) {
             var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s -> '%s'", getResourceManifestColumn(), "definitions"), DEFINITIONS_ALIAS);
-            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this));
+            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), "id");
         } else if (querySpec.containsAnyLeftOperand("provisionedResourceSet.resources")) {
             var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s -> '%s'", getProvisionedResourceSetColumn(), "resources"), RESOURCES_ALIAS);
-            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this));
+            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), "id");
         } else if (querySpec.containsAnyLeftOperand("deprovisionedResources")) {
             var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s", getDeprovisionedResourcesColumn()), DEPROVISIONED_RESOURCES_ALIAS);
-            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this));
+            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), "id");
         }
         return super.createQuery(querySpec);
     }
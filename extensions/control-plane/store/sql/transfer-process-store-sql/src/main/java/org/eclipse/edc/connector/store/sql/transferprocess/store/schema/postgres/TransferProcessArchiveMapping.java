@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.transferprocess.store.schema.postgres;
+
+import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.TransferProcessStoreStatements;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.sql.translation.TranslationMapping;
+
+/**
+ * Maps the fields of an archived {@link TransferProcess} that can be queried onto the columns of the archive table.
+ */
+public class TransferProcessArchiveMapping extends TranslationMapping {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_STATE = "state";
+    private static final String FIELD_STATE_TIMESTAMP = "stateTimestamp";
+    private static final String FIELD_CREATED_TIMESTAMP = "createdAt";
+    private static final String FIELD_DATAREQUEST = "dataRequest";
+
+    public TransferProcessArchiveMapping(TransferProcessStoreStatements statements) {
+        add(FIELD_ID, statements.getIdColumn());
+        add(FIELD_TYPE, statements.getTypeColumn());
+        add(FIELD_STATE, statements.getStateColumn());
+        add(FIELD_STATE_TIMESTAMP, statements.getStateTimestampColumn());
+        add(FIELD_CREATED_TIMESTAMP, statements.getCreatedAtColumn());
+        add(FIELD_DATAREQUEST, new ArchivedDataRequestMapping(statements));
+    }
+
+    private static class ArchivedDataRequestMapping extends TranslationMapping {
+
+        private static final String FIELD_ID = "id";
+        private static final String FIELD_ASSET_ID = "assetId";
+        private static final String FIELD_CONTRACT_ID = "contractId";
+
+        ArchivedDataRequestMapping(TransferProcessStoreStatements statements) {
+            add(FIELD_ID, statements.getDataRequestIdColumn());
+            add(FIELD_ASSET_ID, statements.getAssetIdColumn());
+            add(FIELD_CONTRACT_ID, statements.getContractIdColumn());
+        }
+    }
+}
@@ -28,6 +28,7 @@ public class TransferProcessMapping extends TranslationMapping {
     private static final String FIELD_ID = "id";
     private static final String FIELD_TYPE = "type";
     private static final String FIELD_STATE = "state";
+    private static final String FIELD_STATE_TIMESTAMP = "stateTimestamp";
     private static final String FIELD_CREATED_TIMESTAMP = "createdAt";
     private static final String FIELD_TRACECONTEXT = "traceContext";
     private static final String FIELD_ERRORDETAIL = "errorDetail";
@@ -46,6 +47,7 @@ public class TransferProcessMapping extends TranslationMapping {
         add(FIELD_ID, statements.getIdColumn());
         add(FIELD_TYPE, statements.getTypeColumn());
         add(FIELD_STATE, statements.getStateColumn());
+        add(FIELD_STATE_TIMESTAMP, statements.getStateTimestampColumn());
         add(FIELD_CREATED_TIMESTAMP, statements.getCreatedAtColumn());
         add(FIELD_TRACECONTEXT, new JsonFieldMapping(statements.getTraceContextColumn()));
         add(FIELD_ERRORDETAIL, statements.getErrorDetailColumn());
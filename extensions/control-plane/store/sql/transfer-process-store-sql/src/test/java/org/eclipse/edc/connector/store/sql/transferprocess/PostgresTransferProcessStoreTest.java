@@ -79,6 +79,7 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
         extension.runQuery("DROP TABLE " + statements.getTransferProcessTableName() + " CASCADE");
         extension.runQuery("DROP TABLE " + statements.getDataRequestTable() + " CASCADE");
         extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getArchiveTableName() + " CASCADE");
     }
 
     @Test
@@ -30,6 +30,12 @@ public interface TransferDataPlaneConfig {
     @Setting(value = "Alias of public key used for verifying the tokens, retrieved from the vault", defaultValue = "A random EC public key")
     String TOKEN_VERIFIER_PUBLIC_KEY_ALIAS = "edc.transfer.proxy.token.verifier.publickey.alias";
 
+    @Setting(value = "Maximum number of verified tokens cached by the token validation API, 0 disables the cache", defaultValue = "0", type = "int")
+    String TOKEN_VALIDATION_CACHE_SIZE = "edc.transfer.proxy.token.validation.cache.size";
+
+    @Setting(value = "Maximum seconds a verified token is cached by the token validation API, regardless of its expiration", defaultValue = "60", type = "long")
+    String TOKEN_VALIDATION_CACHE_MAX_TTL = "edc.transfer.proxy.token.validation.cache.max-ttl";
+
     String DEFAULT_DPF_SELECTOR_STRATEGY = "random";
     @Setting(value = "Strategy for Data Plane instance selection", defaultValue = DEFAULT_DPF_SELECTOR_STRATEGY)
     String DPF_SELECTOR_STRATEGY = "edc.transfer.client.selector.strategy";
@@ -30,15 +30,18 @@ import org.eclipse.edc.connector.transfer.dataplane.validation.ContractValidatio
 import org.eclipse.edc.connector.transfer.dataplane.validation.ExpirationDateValidationRule;
 import org.eclipse.edc.connector.transfer.spi.callback.ControlPlaneApiUrl;
 import org.eclipse.edc.connector.transfer.spi.flow.DataFlowManager;
+import org.eclipse.edc.jwt.CachingTokenValidationService;
 import org.eclipse.edc.jwt.TokenGenerationServiceImpl;
 import org.eclipse.edc.jwt.TokenValidationRulesRegistryImpl;
 import org.eclipse.edc.jwt.TokenValidationServiceImpl;
+import org.eclipse.edc.jwt.VerifiedTokenCache;
 import org.eclipse.edc.jwt.spi.TokenValidationService;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.MetricsInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -47,9 +50,12 @@ import org.eclipse.edc.web.spi.WebService;
 import java.security.KeyPair;
 import java.security.PublicKey;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Objects;
 
 import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_SIGNER_PRIVATE_KEY_ALIAS;
+import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_VALIDATION_CACHE_MAX_TTL;
+import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_VALIDATION_CACHE_SIZE;
 import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_VERIFIER_PUBLIC_KEY_ALIAS;
 
 @Extension(value = TransferDataPlaneCoreExtension.NAME)
@@ -96,6 +102,9 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private MetricsInstrumentation metricsInstrumentation;
+
     @Override
     public String name() {
         return NAME;
@@ -104,7 +113,7 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var keyPair = keyPairFromConfig(context);
-        var controller = new ConsumerPullTransferTokenValidationApiController(tokenValidationService(keyPair.getPublic()), dataEncrypter, typeManager);
+        var controller = new ConsumerPullTransferTokenValidationApiController(tokenValidationService(context, keyPair.getPublic()), dataEncrypter, typeManager);
         webService.registerResource(controlApiConfiguration.getContextAlias(), controller);
 
         var resolver = new ConsumerPullDataPlaneProxyResolver(dataEncrypter, typeManager, new TokenGenerationServiceImpl(keyPair.getPrivate()), tokenExpirationDateFunction);
@@ -126,10 +135,18 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
                 .orElseThrow(failure -> new EdcException(failure.getFailureDetail()));
     }
 
-    private TokenValidationService tokenValidationService(PublicKey publicKey) {
+    private TokenValidationService tokenValidationService(ServiceExtensionContext context, PublicKey publicKey) {
         var registry = new TokenValidationRulesRegistryImpl();
         registry.addRule(new ContractValidationRule(contractNegotiationStore, clock));
         registry.addRule(new ExpirationDateValidationRule(clock));
-        return new TokenValidationServiceImpl(id -> publicKey, registry);
+        var tokenValidationService = new TokenValidationServiceImpl(id -> publicKey, registry);
+        var cacheSize = context.getSetting(TOKEN_VALIDATION_CACHE_SIZE, 0);
+        if (cacheSize <= 0) {
+            return tokenValidationService;
+        }
+        var maxTtl = Duration.ofSeconds(context.getSetting(TOKEN_VALIDATION_CACHE_MAX_TTL, 60L));
+        var verifiedTokenCache = new VerifiedTokenCache(clock, maxTtl, cacheSize);
+        verifiedTokenCache.registerMetrics(metricsInstrumentation, "consumer-pull");
+        return new CachingTokenValidationService(tokenValidationService, verifiedTokenCache);
     }
 }
@@ -32,6 +32,7 @@ import org.eclipse.edc.web.spi.WebService;
 import org.eclipse.edc.web.spi.configuration.WebServiceConfigurer;
 import org.eclipse.edc.web.spi.configuration.WebServiceSettings;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 /**
@@ -50,6 +51,10 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @Setting
     private static final String CONTROL_PLANE_VALIDATION_ENDPOINT = "edc.dataplane.token.validation.endpoint";
 
+    private static final int DEFAULT_PUBLIC_API_THREADS = 20;
+    @Setting(value = "Number of threads streaming the public API responses, that is the maximum number of concurrent downloads", defaultValue = DEFAULT_PUBLIC_API_THREADS + "")
+    private static final String PUBLIC_API_THREADS = "edc.dataplane.api.public.threads";
+
     private static final WebServiceSettings PUBLIC_SETTINGS = WebServiceSettings.Builder.newInstance()
             .apiConfigKey(PUBLIC_API_CONFIG)
             .contextAlias(PUBLIC_CONTEXT_ALIAS)
@@ -79,6 +84,11 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService executorService;
+
     @Override
     public String name() {
         return NAME;
@@ -92,8 +102,9 @@ public class DataPlaneApiExtension implements ServiceExtension {
 
         var dataAddressResolver = new ConsumerPullTransferDataAddressResolver(httpClient, validationEndpoint, typeManager.getMapper());
 
-        var executorService = context.getService(ExecutorInstrumentation.class)
-                .instrument(Executors.newSingleThreadExecutor(), DataPlanePublicApiController.class.getSimpleName());
+        // every download is streamed to the client by a thread of this pool for its whole duration, further ones wait
+        var threads = context.getSetting(PUBLIC_API_THREADS, DEFAULT_PUBLIC_API_THREADS);
+        executorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(threads), DataPlanePublicApiController.class.getSimpleName());
 
         webService.registerResource(controlApiConfiguration.getContextAlias(), new DataPlaneControlApiController(dataPlaneManager));
 
@@ -101,4 +112,11 @@ public class DataPlaneApiExtension implements ServiceExtension {
         var publicApiController = new DataPlanePublicApiController(dataPlaneManager, dataAddressResolver, monitor, executorService);
         webService.registerResource(configuration.getContextAlias(), publicApiController);
     }
+
+    @Override
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
 }
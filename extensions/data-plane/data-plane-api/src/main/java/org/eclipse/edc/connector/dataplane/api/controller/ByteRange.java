@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.api.controller;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.regex.Pattern;
+
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
+
+/**
+ * A single byte range as requested through the HTTP {@code Range} header, e.g. {@code bytes=0-499}, {@code bytes=500-}
+ * or {@code bytes=-500}. Multiple ranges are not supported, so they are treated like a missing header.
+ *
+ * @param first the first byte position, or {@code SIZE_UNKNOWN} for a suffix range.
+ * @param last the last byte position (inclusive), or {@code SIZE_UNKNOWN} if open-ended. For a suffix
+ *         range, the number of trailing bytes.
+ */
+record ByteRange(long first, long last) {
+
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    /**
+     * Parses the {@code Range} header value.
+     *
+     * @return the range, or null if the header is missing or not a single valid byte range.
+     */
+    @Nullable
+    static ByteRange parse(@Nullable String header) {
+        if (header == null) {
+            return null;
+        }
+        var matcher = RANGE_PATTERN.matcher(header.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            var first = matcher.group(1).isEmpty() ? SIZE_UNKNOWN : Long.parseLong(matcher.group(1));
+            var last = matcher.group(2).isEmpty() ? SIZE_UNKNOWN : Long.parseLong(matcher.group(2));
+            if (first == SIZE_UNKNOWN && last == SIZE_UNKNOWN || first != SIZE_UNKNOWN && last != SIZE_UNKNOWN && last < first) {
+                return null;
+            }
+            return new ByteRange(first, last);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Resolves the range against the size of the content.
+     *
+     * @param size the content size, or {@code SIZE_UNKNOWN}.
+     * @return the resolved range with both positions set, or null if it cannot be resolved because the size is not
+     *         known or the range is not satisfiable.
+     */
+    @Nullable
+    ByteRange resolve(long size) {
+        if (size == SIZE_UNKNOWN) {
+            return first != SIZE_UNKNOWN && last != SIZE_UNKNOWN ? this : null;
+        }
+        if (first == SIZE_UNKNOWN) {
+            return last == 0 || size == 0 ? null : new ByteRange(Math.max(0, size - last), size - 1);
+        }
+        if (first >= size) {
+            return null;
+        }
+        return new ByteRange(first, last == SIZE_UNKNOWN ? size - 1 : Math.min(last, size - 1));
+    }
+
+    long length() {
+        return last - first + 1;
+    }
+}
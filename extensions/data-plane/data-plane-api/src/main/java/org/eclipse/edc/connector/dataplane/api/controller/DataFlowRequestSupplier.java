@@ -29,9 +29,12 @@ import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSche
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.METHOD;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.PATH;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.QUERY_PARAMS;
+import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.RANGE;
 
 public class DataFlowRequestSupplier implements BiFunction<ContainerRequestContextApi, DataAddress, DataFlowRequest> {
 
+    private static final String RANGE_HEADER = "Range";
+
     /**
      * Create a {@link DataFlowRequest} based on incoming request and claims decoded from the access token.
      *
@@ -62,6 +65,10 @@ public class DataFlowRequestSupplier implements BiFunction<ContainerRequestConte
         props.put(METHOD, contextApi.method());
         props.put(QUERY_PARAMS, contextApi.queryParams());
         props.put(PATH, contextApi.path());
+        contextApi.headers().entrySet().stream()
+                .filter(header -> RANGE_HEADER.equalsIgnoreCase(header.getKey()))
+                .findFirst()
+                .ifPresent(header -> props.put(RANGE, header.getValue()));
         Optional.ofNullable(contextApi.mediaType())
                 .ifPresent(mediaType -> {
                     props.put(MEDIA_TYPE, mediaType);
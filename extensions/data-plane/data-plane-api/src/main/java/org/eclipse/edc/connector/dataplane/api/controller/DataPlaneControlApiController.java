@@ -29,6 +29,8 @@ import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions.internalErrors;
+import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions.serviceUnavailableErrors;
 import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions.validationError;
 import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions.validationErrors;
 
@@ -48,8 +50,14 @@ public class DataPlaneControlApiController implements DataPlaneControlApi {
         // TODO token authentication
         var result = dataPlaneManager.validate(request);
         if (result.succeeded()) {
-            dataPlaneManager.initiateTransfer(request);
-            response.resume(Response.ok().build());
+            var initiateResult = dataPlaneManager.initiateTransfer(request);
+            if (initiateResult.succeeded()) {
+                response.resume(Response.ok().build());
+            } else if (initiateResult.fatalError()) {
+                response.resume(internalErrors(initiateResult.getFailureMessages()));
+            } else {
+                response.resume(serviceUnavailableErrors(initiateResult.getFailureMessages()));
+            }
         } else {
             var resp = result.getFailureMessages().isEmpty() ?
                     validationError(format("Failed to validate request: %s", request.getId())) :
@@ -29,26 +29,35 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
-import org.eclipse.edc.connector.dataplane.util.sink.OutputStreamDataSink;
+import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink;
+import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink.AsyncResponseCallback;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.web.spi.exception.NotAuthorizedException;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.ByteArrayOutputStream;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions.internalErrors;
 import static org.eclipse.edc.connector.dataplane.api.response.ResponseFunctions.validationError;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
 
 @Path("{any:.*}")
 @Produces(MediaType.APPLICATION_JSON)
 public class DataPlanePublicApiController implements DataPlanePublicApi {
 
+    private static final String RANGE = "Range";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String BYTES = "bytes";
+
     private final DataPlaneManager dataPlaneManager;
     private final DataAddressResolver dataAddressResolver;
     private final DataFlowRequestSupplier requestSupplier;
@@ -140,14 +149,15 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
             return;
         }
 
-        var stream = new ByteArrayOutputStream();
-        var sink = new OutputStreamDataSink(dataFlowRequest.getId(), stream, executorService, monitor);
+        var range = ByteRange.parse(context.getHeaderString(RANGE));
+        var sink = new AsyncStreamingDataSink(callback -> response.resume(streamingResponse(callback, range)), executorService, monitor);
 
         dataPlaneManager.transfer(sink, dataFlowRequest)
                 .whenComplete((result, throwable) -> {
                     if (throwable == null) {
                         if (result.succeeded()) {
-                            response.resume(Response.ok(stream.toString()).build());
+                            // no-op if the data has already been streamed
+                            response.resume(Response.ok().build());
                         } else {
                             response.resume(internalErrors(result.getFailureMessages()));
                         }
@@ -157,6 +167,55 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
                 });
     }
 
+    /**
+     * Creates a response that streams the source content to the client, forwarding its media type and size. If a
+     * satisfiable range has been requested, only that segment is sent: the range is forwarded to the source, and cut
+     * out of the whole content only if the source does not support it.
+     */
+    private Response streamingResponse(AsyncResponseCallback callback, @Nullable ByteRange range) {
+        var mediaType = Optional.ofNullable(callback.mediaType()).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        var size = callback.size();
+
+        if (range != null) {
+            var contentRange = callback.contentRange();
+            if (contentRange != null) {
+                StreamingOutput output = callback::writeTo;
+                var builder = Response.status(Response.Status.PARTIAL_CONTENT)
+                        .entity(output)
+                        .type(mediaType)
+                        .header(ACCEPT_RANGES, BYTES)
+                        .header(CONTENT_RANGE, contentRange);
+                if (size != SIZE_UNKNOWN) {
+                    builder.header(HttpHeaders.CONTENT_LENGTH, size);
+                }
+                return builder.build();
+            }
+
+            var resolved = range.resolve(size);
+            if (resolved != null) {
+                StreamingOutput output = outputStream -> callback.writeTo(outputStream, resolved.first(), resolved.length());
+                return Response.status(Response.Status.PARTIAL_CONTENT)
+                        .entity(output)
+                        .type(mediaType)
+                        .header(ACCEPT_RANGES, BYTES)
+                        .header(CONTENT_RANGE, format("%s %d-%d/%s", BYTES, resolved.first(), resolved.last(), size == SIZE_UNKNOWN ? "*" : size))
+                        .header(HttpHeaders.CONTENT_LENGTH, resolved.length())
+                        .build();
+            } else if (size != SIZE_UNKNOWN) {
+                return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(CONTENT_RANGE, format("%s */%d", BYTES, size))
+                        .build();
+            }
+        }
+
+        StreamingOutput output = callback::writeTo;
+        var builder = Response.ok(output, mediaType).header(ACCEPT_RANGES, BYTES);
+        if (size != SIZE_UNKNOWN) {
+            builder.header(HttpHeaders.CONTENT_LENGTH, size);
+        }
+        return builder.build();
+    }
+
     /**
      * Invoke the {@link DataAddressResolver} with the provided token to retrieve the source data address.
      *
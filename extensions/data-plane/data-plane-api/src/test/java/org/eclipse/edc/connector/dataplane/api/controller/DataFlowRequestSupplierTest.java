@@ -93,4 +93,17 @@ class DataFlowRequestSupplierTest {
                 DataFlowRequestSchema.MEDIA_TYPE, MediaType.TEXT_PLAIN
         ));
     }
+
+    @Test
+    void verifyMapping_withRange() {
+        var contextApi = mock(ContainerRequestContextApi.class);
+        var address = createDataAddress();
+
+        when(contextApi.method()).thenReturn(HttpMethod.GET);
+        when(contextApi.headers()).thenReturn(Map.of("range", "bytes=2-5"));
+
+        var request = supplier.apply(contextApi, address);
+
+        assertThat(request.getProperties()).containsEntry(DataFlowRequestSchema.RANGE, "bytes=2-5");
+    }
 }
@@ -21,11 +21,14 @@ import io.restassured.http.ContentType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.OutputStreamDataSinkFactory;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.junit.extensions.EdcExtension;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.spi.response.ResponseStatus;
+import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -46,9 +49,11 @@ import org.mockserver.model.HttpResponse;
 import org.mockserver.model.MediaType;
 import org.mockserver.verify.VerificationTimes;
 
+import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
@@ -119,6 +124,7 @@ class DataPlaneApiIntegrationTest {
                 .build();
 
         when(dataPlaneManager.validate(isA(DataFlowRequest.class))).thenReturn(Result.success(Boolean.TRUE));
+        when(dataPlaneManager.initiateTransfer(isA(DataFlowRequest.class))).thenReturn(StatusResult.success());
 
         given().port(CONTROL_API_PORT)
                 .when()
@@ -131,6 +137,28 @@ class DataPlaneApiIntegrationTest {
         verify(dataPlaneManager).initiateTransfer(isA(DataFlowRequest.class));
     }
 
+    @Test
+    void controlApi_should_returnServiceUnavailable_if_queueIsFull() {
+        var flowRequest = DataFlowRequest.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .processId(UUID.randomUUID().toString())
+                .sourceDataAddress(testDestAddress())
+                .destinationDataAddress(testDestAddress())
+                .build();
+
+        when(dataPlaneManager.validate(isA(DataFlowRequest.class))).thenReturn(Result.success(Boolean.TRUE));
+        when(dataPlaneManager.initiateTransfer(isA(DataFlowRequest.class))).thenReturn(StatusResult.failure(ResponseStatus.ERROR_RETRY, "queue is full"));
+
+        given().port(CONTROL_API_PORT)
+                .when()
+                .contentType(ContentType.JSON)
+                .body(flowRequest)
+                .post("/control/transfer")
+                .then()
+                .statusCode(Response.Status.SERVICE_UNAVAILABLE.getStatusCode())
+                .body("errors", CoreMatchers.equalTo(List.of("queue is full")));
+    }
+
     @Test
     void controlApi_should_returnBadRequest_if_requestIsInValid() {
         var errorMsg = "test error message";
@@ -298,6 +326,132 @@ class DataPlaneApiIntegrationTest {
                 });
     }
 
+    @Test
+    void publicApi_should_streamDataFromSource_withSourceContentType() throws JsonProcessingException {
+        var token = UUID.randomUUID().toString();
+        tokenValidationServer.when(new HttpRequest().withHeader(AUTHORIZATION, token), once())
+                .respond(new HttpResponse()
+                        .withStatusCode(200)
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(MAPPER.writeValueAsString(testDestAddress()))
+                );
+        when(dataPlaneManager.validate(any())).thenReturn(Result.success(true));
+        when(dataPlaneManager.transfer(any(DataSink.class), any()))
+                .thenAnswer(i -> i.getArgument(0, DataSink.class).transfer(testSource("0123456789")));
+
+        given()
+                .port(PUBLIC_API_PORT)
+                .header(AUTHORIZATION, token)
+                .when()
+                .get("/public/any")
+                .then()
+                .statusCode(Response.Status.OK.getStatusCode())
+                .contentType("text/plain")
+                .header("Accept-Ranges", "bytes")
+                .body(is("0123456789"));
+    }
+
+    @Test
+    void publicApi_should_streamRangeFromSource_ifRangeRequested() throws JsonProcessingException {
+        var token = UUID.randomUUID().toString();
+        tokenValidationServer.when(new HttpRequest().withHeader(AUTHORIZATION, token), once())
+                .respond(new HttpResponse()
+                        .withStatusCode(200)
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(MAPPER.writeValueAsString(testDestAddress()))
+                );
+        when(dataPlaneManager.validate(any())).thenReturn(Result.success(true));
+        when(dataPlaneManager.transfer(any(DataSink.class), any()))
+                .thenAnswer(i -> i.getArgument(0, DataSink.class).transfer(testSource("0123456789")));
+
+        given()
+                .port(PUBLIC_API_PORT)
+                .header(AUTHORIZATION, token)
+                .header("Range", "bytes=2-5")
+                .when()
+                .get("/public/any")
+                .then()
+                .statusCode(Response.Status.PARTIAL_CONTENT.getStatusCode())
+                .header("Content-Range", "bytes 2-5/10")
+                .body(is("2345"));
+    }
+
+    @Test
+    void publicApi_should_forwardRangeToSource_ifRangeRequested() throws JsonProcessingException {
+        var token = UUID.randomUUID().toString();
+        tokenValidationServer.when(new HttpRequest().withHeader(AUTHORIZATION, token), once())
+                .respond(new HttpResponse()
+                        .withStatusCode(200)
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(MAPPER.writeValueAsString(testDestAddress()))
+                );
+        var part = mock(DataSource.Part.class);
+        when(part.openStream()).thenReturn(new ByteArrayInputStream("2345".getBytes()));
+        when(part.size()).thenReturn(4L);
+        when(part.contentRange()).thenReturn("bytes 2-5/10");
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+        when(dataPlaneManager.validate(any())).thenReturn(Result.success(true));
+        when(dataPlaneManager.transfer(any(DataSink.class), any()))
+                .thenAnswer(i -> i.getArgument(0, DataSink.class).transfer(source));
+
+        given()
+                .port(PUBLIC_API_PORT)
+                .header(AUTHORIZATION, token)
+                .header("Range", "bytes=2-5")
+                .when()
+                .get("/public/any")
+                .then()
+                .statusCode(Response.Status.PARTIAL_CONTENT.getStatusCode())
+                .header("Content-Range", "bytes 2-5/10")
+                .body(is("2345"));
+
+        var requestCaptor = ArgumentCaptor.forClass(DataFlowRequest.class);
+        verify(dataPlaneManager).transfer(any(DataSink.class), requestCaptor.capture());
+        assertThat(requestCaptor.getValue().getProperties()).containsEntry("range", "bytes=2-5");
+    }
+
+    @Test
+    void publicApi_should_streamAllSourceParts() throws JsonProcessingException {
+        var token = UUID.randomUUID().toString();
+        tokenValidationServer.when(new HttpRequest().withHeader(AUTHORIZATION, token), once())
+                .respond(new HttpResponse()
+                        .withStatusCode(200)
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(MAPPER.writeValueAsString(testDestAddress()))
+                );
+        var part1 = mock(DataSource.Part.class);
+        when(part1.openStream()).thenReturn(new ByteArrayInputStream("01234".getBytes()));
+        when(part1.size()).thenReturn(5L);
+        var part2 = mock(DataSource.Part.class);
+        when(part2.openStream()).thenReturn(new ByteArrayInputStream("56789".getBytes()));
+        when(part2.size()).thenReturn(5L);
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part1, part2)));
+        when(dataPlaneManager.validate(any())).thenReturn(Result.success(true));
+        when(dataPlaneManager.transfer(any(DataSink.class), any()))
+                .thenAnswer(i -> i.getArgument(0, DataSink.class).transfer(source));
+
+        given()
+                .port(PUBLIC_API_PORT)
+                .header(AUTHORIZATION, token)
+                .when()
+                .get("/public/any")
+                .then()
+                .statusCode(Response.Status.OK.getStatusCode())
+                .body(is("0123456789"));
+    }
+
+    private DataSource testSource(String content) {
+        var part = mock(DataSource.Part.class);
+        when(part.openStream()).thenReturn(new ByteArrayInputStream(content.getBytes()));
+        when(part.mediaType()).thenReturn("text/plain");
+        when(part.size()).thenReturn((long) content.length());
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(part)));
+        return source;
+    }
+
     private DataAddress testDestAddress() {
         return DataAddress.Builder.newInstance().type("test").build();
     }
@@ -42,7 +42,6 @@ public class EmbeddedDataPlaneClient implements DataPlaneClient {
         if (result.failed()) {
             return StatusResult.failure(ResponseStatus.FATAL_ERROR, String.join(", ", result.getFailureMessages()));
         }
-        dataPlaneManager.initiateTransfer(request);
-        return StatusResult.success();
+        return dataPlaneManager.initiateTransfer(request);
     }
 }
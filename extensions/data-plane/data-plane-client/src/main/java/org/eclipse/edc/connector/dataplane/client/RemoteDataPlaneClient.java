@@ -43,6 +43,8 @@ import static java.lang.String.format;
  */
 public class RemoteDataPlaneClient implements DataPlaneClient {
     public static final MediaType TYPE_JSON = MediaType.parse("application/json");
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
     private final DataPlaneSelectorClient selectorClient;
     private final String selectorStrategy;
     private final EdcHttpClient httpClient;
@@ -86,11 +88,18 @@ public class RemoteDataPlaneClient implements DataPlaneClient {
         }
     }
 
+    /**
+     * Maps the error response to a failure. The data plane answers 503 or 429 when it can't accept the request for now,
+     * e.g. when its queue is full, so the request can be retried later; any other error is fatal.
+     */
     private StatusResult<Void> handleError(Response response, String requestId) {
         var errorMsg = Optional.ofNullable(response.body())
                 .map(this::formatErrorMessage)
                 .orElse("null response body");
-        return StatusResult.failure(ResponseStatus.FATAL_ERROR, format("Transfer request failed with status code %s for request %s: %s", response.code(), requestId, errorMsg));
+        var status = response.code() == SERVICE_UNAVAILABLE || response.code() == TOO_MANY_REQUESTS
+                ? ResponseStatus.ERROR_RETRY
+                : ResponseStatus.FATAL_ERROR;
+        return StatusResult.failure(status, format("Transfer request failed with status code %s for request %s: %s", response.code(), requestId, errorMsg));
     }
 
     private String formatErrorMessage(ResponseBody body) {
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.dataplane.client;
 
 import org.eclipse.edc.connector.dataplane.spi.client.DataPlaneClient;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
@@ -24,8 +25,8 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -52,7 +53,6 @@ class EmbeddedDataPlaneClientTest {
         var errorMsg = "error";
         var request = createDataFlowRequest();
         when(dataPlaneManagerMock.validate(any())).thenReturn(Result.failure(errorMsg));
-        doNothing().when(dataPlaneManagerMock).initiateTransfer(any());
 
         var result = client.transfer(request);
 
@@ -69,7 +69,7 @@ class EmbeddedDataPlaneClientTest {
     void verifyTransferSuccess() {
         var request = createDataFlowRequest();
         when(dataPlaneManagerMock.validate(any())).thenReturn(Result.success(true));
-        doNothing().when(dataPlaneManagerMock).initiateTransfer(any());
+        when(dataPlaneManagerMock.initiateTransfer(any())).thenReturn(StatusResult.success());
 
         var result = client.transfer(request);
 
@@ -79,6 +79,18 @@ class EmbeddedDataPlaneClientTest {
         assertThat(result.succeeded()).isTrue();
     }
 
+    @Test
+    void verifyReturnFailedResultIfTransferNotAccepted() {
+        var request = createDataFlowRequest();
+        when(dataPlaneManagerMock.validate(any())).thenReturn(Result.success(true));
+        when(dataPlaneManagerMock.initiateTransfer(any())).thenReturn(StatusResult.failure(ERROR_RETRY, "queue is full"));
+
+        var result = client.transfer(request);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.fatalError()).isFalse();
+    }
+
     private static DataFlowRequest createDataFlowRequest() {
         return DataFlowRequest.Builder.newInstance()
                 .trackable(true)
@@ -30,6 +30,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
@@ -171,6 +173,28 @@ class RemoteDataPlaneClientTest {
                 );
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = { 429, 503 })
+    void verifyReturnRetryErrorIfDataPlaneIsBusy(int statusCode) throws MalformedURLException, JsonProcessingException {
+        var flowRequest = createDataFlowRequest();
+
+        // mock data plane selector
+        var instance = mock(DataPlaneInstance.class);
+        when(instance.getUrl()).thenReturn(new URL(DATA_PLANE_API_URI));
+        when(selectorClientMock.find(any(), any(), any())).thenReturn(instance);
+
+        // config data plane mock server
+        var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH).withBody(MAPPER.writeValueAsString(flowRequest));
+        dataPlaneClientAndServer.when(httpRequest, once()).respond(response().withStatusCode(statusCode));
+
+        var result = dataPlaneClient.transfer(flowRequest);
+
+        dataPlaneClientAndServer.verify(httpRequest, VerificationTimes.once());
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+    }
+
     @Test
     void verifyTransferSucess() throws JsonProcessingException, MalformedURLException {
         var flowRequest = createDataFlowRequest();
@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestParamsProviderImpl;
 import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSinkFactory;
 import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSourceFactory;
+import org.eclipse.edc.connector.dataplane.http.pipeline.NonChunkedTransferRequestBody;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
@@ -44,6 +45,10 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     @Setting
     private static final String EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE = "edc.dataplane.http.sink.partition.size";
 
+    @Setting(value = "Maximum size in bytes of a non-chunked request body of unknown length that is held in memory, bigger bodies are spooled to a temporary file",
+            type = "long", defaultValue = NonChunkedTransferRequestBody.DEFAULT_MEMORY_THRESHOLD + "")
+    private static final String EDC_DATAPLANE_HTTP_SINK_NON_CHUNKED_MEMORY_THRESHOLD = "edc.dataplane.http.sink.non-chunked.memory-threshold";
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -72,7 +77,8 @@ public class DataPlaneHttpExtension implements ServiceExtension {
         var paramsProvider = new HttpRequestParamsProviderImpl(vault, typeManager);
         context.registerService(HttpRequestParamsProvider.class, paramsProvider);
 
-        var httpRequestFactory = new HttpRequestFactory();
+        var nonChunkedMemoryThreshold = context.getSetting(EDC_DATAPLANE_HTTP_SINK_NON_CHUNKED_MEMORY_THRESHOLD, NonChunkedTransferRequestBody.DEFAULT_MEMORY_THRESHOLD);
+        var httpRequestFactory = new HttpRequestFactory(nonChunkedMemoryThreshold);
 
         var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory);
         pipelineService.registerFactory(sourceFactory);
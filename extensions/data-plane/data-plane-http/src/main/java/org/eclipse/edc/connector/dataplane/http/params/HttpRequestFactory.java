@@ -29,6 +29,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
 import static org.eclipse.edc.util.string.StringUtils.isNullOrBlank;
 
 /**
@@ -39,6 +40,22 @@ public class HttpRequestFactory {
     private static final String SLASH = "/";
     private static final String BACKSLASH = "\\";
 
+    private final long nonChunkedMemoryThreshold;
+
+    public HttpRequestFactory() {
+        this(NonChunkedTransferRequestBody.DEFAULT_MEMORY_THRESHOLD);
+    }
+
+    /**
+     * Creates the factory.
+     *
+     * @param nonChunkedMemoryThreshold the maximum number of bytes of a non-chunked body with unknown length that are held in memory,
+     *                                  bigger bodies are spooled to a temporary file.
+     */
+    public HttpRequestFactory(long nonChunkedMemoryThreshold) {
+        this.nonChunkedMemoryThreshold = nonChunkedMemoryThreshold;
+    }
+
     /**
      * Creates HTTP request from the provided set of parameters.
      *
@@ -62,7 +79,19 @@ public class HttpRequestFactory {
      * @return HTTP request.
      */
     public Request toRequest(HttpRequestParams params, Supplier<InputStream> bodySupplier) {
-        var requestBody = createRequestBody(params, bodySupplier);
+        return toRequest(params, bodySupplier, SIZE_UNKNOWN);
+    }
+
+    /**
+     * Creates HTTP request from the provided set of parameters and the request body supplier.
+     *
+     * @param params        the http request parameters
+     * @param bodySupplier  the request body supplier.
+     * @param contentLength the length of the request body, or -1 if it is not known.
+     * @return HTTP request.
+     */
+    public Request toRequest(HttpRequestParams params, Supplier<InputStream> bodySupplier, long contentLength) {
+        var requestBody = createRequestBody(params, bodySupplier, contentLength);
         var requestBuilder = new Request.Builder()
                 .url(toUrl(params))
                 .method(params.getMethod(), requestBody);
@@ -71,13 +100,13 @@ public class HttpRequestFactory {
     }
 
     @Nullable
-    private RequestBody createRequestBody(HttpRequestParams params, @Nullable Supplier<InputStream> bodySupplier) {
+    private RequestBody createRequestBody(HttpRequestParams params, @Nullable Supplier<InputStream> bodySupplier, long contentLength) {
         var contentType = params.getContentType();
         if (bodySupplier == null || contentType == null) {
             return null;
         }
         return params.isNonChunkedTransfer()
-                ? new NonChunkedTransferRequestBody(bodySupplier, contentType)
+                ? new NonChunkedTransferRequestBody(bodySupplier, contentType, contentLength, nonChunkedMemoryThreshold)
                 : new ChunkedTransferRequestBody(bodySupplier, contentType);
     }
 
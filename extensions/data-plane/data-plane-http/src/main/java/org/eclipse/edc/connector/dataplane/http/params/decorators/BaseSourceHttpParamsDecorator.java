@@ -33,10 +33,12 @@ import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSche
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.METHOD;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.PATH;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.QUERY_PARAMS;
+import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.RANGE;
 
 public class BaseSourceHttpParamsDecorator implements HttpParamsDecorator {
 
     private static final String DEFAULT_METHOD = "GET";
+    private static final String RANGE_HEADER = "Range";
 
     @Override
     public HttpRequestParams.Builder decorate(DataFlowRequest request, HttpDataAddress address, HttpRequestParams.Builder params) {
@@ -48,6 +50,8 @@ public class BaseSourceHttpParamsDecorator implements HttpParamsDecorator {
                     params.contentType(ct);
                     params.body(extractBody(address, request));
                 });
+        Optional.ofNullable(request.getProperties().get(RANGE))
+                .ifPresent(range -> params.header(RANGE_HEADER, range));
         params.nonChunkedTransfer(false);
         return params;
     }
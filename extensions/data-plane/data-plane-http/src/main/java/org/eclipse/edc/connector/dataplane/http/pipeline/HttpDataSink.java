@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
+import okhttp3.Request;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
@@ -32,6 +33,7 @@ import static java.lang.String.format;
  */
 public class HttpDataSink extends ParallelSink {
     private static final StreamResult<Void> ERROR_WRITING_DATA = StreamResult.error("Error writing data");
+    private static final String CONTENT_RANGE = "Content-Range";
 
     private HttpRequestParams params;
     private EdcHttpClient httpClient;
@@ -40,23 +42,39 @@ public class HttpDataSink extends ParallelSink {
     @Override
     protected StreamResult<Void> transferParts(List<DataSource.Part> parts) {
         for (var part : parts) {
-            var request = requestFactory.toRequest(params, part::openStream);
+            var request = toRequest(part);
             try (var response = httpClient.execute(request)) {
                 if (!response.isSuccessful()) {
                     monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
                             response.code(), response.message(), part.name(), request.url().url(), request));
                     return ERROR_WRITING_DATA;
                 }
-
-                return StreamResult.success();
             } catch (Exception e) {
                 monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), e);
                 return ERROR_WRITING_DATA;
+            } finally {
+                // the body may have been spooled to a temporary file that is not deleted if it has not been written
+                if (request.body() instanceof NonChunkedTransferRequestBody body) {
+                    body.close();
+                }
             }
         }
         return StreamResult.success();
     }
 
+    /**
+     * Parts holding a segment of the source content are sent with their {@code Content-Range}, so the destination can
+     * reassemble them whatever the order they are received in.
+     */
+    private Request toRequest(DataSource.Part part) {
+        var request = requestFactory.toRequest(params, part::openStream, part.size());
+        var contentRange = part.contentRange();
+        if (contentRange != null) {
+            return request.newBuilder().header(CONTENT_RANGE, contentRange).build();
+        }
+        return request;
+    }
+
     private HttpDataSink() {
     }
 
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 
+import okhttp3.Request;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
@@ -26,9 +27,12 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 
@@ -36,6 +40,9 @@ public class HttpDataSource implements DataSource {
     private static final int FORBIDDEN = 401;
     private static final int NOT_AUTHORIZED = 403;
     private static final int NOT_FOUND = 404;
+    private static final int PARTIAL_CONTENT = 206;
+    private static final String GET = "GET";
+    private static final String CONTENT_RANGE = "Content-Range";
 
     private String name;
     private HttpRequestParams params;
@@ -43,10 +50,18 @@ public class HttpDataSource implements DataSource {
     private Monitor monitor;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private int rangePartitions = 1;
 
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
         var request = requestFactory.toRequest(params);
+        if (rangePartitions > 1 && GET.equalsIgnoreCase(request.method())) {
+            var size = rangedContentLength(request);
+            if (size > 0) {
+                return success(rangeParts(request, size));
+            }
+        }
+
         monitor.debug(() -> "Executing HTTP request: " + request.url());
         try {
             // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
@@ -56,7 +71,10 @@ public class HttpDataSource implements DataSource {
                 if (body == null) {
                     throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
                 }
-                return success(Stream.of(new HttpPart(name, body.byteStream())));
+                var mediaType = body.contentType();
+                var contentRange = response.code() == PARTIAL_CONTENT ? response.header(CONTENT_RANGE) : null;
+                var part = new HttpPart(name, body.byteStream(), mediaType == null ? null : mediaType.toString(), body.contentLength(), contentRange);
+                return success(Stream.of(part));
             } else {
                 try {
                     if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
@@ -80,6 +98,34 @@ public class HttpDataSource implements DataSource {
 
     }
 
+    /**
+     * Executes a HEAD request to find out the content length, if the server supports range requests.
+     *
+     * @return the content length, or {@link Part#SIZE_UNKNOWN} if it is not known or ranges are not supported.
+     */
+    private long rangedContentLength(Request request) {
+        var headRequest = request.newBuilder().head().build();
+        try (var response = httpClient.execute(headRequest)) {
+            if (response.isSuccessful() && "bytes".equalsIgnoreCase(response.header("Accept-Ranges"))) {
+                return Optional.ofNullable(response.header("Content-Length")).map(Long::parseLong).orElse(SIZE_UNKNOWN);
+            }
+        } catch (IOException | NumberFormatException e) {
+            monitor.debug(() -> format("Cannot determine the content length for request %s, range partitioning disabled: %s", requestId, e.getMessage()));
+        }
+        return SIZE_UNKNOWN;
+    }
+
+    private Stream<Part> rangeParts(Request request, long size) {
+        var partSize = (size + rangePartitions - 1) / rangePartitions;
+        var count = (int) ((size + partSize - 1) / partSize);
+        return IntStream.range(0, count)
+                .mapToObj(index -> {
+                    var first = index * partSize;
+                    var last = Math.min(first + partSize, size) - 1;
+                    return new HttpRangePart(format("%s.%d", name, index), request, first, last, size);
+                });
+    }
+
     private HttpDataSource() {
     }
 
@@ -124,6 +170,11 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        public Builder rangePartitions(int rangePartitions) {
+            dataSource.rangePartitions = rangePartitions;
+            return this;
+        }
+
         public HttpDataSource build() {
             Objects.requireNonNull(dataSource.requestId, "requestId");
             Objects.requireNonNull(dataSource.httpClient, "httpClient");
@@ -136,10 +187,16 @@ public class HttpDataSource implements DataSource {
     private static class HttpPart implements Part {
         private final String name;
         private final InputStream content;
+        private final String mediaType;
+        private final long size;
+        private final String contentRange;
 
-        HttpPart(String name, InputStream content) {
+        HttpPart(String name, InputStream content, String mediaType, long size, String contentRange) {
             this.name = name;
             this.content = content;
+            this.mediaType = mediaType;
+            this.size = size;
+            this.contentRange = contentRange;
         }
 
         @Override
@@ -149,7 +206,17 @@ public class HttpDataSource implements DataSource {
 
         @Override
         public long size() {
-            return SIZE_UNKNOWN;
+            return size;
+        }
+
+        @Override
+        public String mediaType() {
+            return mediaType;
+        }
+
+        @Override
+        public String contentRange() {
+            return contentRange;
         }
 
         @Override
@@ -158,4 +225,55 @@ public class HttpDataSource implements DataSource {
         }
 
     }
+
+    /**
+     * A byte range of the source content, fetched through a dedicated request when its stream gets opened.
+     */
+    class HttpRangePart implements Part {
+        private final String name;
+        private final Request request;
+        private final long first;
+        private final long last;
+        private final long total;
+
+        HttpRangePart(String name, Request request, long first, long last, long total) {
+            this.name = name;
+            this.request = request;
+            this.first = first;
+            this.last = last;
+            this.total = total;
+        }
+
+        @Override
+        public String contentRange() {
+            return format("bytes %d-%d/%d", first, last, total);
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public long size() {
+            return last - first + 1;
+        }
+
+        @Override
+        public InputStream openStream() {
+            var rangeRequest = request.newBuilder().header("Range", format("bytes=%d-%d", first, last)).build();
+            monitor.debug(() -> "Executing HTTP range request: " + rangeRequest.url() + " " + rangeRequest.header("Range"));
+            try {
+                var response = httpClient.execute(rangeRequest);
+                var body = response.body();
+                if (response.code() != PARTIAL_CONTENT || body == null) {
+                    response.close();
+                    throw new EdcException(format("Received code transferring HTTP data range %s for request %s: %s", name, requestId, response.code()));
+                }
+                return body.byteStream();
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
+    }
 }
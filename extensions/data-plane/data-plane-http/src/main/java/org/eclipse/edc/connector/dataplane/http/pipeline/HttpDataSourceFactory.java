@@ -77,6 +77,16 @@ public class HttpDataSourceFactory implements DataSourceFactory {
                 .name(dataAddress.getName())
                 .params(requestParamsProvider.provideSourceParams(request))
                 .requestFactory(requestFactory)
+                .rangePartitions(rangePartitions(request, dataAddress))
                 .build();
     }
+
+    /**
+     * Only the {@link HttpDataSink} sends the byte ranges with their position, any other sink would get the content
+     * split into parts it cannot reassemble: the range partitioning is validated but not applied to them.
+     */
+    private int rangePartitions(DataFlowRequest request, HttpDataAddress dataAddress) {
+        var partitions = dataAddress.getRangePartitions();
+        return HTTP_DATA.equals(request.getDestinationDataAddress().getType()) ? partitions : 1;
+    }
 }
@@ -15,47 +15,126 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 import okio.BufferedSink;
+import org.eclipse.edc.spi.EdcException;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.function.Supplier;
 
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
+
 /**
  * Writes content into an OK HTTP buffered sink.
  * <p>
- * The extra Transfer-Encoding is not created because the Content-Length is provided upfront.
- * Note that means that the all content is loaded into memory, so this method can be used for small files (up to 50MB) for e.g.
+ * The extra Transfer-Encoding is not created because the Content-Length is provided upfront. When the content length is
+ * known it is streamed directly, otherwise the content is read upfront to determine it: it is kept in memory up to the
+ * memory threshold, bigger contents are spooled to a temporary file that gets deleted once written, or when the body
+ * gets closed if it never is.
  *
  * @see <a href="https://github.com/square/okhttp/blob/master/docs/features/calls.md">OkHttp Dcoumentation</a>
  */
-public class NonChunkedTransferRequestBody extends AbstractTransferRequestBody {
+public class NonChunkedTransferRequestBody extends AbstractTransferRequestBody implements AutoCloseable {
+
+    public static final long DEFAULT_MEMORY_THRESHOLD = 10 * 1024 * 1024;
 
+    private final Supplier<InputStream> contentSupplier;
+    private final long contentLength;
     private byte[] bytes;
+    private Path file;
 
     public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType) {
+        this(contentSupplier, contentType, SIZE_UNKNOWN, DEFAULT_MEMORY_THRESHOLD);
+    }
+
+    /**
+     * Creates the request body.
+     *
+     * @param contentSupplier supplies the content stream
+     * @param contentType the content type
+     * @param contentLength the content length, or -1 if it is not known
+     * @param memoryThreshold the maximum number of bytes held in memory when the content length is not known
+     */
+    public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType, long contentLength, long memoryThreshold) {
         super(contentType);
-        try (var is = contentSupplier.get()) {
-            this.bytes = is.readAllBytes();
-        } catch (IOException e) {
-            //do nothing
+        this.contentSupplier = contentSupplier;
+        if (contentLength >= 0) {
+            this.contentLength = contentLength;
+        } else {
+            this.contentLength = buffer(memoryThreshold);
         }
     }
 
     @Override
     public long contentLength() {
-        return bytes == null ? 0 : bytes.length;
+        return contentLength;
+    }
+
+    @Override
+    public boolean isOneShot() {
+        return bytes == null;
     }
 
     @Override
     public void writeTo(@NotNull BufferedSink sink) throws IOException {
-        if (bytes == null) {
-            return;
+        if (bytes != null) {
+            try (var os = sink.outputStream()) {
+                os.write(bytes);
+            }
+        } else if (file != null) {
+            try (var os = sink.outputStream(); var is = Files.newInputStream(file, DELETE_ON_CLOSE)) {
+                is.transferTo(os);
+            }
+        } else {
+            try (var os = sink.outputStream(); var is = contentSupplier.get()) {
+                is.transferTo(os);
+            }
+        }
+    }
+
+    /**
+     * Deletes the temporary file holding the content, if it has not been written.
+     */
+    @Override
+    public void close() {
+        deleteFile();
+    }
+
+    /**
+     * Reads the content, keeping it in memory if it does not exceed the threshold, otherwise in a temporary file.
+     *
+     * @return the content length.
+     */
+    private long buffer(long memoryThreshold) {
+        try (var is = contentSupplier.get()) {
+            var head = is.readNBytes((int) Math.min(memoryThreshold + 1, Integer.MAX_VALUE - 8));
+            if (head.length <= memoryThreshold) {
+                bytes = head;
+                return head.length;
+            }
+
+            file = Files.createTempFile("edc-http-body-", ".tmp");
+            try (var os = Files.newOutputStream(file)) {
+                os.write(head);
+                is.transferTo(os);
+            }
+            return Files.size(file);
+        } catch (IOException e) {
+            deleteFile();
+            throw new EdcException("Cannot read the request body content", e);
         }
+    }
 
-        try (var os = sink.outputStream()) {
-            os.write(bytes);
+    private void deleteFile() {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // best effort
+            }
         }
     }
 }
-
@@ -31,6 +31,7 @@ import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSche
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.METHOD;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.PATH;
 import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.QUERY_PARAMS;
+import static org.eclipse.edc.connector.dataplane.spi.schema.DataFlowRequestSchema.RANGE;
 
 class HttpRequestParamsProviderImplSourceTest {
 
@@ -120,6 +121,23 @@ class HttpRequestParamsProviderImplSourceTest {
         assertThat(params.getContentType()).isEqualTo("application/octet-stream");
     }
 
+    @Test
+    void shouldForwardRequestedRange() {
+        var source = HttpDataAddress.Builder.newInstance()
+                .baseUrl("http://source")
+                .build();
+        var dataFlowRequest = DataFlowRequest.Builder.newInstance()
+                .processId(UUID.randomUUID().toString())
+                .sourceDataAddress(source)
+                .destinationDataAddress(dummyAddress())
+                .properties(Map.of(RANGE, "bytes=2-5"))
+                .build();
+
+        var params = provider.provideSourceParams(dataFlowRequest);
+
+        assertThat(params.getHeaders()).containsEntry("Range", "bytes=2-5");
+    }
+
     @Test
     void shouldThrowExceptionWhenProxyMethodIsMissing() {
         var source = HttpDataAddress.Builder.newInstance()
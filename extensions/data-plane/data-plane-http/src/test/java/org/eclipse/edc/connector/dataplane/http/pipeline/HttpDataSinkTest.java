@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.testHttpClient;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HttpDataSinkTest {
+
+    private static final String ENDPOINT = "https://example.com/sink";
+
+    private final Monitor monitor = mock(Monitor.class);
+    private final HttpRequestFactory requestFactory = new HttpRequestFactory();
+    private final Interceptor interceptor = mock(Interceptor.class);
+
+    @Test
+    void transferParts_shouldSendAllParts() throws Exception {
+        when(interceptor.intercept(isA(Interceptor.Chain.class)))
+                .thenAnswer(invocation -> createResponse(200, getRequest(invocation)));
+
+        var result = createSink().transferParts(List.of(part("part1"), part("part2")));
+
+        assertThat(result.succeeded()).isTrue();
+        verify(interceptor, times(2)).intercept(isA(Interceptor.Chain.class));
+    }
+
+    @Test
+    void transferParts_shouldStopAtFirstFailedPart() throws Exception {
+        when(interceptor.intercept(isA(Interceptor.Chain.class)))
+                .thenAnswer(invocation -> createResponse(500, getRequest(invocation)));
+
+        var result = createSink().transferParts(List.of(part("part1"), part("part2")));
+
+        assertThat(result.failed()).isTrue();
+        verify(interceptor, times(1)).intercept(isA(Interceptor.Chain.class));
+    }
+
+    @Test
+    void transferParts_shouldSendContentRangeOfRangeParts() throws Exception {
+        when(interceptor.intercept(isA(Interceptor.Chain.class)))
+                .thenAnswer(invocation -> createResponse(200, getRequest(invocation)));
+        var source = HttpDataSource.Builder.newInstance()
+                .params(HttpRequestParams.Builder.newInstance().baseUrl(ENDPOINT).method("GET").build())
+                .name("source")
+                .requestId("1")
+                .httpClient(testHttpClient())
+                .monitor(monitor)
+                .requestFactory(requestFactory)
+                .build();
+        var request = new Request.Builder().url(ENDPOINT).build();
+        var parts = List.<DataSource.Part>of(
+                source.new HttpRangePart("source.0", request, 0, 9, 15),
+                source.new HttpRangePart("source.1", request, 10, 14, 15));
+
+        var result = createSink().transferParts(parts);
+
+        assertThat(result.succeeded()).isTrue();
+        var chains = ArgumentCaptor.forClass(Interceptor.Chain.class);
+        verify(interceptor, times(2)).intercept(chains.capture());
+        assertThat(chains.getAllValues()).map(chain -> chain.request().header("Content-Range"))
+                .containsExactly("bytes 0-9/15", "bytes 10-14/15");
+    }
+
+    private HttpDataSink createSink() {
+        return HttpDataSink.Builder.newInstance()
+                .params(HttpRequestParams.Builder.newInstance()
+                        .baseUrl(ENDPOINT)
+                        .method("POST")
+                        .contentType("application/octet-stream")
+                        .build())
+                .requestId("1")
+                .httpClient(testHttpClient(interceptor))
+                .executorService(Executors.newSingleThreadExecutor())
+                .monitor(monitor)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    private DataSource.Part part(String name) {
+        var part = mock(DataSource.Part.class);
+        when(part.name()).thenReturn(name);
+        when(part.size()).thenReturn(DataSource.Part.SIZE_UNKNOWN);
+        when(part.openStream()).thenReturn(new ByteArrayInputStream(name.getBytes()));
+        return part;
+    }
+
+    private Response createResponse(int code, Request request) {
+        return new Response.Builder()
+                .protocol(Protocol.HTTP_1_1)
+                .request(request)
+                .code(code)
+                .message("")
+                .body(ResponseBody.create("", MediaType.parse("application/json")))
+                .build();
+    }
+
+    private Request getRequest(InvocationOnMock invocation) {
+        return invocation.getArgument(0, Interceptor.Chain.class).request();
+    }
+}
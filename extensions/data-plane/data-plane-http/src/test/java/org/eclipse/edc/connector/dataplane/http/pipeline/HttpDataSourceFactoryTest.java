@@ -101,12 +101,45 @@ class HttpDataSourceFactoryTest {
         assertThat(source).usingRecursiveComparison().isEqualTo(expected);
     }
 
+    @Test
+    void verifyValidationFailsIfRangePartitionsIsInvalid() {
+        var address = HttpDataAddress.Builder.newInstance()
+                .property(HttpDataAddress.RANGE_PARTITIONS, "many")
+                .build();
+        var request = createRequest(address);
+
+        when(provider.provideSourceParams(request)).thenReturn(mock(HttpRequestParams.class));
+
+        var result = factory.validateRequest(request);
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureDetail()).contains(HttpDataAddress.RANGE_PARTITIONS);
+    }
+
+    @Test
+    void verifyRangePartitionsAppliedOnlyForHttpDestination() {
+        var address = HttpDataAddress.Builder.newInstance()
+                .rangePartitions(4)
+                .build();
+        var httpRequest = createRequest(address, HttpDataAddress.Builder.newInstance().baseUrl("http://any").build());
+        var otherRequest = createRequest(address);
+
+        when(provider.provideSourceParams(httpRequest)).thenReturn(mock(HttpRequestParams.class));
+        when(provider.provideSourceParams(otherRequest)).thenReturn(mock(HttpRequestParams.class));
+
+        assertThat(factory.createSource(httpRequest)).extracting("rangePartitions").isEqualTo(4);
+        assertThat(factory.createSource(otherRequest)).extracting("rangePartitions").isEqualTo(1);
+    }
+
     private DataFlowRequest createRequest(DataAddress source) {
+        return createRequest(source, DataAddress.Builder.newInstance().type("Test type").build());
+    }
+
+    private DataFlowRequest createRequest(DataAddress source, DataAddress destination) {
         return DataFlowRequest.Builder.newInstance()
                 .id(UUID.randomUUID().toString())
                 .processId(UUID.randomUUID().toString())
                 .sourceDataAddress(source)
-                .destinationDataAddress(DataAddress.Builder.newInstance().type("Test type").build())
+                .destinationDataAddress(destination)
                 .build();
     }
 }
@@ -22,6 +22,7 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailureArgument;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -88,6 +89,63 @@ class HttpDataSourceTest {
         verify(requestFactory).toRequest(any());
     }
 
+    @Test
+    void verifyRangePartitions() throws IOException {
+        var content = "0123456789";
+        Interceptor interceptor = chain -> {
+            var request = chain.request();
+            var builder = new Response.Builder().request(request).protocol(HTTP_1_1).message("Test message");
+            if ("HEAD".equals(request.method())) {
+                return builder.code(200)
+                        .header("Accept-Ranges", "bytes")
+                        .header("Content-Length", String.valueOf(content.length()))
+                        .body(ResponseBody.create("", null))
+                        .build();
+            }
+            var range = request.header("Range").replace("bytes=", "").split("-");
+            var segment = content.substring(Integer.parseInt(range[0]), Integer.parseInt(range[1]) + 1);
+            return builder.code(206).body(ResponseBody.create(segment, MediaType.parse("text/plain"))).build();
+        };
+        var request = new Request.Builder().url(url).get().build();
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory).rangePartitions(3).build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        var parts = source.openPartStream().getContent().collect(Collectors.toList());
+
+        assertThat(parts).hasSize(3).extracting(DataSource.Part::size).containsExactly(4L, 4L, 2L);
+        var result = new StringBuilder();
+        for (var part : parts) {
+            try (var is = part.openStream()) {
+                result.append(new String(is.readAllBytes()));
+            }
+        }
+        assertThat(result.toString()).isEqualTo(content);
+    }
+
+    @Test
+    void verifyRangePartitions_fallbackToSingleRequest_whenRangesNotSupported() throws IOException {
+        var json = MAPPER.writeValueAsString(Map.of("key1", "Value1"));
+        Interceptor interceptor = chain -> new Response.Builder()
+                .request(chain.request())
+                .protocol(HTTP_1_1)
+                .code(200)
+                .message("Test message")
+                .body(ResponseBody.create(json, MediaType.parse("application/json")))
+                .build();
+        var request = new Request.Builder().url(url).get().build();
+        var source = defaultBuilder(interceptor).params(mock(HttpRequestParams.class)).requestFactory(requestFactory).rangePartitions(3).build();
+
+        when(requestFactory.toRequest(any())).thenReturn(request);
+
+        var parts = source.openPartStream().getContent().collect(Collectors.toList());
+
+        assertThat(parts).hasSize(1);
+        try (var is = parts.get(0).openStream()) {
+            assertThat(new String(is.readAllBytes())).isEqualTo(json);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource
     void verifyCallFailed(StreamFailureArgument argument) {
@@ -22,8 +22,11 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.util.reflection.ReflectionUtil.getFieldValue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -62,4 +65,70 @@ class NonChunkedTransferRequestBodyTest {
 
         assertThat(outputStream).hasToString("");
     }
+
+    @Test
+    void verifyTransferWhenContentLengthKnown() throws IOException {
+        var content = "Test Content";
+        var sink = mock(BufferedSink.class);
+        var outputStream = new ByteArrayOutputStream();
+        var supplierCalls = new AtomicInteger();
+
+        when(sink.outputStream()).thenReturn(outputStream);
+
+        var body = new NonChunkedTransferRequestBody(() -> {
+            supplierCalls.incrementAndGet();
+            return new ByteArrayInputStream(content.getBytes());
+        }, HttpDataAddress.OCTET_STREAM, content.length(), 0);
+
+        assertThat(body.contentLength()).isEqualTo(content.length());
+        assertThat(supplierCalls).hasValue(0);
+
+        body.writeTo(sink);
+
+        assertThat(outputStream).hasToString(content);
+        assertThat(supplierCalls).hasValue(1);
+    }
+
+    @Test
+    void verifyTransferWhenContentExceedsMemoryThreshold() throws IOException {
+        var content = "Test Content";
+        var sink = mock(BufferedSink.class);
+        var outputStream = new ByteArrayOutputStream();
+
+        when(sink.outputStream()).thenReturn(outputStream);
+
+        var body = new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream(content.getBytes()), HttpDataAddress.OCTET_STREAM, -1, 4);
+
+        assertThat(body.contentLength()).isEqualTo(content.length());
+        assertThat(body.isOneShot()).isTrue();
+
+        body.writeTo(sink);
+
+        assertThat(outputStream).hasToString(content);
+    }
+
+    @Test
+    void verifyTemporaryFileDeletedWhenWritten() throws IOException {
+        var sink = mock(BufferedSink.class);
+        when(sink.outputStream()).thenReturn(new ByteArrayOutputStream());
+
+        var body = new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream("Test Content".getBytes()), HttpDataAddress.OCTET_STREAM, -1, 4);
+        Path file = getFieldValue("file", body);
+        assertThat(file).exists();
+
+        body.writeTo(sink);
+
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void verifyTemporaryFileDeletedWhenClosedWithoutWriting() {
+        var body = new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream("Test Content".getBytes()), HttpDataAddress.OCTET_STREAM, -1, 4);
+        Path file = getFieldValue("file", body);
+        assertThat(file).exists();
+
+        body.close();
+
+        assertThat(file).doesNotExist();
+    }
 }
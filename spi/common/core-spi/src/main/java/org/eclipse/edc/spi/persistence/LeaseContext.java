@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.spi.persistence;
 
+import java.util.List;
+
 /**
  * Interface for storage implementations that need to "lease" certain entities, i.e. block them from subsequent
  * read/write access.
@@ -34,4 +36,15 @@ public interface LeaseContext {
      * @throws RuntimeException or subclass if the lease could not be acquired, e.g. because another holder holds it.
      */
     void acquireLease(String entityId);
+
+    /**
+     * Acquires the exclusive Lock on a batch of entities. Implementations are encouraged to claim all the entities
+     * at once, the default implementation acquires them one by one.
+     *
+     * @param entityIds The database IDs of the entities
+     * @throws RuntimeException or subclass if the lease could not be acquired for every entity, e.g. because another holder holds one of them.
+     */
+    default void acquireLeases(List<String> entityIds) {
+        entityIds.forEach(this::acquireLease);
+    }
 }
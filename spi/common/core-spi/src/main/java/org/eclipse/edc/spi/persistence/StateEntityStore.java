@@ -15,9 +15,11 @@
 package org.eclipse.edc.spi.persistence;
 
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Define a store that can be used within a state machine
@@ -84,4 +86,43 @@ public interface StateEntityStore<T> {
         return nextNotLeased(max, hasState(state));
     }
 
+    /**
+     * Registers a listener that gets notified when new work could be available for a state machine, e.g. because an
+     * entity has been persisted. This permits the state machine to start processing without waiting for its next
+     * iteration.
+     * The default implementation never notifies, so the state machine will rely only on its wait strategy.
+     *
+     * @param listener the listener.
+     */
+    default void registerWorkAvailableListener(Runnable listener) {
+    }
+
+    /**
+     * Moves entities that satisfy the filter criteria, are not leased and whose last state transition happened before
+     * the given time out of the store into its archive, oldest first. Archived entities are not returned anymore by the
+     * other methods of the store, but only by {@link #findArchived(QuerySpec)}.
+     * The default implementation doesn't archive.
+     *
+     * @param max                  The maximum amount of entities to archive.
+     * @param stateTimestampBefore The epoch milliseconds before which the last state transition must have happened.
+     * @param criteria             The selection criteria.
+     * @return the number of archived entities.
+     */
+    default int archive(int max, long stateTimestampBefore, Criterion... criteria) {
+        return 0;
+    }
+
+    /**
+     * Returns the archived entities that are covered by a given {@link QuerySpec}. Implementations may support only a
+     * subset of the properties of the entity in the filter and sort fields.
+     * The default implementation returns an empty stream.
+     *
+     * @param querySpec The query spec, e.g. paging, filtering, etc.
+     * @return a stream of archived entities, cannot be null.
+     */
+    @NotNull
+    default Stream<T> findArchived(QuerySpec querySpec) {
+        return Stream.empty();
+    }
+
 }
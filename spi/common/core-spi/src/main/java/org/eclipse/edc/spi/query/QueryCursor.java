@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of an element in the results of a sorted query, used for keyset pagination: the next page contains the
+ * elements that follow the position in sort order, which stores can look up through an index instead of skipping all
+ * the elements of the previous pages.
+ * <p>
+ * The position consists of the value of the sort field (null if the query is not sorted) and of the id of the element,
+ * which breaks ties. It's passed to the clients as an opaque, URL-safe string.
+ * <p>
+ * A cursor must only be passed to the store that returned it: the values are compared by the store, e.g. with
+ * {@link String#compareTo(String)} in memory and with the collation of the column in a database, so the position can
+ * differ between stores.
+ */
+public final class QueryCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private static final char NONE = 'N';
+    private static final char STRING = 'S';
+    private static final char LONG = 'L';
+    private static final char DOUBLE = 'D';
+    private static final char BOOLEAN = 'B';
+
+    private final Object sortValue;
+    private final String id;
+
+    private QueryCursor(Object sortValue, String id) {
+        this.sortValue = sortValue;
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    /**
+     * Creates the cursor of an element. Integral numbers are kept as {@link Long}, decimal numbers as {@link Double},
+     * booleans as {@link Boolean}, any other value as its string representation.
+     *
+     * @param sortValue the value of the sort field of the element, null if the query is not sorted.
+     * @param id the id of the element.
+     */
+    public static QueryCursor of(@Nullable Object sortValue, @NotNull String id) {
+        return new QueryCursor(normalize(sortValue), id);
+    }
+
+    /**
+     * Decodes a cursor created by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the string is not a valid cursor.
+     */
+    public static QueryCursor decode(String cursor) {
+        try {
+            var decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            var type = decoded.charAt(0);
+            if (type == NONE) {
+                return new QueryCursor(null, decoded.substring(1));
+            }
+            var separator = decoded.indexOf(':');
+            var length = Integer.parseInt(decoded.substring(1, separator));
+            var value = decoded.substring(separator + 1, separator + 1 + length);
+            var id = decoded.substring(separator + 1 + length);
+            return new QueryCursor(parse(type, value), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Returns the value of the sort field, null if the query is not sorted.
+     */
+    @Nullable
+    public Object getSortValue() {
+        return sortValue;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String encode() {
+        String plain;
+        if (sortValue == null) {
+            plain = NONE + id;
+        } else {
+            var value = sortValue.toString();
+            plain = type(sortValue) + String.valueOf(value.length()) + ':' + value + id;
+        }
+        return ENCODER.encodeToString(plain.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        var that = (QueryCursor) o;
+        return Objects.equals(sortValue, that.sortValue) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortValue, id);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCursor{" +
+                "sortValue=" + sortValue +
+                ", id=" + id +
+                '}';
+    }
+
+    private static Object normalize(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        return value.toString();
+    }
+
+    private static char type(Object value) {
+        if (value instanceof Long) {
+            return LONG;
+        }
+        if (value instanceof Double) {
+            return DOUBLE;
+        }
+        if (value instanceof Boolean) {
+            return BOOLEAN;
+        }
+        return STRING;
+    }
+
+    private static Object parse(char type, String value) {
+        return switch (type) {
+            case STRING -> value;
+            case LONG -> Long.parseLong(value);
+            case DOUBLE -> Double.parseDouble(value);
+            case BOOLEAN -> Boolean.parseBoolean(value);
+            default -> throw new IllegalArgumentException("Unknown value type " + type);
+        };
+    }
+}
@@ -35,12 +35,14 @@ public class QuerySpec {
     public static final String EDC_QUERY_SPEC_FILTER_EXPRESSION = EDC_NAMESPACE + "filterExpression";
     public static final String EDC_QUERY_SPEC_SORT_ORDER = EDC_NAMESPACE + "sortOrder";
     public static final String EDC_QUERY_SPEC_SORT_FIELD = EDC_NAMESPACE + "sortField";
-    
+    public static final String EDC_QUERY_SPEC_CURSOR = EDC_NAMESPACE + "cursor";
+
     private int offset = 0;
     private int limit = 50;
     private final List<Criterion> filterExpression = new ArrayList<>();
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private String cursor;
 
     public static QuerySpec none() {
         return new QuerySpec();
@@ -57,9 +59,17 @@ public class QuerySpec {
         return sortField;
     }
 
+    /**
+     * Opaque continuation cursor, as encoded by {@link QueryCursor}. If set, the query returns the elements following the
+     * one the cursor was created from, in sort order, instead of skipping {@code offset} elements.
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField);
+        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField, cursor);
     }
 
     @Override
@@ -71,7 +81,7 @@ public class QuerySpec {
             return false;
         }
         QuerySpec querySpec = (QuerySpec) o;
-        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField);
+        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField) && Objects.equals(cursor, querySpec.cursor);
     }
 
     @Override
@@ -82,6 +92,7 @@ public class QuerySpec {
                 ", filterExpression=" + filterExpression +
                 ", sortOrder=" + sortOrder +
                 ", sortField=" + sortField +
+                ", cursor=" + cursor +
                 '}';
     }
 
@@ -154,6 +165,11 @@ public class QuerySpec {
             return this;
         }
 
+        public Builder cursor(String cursor) {
+            querySpec.cursor = cursor;
+            return this;
+        }
+
         public Builder filter(Criterion criterion) {
             querySpec.filterExpression.add(criterion);
             return this;
@@ -173,6 +189,9 @@ public class QuerySpec {
             if (querySpec.limit <= 0) {
                 throw new IllegalArgumentException("limit");
             }
+            if (querySpec.cursor != null && querySpec.offset > 0) {
+                throw new IllegalArgumentException("cursor and offset cannot be combined");
+            }
             return querySpec;
         }
 
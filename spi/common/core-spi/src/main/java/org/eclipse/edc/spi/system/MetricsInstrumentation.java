@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.system;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Services for publishing the metrics of a component, e.g. the size of a queue or the hits of a cache, which are read
+ * from the component whenever they are collected.
+ * <p>
+ * The default implementation does not publish anything. Extension modules can provide implementations, such as for
+ * reporting the metrics to a monitoring system.
+ */
+@ExtensionPoint
+public interface MetricsInstrumentation {
+    /**
+     * Default implementation that does not publish any metric.
+     *
+     * @return a default {@link MetricsInstrumentation} implementation.
+     */
+    static MetricsInstrumentation noop() {
+        return new MetricsInstrumentation() {
+        };
+    }
+
+    /**
+     * Publishes a gauge, a value that goes up and down, e.g. the number of queued elements.
+     *
+     * @param name  name of the metric.
+     * @param tags  tags of the metric.
+     * @param value supplies the current value.
+     */
+    default void gauge(String name, Map<String, String> tags, DoubleSupplier value) {
+    }
+
+    /**
+     * Publishes a counter, a value that only increases, e.g. the number of cache hits.
+     *
+     * @param name  name of the metric.
+     * @param tags  tags of the metric.
+     * @param value supplies the current count.
+     */
+    default void counter(String name, Map<String, String> tags, LongSupplier value) {
+    }
+}
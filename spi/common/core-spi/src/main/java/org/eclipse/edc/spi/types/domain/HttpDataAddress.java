@@ -27,6 +27,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static java.lang.String.format;
 import static java.util.Collections.emptyMap;
 
 /**
@@ -55,6 +56,7 @@ public class HttpDataAddress extends DataAddress {
     public static final String CONTENT_TYPE = "contentType";
     public static final String OCTET_STREAM = "application/octet-stream";
     public static final String NON_CHUNKED_TRANSFER = "nonChunkedTransfer";
+    public static final String RANGE_PARTITIONS = "rangePartitions";
     public static final Set<String> ADDITIONAL_HEADERS_TO_IGNORE = Set.of("content-type");
 
     private HttpDataAddress() {
@@ -143,6 +145,29 @@ public class HttpDataAddress extends DataAddress {
                 .orElse(false);
     }
 
+    /**
+     * The number of byte-range parts the source content should be fetched in concurrently. Values lower than 2
+     * disable the range partitioning.
+     *
+     * @throws IllegalArgumentException if the property is not a positive integer.
+     */
+    @JsonIgnore
+    public int getRangePartitions() {
+        var value = getProperty(RANGE_PARTITIONS);
+        if (value == null) {
+            return 1;
+        }
+        try {
+            var partitions = Integer.parseInt(value);
+            if (partitions > 0) {
+                return partitions;
+            }
+        } catch (NumberFormatException ignored) {
+            // reported below
+        }
+        throw new IllegalArgumentException(format("%s must be a positive integer, but was '%s'", RANGE_PARTITIONS, value));
+    }
+
     @JsonPOJOBuilder(withPrefix = "")
     public static final class Builder extends DataAddress.Builder<HttpDataAddress, Builder> {
 
@@ -234,6 +259,11 @@ public class HttpDataAddress extends DataAddress {
             return this;
         }
 
+        public Builder rangePartitions(int rangePartitions) {
+            this.property(RANGE_PARTITIONS, String.valueOf(rangePartitions));
+            return this;
+        }
+
         public Builder copyFrom(DataAddress other) {
             Optional.ofNullable(other).map(DataAddress::getProperties).orElse(emptyMap()).forEach(this::property);
             return this;
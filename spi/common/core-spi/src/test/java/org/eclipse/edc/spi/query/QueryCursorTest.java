@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCursorTest {
+
+    @Test
+    void encode_shouldBeDecodable() {
+        assertThat(QueryCursor.decode(QueryCursor.of(1234L, "id").encode())).isEqualTo(QueryCursor.of(1234L, "id"));
+        assertThat(QueryCursor.decode(QueryCursor.of("value:with:colons", "id:1").encode())).isEqualTo(QueryCursor.of("value:with:colons", "id:1"));
+        assertThat(QueryCursor.decode(QueryCursor.of(1.5, "id").encode())).isEqualTo(QueryCursor.of(1.5, "id"));
+        assertThat(QueryCursor.decode(QueryCursor.of(true, "id").encode())).isEqualTo(QueryCursor.of(true, "id"));
+        assertThat(QueryCursor.decode(QueryCursor.of(null, "id").encode())).isEqualTo(QueryCursor.of(null, "id"));
+    }
+
+    @Test
+    void of_shouldNormalizeNumbers() {
+        var cursor = QueryCursor.decode(QueryCursor.of(800, "id").encode());
+
+        assertThat(cursor.getSortValue()).isEqualTo(800L);
+        assertThat(cursor.getId()).isEqualTo("id");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "not base64!", "WDE6YWlk", "UzEwOmE" })
+    void decode_shouldThrow_whenCursorIsInvalid(String cursor) {
+        assertThatThrownBy(() -> QueryCursor.decode(cursor)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -29,6 +29,7 @@ class QuerySpecTest {
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().limit(-10).build()).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().limit(0).build()).isInstanceOf(IllegalArgumentException.class);
         assertThatThrownBy(() -> QuerySpec.Builder.newInstance().offset(-10).build()).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuerySpec.Builder.newInstance().offset(10).cursor("cursor").build()).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
@@ -41,6 +42,7 @@ class QuerySpecTest {
         assertion.extracting(QuerySpec::getOffset).isEqualTo(0);
         assertion.extracting(QuerySpec::getSortOrder).isEqualTo(SortOrder.ASC);
         assertion.extracting(QuerySpec::getSortField).isNull();
+        assertion.extracting(QuerySpec::getCursor).isNull();
     }
 
     @Test
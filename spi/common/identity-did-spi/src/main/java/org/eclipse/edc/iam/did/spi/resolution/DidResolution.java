@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.did.spi.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * A resolved DID document.
+ *
+ * @param document the DID document.
+ * @param maxAge how long the document can be cached, as stated by the source of the document (e.g. the HTTP cache
+ *         headers), null if not stated.
+ */
+public record DidResolution(DidDocument document, @Nullable Duration maxAge) {
+}
@@ -35,4 +35,12 @@ public interface DidResolver {
     @NotNull
     Result<DidDocument> resolve(String didKey);
 
+    /**
+     * Resolves the DID document together with the time it can be cached. By default the cache time is not stated.
+     */
+    @NotNull
+    default Result<DidResolution> resolveWithMetadata(String didKey) {
+        return resolve(didKey).map(document -> new DidResolution(document, null));
+    }
+
 }
@@ -15,9 +15,13 @@
 package org.eclipse.edc.iam.did.spi.resolution;
 
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.document.VerificationMethod;
+import org.eclipse.edc.iam.did.spi.key.PublicKeyWrapper;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.result.Result;
 
+import java.util.function.Function;
+
 /**
  * Delegates to a {@link DidResolver} to resolve a DID document.
  */
@@ -34,4 +38,24 @@ public interface DidResolverRegistry {
      */
     Result<DidDocument> resolve(String didKey);
 
+    /**
+     * Resolves a DID document based on the DID method, together with the time it can be cached.
+     */
+    default Result<DidResolution> resolveWithMetadata(String didKey) {
+        return resolve(didKey).map(document -> new DidResolution(document, null));
+    }
+
+    /**
+     * Converts a verification method of the DID document resolved for the DID into a public key. Implementations that
+     * cache DID documents can cache the converted keys with them.
+     *
+     * @param didKey the DID the document was resolved for.
+     * @param verificationMethod a verification method of the resolved document.
+     * @param converter converts the verification method into a public key.
+     */
+    default Result<PublicKeyWrapper> resolvePublicKey(String didKey, VerificationMethod verificationMethod,
+                                                      Function<VerificationMethod, Result<PublicKeyWrapper>> converter) {
+        return converter.apply(verificationMethod);
+    }
+
 }
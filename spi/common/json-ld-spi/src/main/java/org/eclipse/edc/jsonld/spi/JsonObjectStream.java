@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2023 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.jsonld.spi;
+
+import jakarta.json.JsonObject;
+
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Lazy sequence of {@link JsonObject}s returned by an API as response entity. The objects are compacted and written to
+ * the response one at a time while the stream is consumed, as a JSON array or, if requested by the client, as
+ * newline-delimited JSON. The underlying stream is closed once the response has been written.
+ */
+public class JsonObjectStream implements AutoCloseable {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final Stream<JsonObject> objects;
+
+    public JsonObjectStream(Stream<JsonObject> objects) {
+        this.objects = objects;
+    }
+
+    public Stream<JsonObject> stream() {
+        return objects;
+    }
+
+    /**
+     * Returns a stream that applies the function to every object when it's consumed.
+     */
+    public JsonObjectStream map(UnaryOperator<JsonObject> function) {
+        return new JsonObjectStream(objects.map(function));
+    }
+
+    @Override
+    public void close() {
+        objects.close();
+    }
+}
@@ -44,6 +44,7 @@ public class NoopTransactionContext implements TransactionContext {
     private void notifyAndClearSyncs() {
         var syncList = synchronizations.get();
         syncList.forEach(TransactionSynchronization::beforeCompletion);
+        syncList.forEach(sync -> sync.afterCompletion(true));
         syncList.clear();
     }
 
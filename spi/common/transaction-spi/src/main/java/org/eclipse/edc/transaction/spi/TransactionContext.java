@@ -40,7 +40,7 @@ public interface TransactionContext {
     <T> T execute(ResultTransactionBlock<T> block);
 
     /**
-     * Registers a synchronization that will be called before a transaction commits or is rolled back.
+     * Registers a synchronization that will be called before and after a transaction commits or is rolled back.
      */
     void registerSynchronization(TransactionSynchronization sync);
 
@@ -66,10 +66,19 @@ public interface TransactionContext {
     }
 
     /**
-     * Implementations receive callbacks before a transaction commits or is rolled back.
+     * Implementations receive callbacks before and after a transaction commits or is rolled back.
      */
     @FunctionalInterface
     interface TransactionSynchronization {
         void beforeCompletion();
+
+        /**
+         * Called once the transaction has completed, so that changes are visible to other transactions if it was
+         * committed.
+         *
+         * @param committed true if the transaction was committed, false if it was rolled back.
+         */
+        default void afterCompletion(boolean committed) {
+        }
     }
 }
@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiat
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
 import org.junit.jupiter.api.DisplayName;
@@ -27,12 +28,15 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -40,7 +44,9 @@ import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.st
 import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.TestFunctions.createContractBuilder;
 import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiation;
 import static org.eclipse.edc.connector.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiationBuilder;
+import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates.FINALIZED;
 import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTED;
+import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates.TERMINATED;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 
 public abstract class ContractNegotiationStoreTestBase {
@@ -195,6 +201,18 @@ public abstract class ContractNegotiationStoreTestBase {
         assertThat(actual.getState()).isEqualTo(800);
     }
 
+    @Test
+    void save_shouldNotifyWorkAvailableListenersOnceVisible() {
+        var negotiation = createNegotiation("test-id1");
+        var visible = new AtomicBoolean();
+        getContractNegotiationStore().registerWorkAvailableListener(() ->
+                visible.set(getContractNegotiationStore().findById(negotiation.getId()) != null));
+
+        getContractNegotiationStore().save(negotiation);
+
+        assertThat(visible).isTrue();
+    }
+
     @Test
     @DisplayName("Verify that updating an entity breaks the lease (if lease by self)")
     void update_leasedBySelf_shouldBreakLease() {
@@ -389,6 +407,42 @@ public abstract class ContractNegotiationStoreTestBase {
 
     }
 
+    @Test
+    @DisplayName("Verify that negotiations are moved to the archive, their agreements are kept")
+    void archive_shouldMoveEntitiesBeforeTimestamp() {
+        var agreement = createContract(ContractId.create("definition", "asset"));
+        var old = createNegotiationBuilder("old").state(FINALIZED.code()).stateTimestamp(1000L).contractAgreement(agreement).build();
+        var recent = createNegotiationBuilder("recent").state(FINALIZED.code()).stateTimestamp(3000L).build();
+        var otherState = createNegotiationBuilder("other-state").state(REQUESTED.code()).stateTimestamp(1000L).build();
+        Stream.of(old, recent, otherState).forEach(getContractNegotiationStore()::save);
+
+        var archived = getContractNegotiationStore().archive(10, 2000L, hasState(FINALIZED.code()));
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(getContractNegotiationStore().findById("old")).isNull();
+        assertThat(getContractNegotiationStore().findContractAgreement(agreement.getId())).isNotNull();
+        assertThat(getContractNegotiationStore().findArchived(QuerySpec.none())).hasSize(1).first().satisfies(negotiation -> {
+            assertThat(negotiation.getId()).isEqualTo("old");
+            assertThat(negotiation.getContractAgreement().getId()).isEqualTo(agreement.getId());
+        });
+    }
+
+    @Test
+    @DisplayName("Verify that leased negotiations are not archived")
+    void archive_shouldSkipLeasedEntities() {
+        var leased = createNegotiationBuilder("leased").state(TERMINATED.code()).stateTimestamp(1000L).build();
+        var free = createNegotiationBuilder("free").state(TERMINATED.code()).stateTimestamp(1000L).build();
+        Stream.of(leased, free).forEach(getContractNegotiationStore()::save);
+        lockEntity("leased", "someone-else");
+
+        var archived = getContractNegotiationStore().archive(10, 2000L, hasState(TERMINATED.code()));
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(getContractNegotiationStore().findById("leased")).isNotNull();
+        var query = QuerySpec.Builder.newInstance().filter(new Criterion("correlationId", "=", "corr-free")).build();
+        assertThat(getContractNegotiationStore().findArchived(query)).extracting(ContractNegotiation::getId).containsExactly("free");
+    }
+
     @Test
     @DisplayName("Verify that paging is used")
     void queryNegotiations() {
@@ -422,6 +476,25 @@ public abstract class ContractNegotiationStoreTestBase {
                 .isSorted();
     }
 
+    @Test
+    void queryNegotiations_withPagingAndCursor_onNonIdSortField() {
+        IntStream.range(0, 10)
+                .mapToObj(i -> createNegotiationBuilder(String.valueOf(i)).counterPartyId("party" + i % 3).build())
+                .forEach(cn -> getContractNegotiationStore().save(cn));
+
+        var ids = new ArrayList<String>();
+        String cursor = null;
+        do {
+            var querySpec = QuerySpec.Builder.newInstance().limit(4).sortField("counterPartyId").cursor(cursor).build();
+            var page = getContractNegotiationStore().queryNegotiations(querySpec).toList();
+            page.stream().map(ContractNegotiation::getId).forEach(ids::add);
+            var last = page.isEmpty() ? null : page.get(page.size() - 1);
+            cursor = page.size() < 4 ? null : QueryCursor.of(last.getCounterPartyId(), last.getId()).encode();
+        } while (cursor != null);
+
+        assertThat(ids).containsExactly("0", "3", "6", "9", "1", "4", "7", "2", "5", "8");
+    }
+
     @Test
     void getNegotiationsWithAgreementOnAsset_negotiationWithAgreement() {
         var agreement = createContract(ContractId.create("definition", "asset"));
@@ -21,6 +21,9 @@ import org.eclipse.edc.spi.retry.WaitStrategy;
  * Implements a wait strategy for the {@link TransferProcessManager}.
  * <p>
  * Implementations may choose to enforce an incremental backoff period when successive errors are encountered.
+ * <p>
+ * The same instance is shared by all the loops of the state machine, which run concurrently, so implementations must
+ * be stateless: an implementation that counts errors would slow down every state on the errors of one.
  */
 @FunctionalInterface
 public interface TransferWaitStrategy extends WaitStrategy {
@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.transfer.spi.types.ProvisionedResourceSet;
 import org.eclipse.edc.connector.transfer.spi.types.ResourceManifest;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryCursor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
@@ -29,12 +30,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,6 +49,7 @@ import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunc
 import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions.createTransferProcess;
 import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions.createTransferProcessBuilder;
 import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions.initialTransferProcess;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.COMPLETED;
 import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.INITIAL;
 import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.PROVISIONING;
 import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.STARTED;
@@ -321,6 +326,16 @@ public abstract class TransferProcessStoreTestBase {
                 .containsExactly(t1);
     }
 
+    @Test
+    void update_shouldNotifyWorkAvailableListeners() {
+        var notified = new AtomicBoolean();
+        getTransferProcessStore().registerWorkAvailableListener(() -> notified.set(true));
+
+        getTransferProcessStore().updateOrCreate(createTransferProcess("id1", INITIAL));
+
+        assertThat(notified).isTrue();
+    }
+
     @Test
     @DisplayName("Verify that the lease on a TP is cleared by an update")
     void update_shouldBreakLease() {
@@ -386,6 +401,55 @@ public abstract class TransferProcessStoreTestBase {
         //no exception should be raised
     }
 
+    @Test
+    void archive_shouldMoveEntitiesBeforeTimestamp() {
+        var old = createTransferProcessBuilder("old").state(COMPLETED.code()).stateTimestamp(1000L).build();
+        var recent = createTransferProcessBuilder("recent").state(COMPLETED.code()).stateTimestamp(3000L).build();
+        var otherState = createTransferProcessBuilder("other-state").state(STARTED.code()).stateTimestamp(1000L).build();
+        Stream.of(old, recent, otherState).forEach(getTransferProcessStore()::updateOrCreate);
+
+        var archived = getTransferProcessStore().archive(10, 2000L, hasState(COMPLETED.code()));
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(getTransferProcessStore().findById("old")).isNull();
+        assertThat(getTransferProcessStore().findAll(QuerySpec.none())).extracting(TransferProcess::getId)
+                .containsExactlyInAnyOrder("recent", "other-state");
+        assertThat(getTransferProcessStore().findArchived(QuerySpec.none())).extracting(TransferProcess::getId)
+                .containsExactly("old");
+    }
+
+    @Test
+    void archive_shouldSkipLeasedEntities() {
+        var leased = createTransferProcessBuilder("leased").state(COMPLETED.code()).stateTimestamp(1000L).build();
+        var free = createTransferProcessBuilder("free").state(COMPLETED.code()).stateTimestamp(1000L).build();
+        Stream.of(leased, free).forEach(getTransferProcessStore()::updateOrCreate);
+        lockEntity("leased", "someone-else");
+
+        var archived = getTransferProcessStore().archive(10, 2000L, hasState(COMPLETED.code()));
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(getTransferProcessStore().findById("leased")).isNotNull();
+        assertThat(getTransferProcessStore().findArchived(QuerySpec.none())).extracting(TransferProcess::getId)
+                .containsExactly("free");
+    }
+
+    @Test
+    void findArchived_shouldFilterArchivedEntities() {
+        var first = createTransferProcessBuilder("first").state(COMPLETED.code()).stateTimestamp(1000L).build();
+        var second = createTransferProcessBuilder("second").state(COMPLETED.code()).stateTimestamp(1000L).build();
+        Stream.of(first, second).forEach(getTransferProcessStore()::updateOrCreate);
+        getTransferProcessStore().archive(10, 2000L, hasState(COMPLETED.code()));
+
+        var query = QuerySpec.Builder.newInstance().filter(new Criterion("dataRequest.id", "=", second.getDataRequest().getId())).build();
+        var result = getTransferProcessStore().findArchived(query).toList();
+
+        assertThat(result).hasSize(1).first().satisfies(process -> {
+            assertThat(process.getId()).isEqualTo("second");
+            assertThat(process.getState()).isEqualTo(COMPLETED.code());
+            assertThat(process.getDataRequest().getAssetId()).isEqualTo(second.getDataRequest().getAssetId());
+        });
+    }
+
     @Test
     void findAll_noQuerySpec() {
         var all = range(0, 10)
@@ -409,6 +473,25 @@ public abstract class TransferProcessStoreTestBase {
                 .allMatch(id -> id >= 3 && id < 8);
     }
 
+    @Test
+    void findAll_verifyPaging_withCursor() {
+        range(0, 10)
+                .mapToObj(i -> createTransferProcessBuilder(String.valueOf(i)).stateTimestamp(1 + i % 3).build())
+                .forEach(getTransferProcessStore()::updateOrCreate);
+
+        var ids = new ArrayList<String>();
+        String cursor = null;
+        do {
+            var qs = QuerySpec.Builder.newInstance().limit(4).sortField("stateTimestamp").cursor(cursor).build();
+            var page = getTransferProcessStore().findAll(qs).toList();
+            page.stream().map(TransferProcess::getId).forEach(ids::add);
+            var last = page.isEmpty() ? null : page.get(page.size() - 1);
+            cursor = page.size() < 4 ? null : QueryCursor.of(last.getStateTimestamp(), last.getId()).encode();
+        } while (cursor != null);
+
+        assertThat(ids).containsExactly("0", "3", "6", "9", "1", "4", "7", "2", "5", "8");
+    }
+
     @Test
     void findAll_verifyPaging_pageSizeLargerThanCollection() {
 
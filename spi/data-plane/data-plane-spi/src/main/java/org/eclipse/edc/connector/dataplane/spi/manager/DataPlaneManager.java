@@ -19,6 +19,8 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore.State;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.response.ResponseStatus;
+import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 
@@ -58,8 +60,11 @@ public interface DataPlaneManager {
 
     /**
      * Initiates a transfer for the data flow request. This method is non-blocking with respect to processing the request.
+     *
+     * @return a successful result if the request has been accepted, a failure with {@link ResponseStatus#ERROR_RETRY}
+     *         if it cannot be accepted at the moment because the data plane is overloaded.
      */
-    void initiateTransfer(DataFlowRequest dataRequest);
+    StatusResult<Void> initiateTransfer(DataFlowRequest dataRequest);
 
     /**
      * Performs a data transfer using the supplied data source.
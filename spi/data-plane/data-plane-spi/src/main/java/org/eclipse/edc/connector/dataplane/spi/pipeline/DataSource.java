@@ -47,6 +47,21 @@ public interface DataSource {
             return SIZE_UNKNOWN;
         }
 
+        /**
+         * The media type of the part content, or null if it cannot be determined.
+         */
+        default String mediaType() {
+            return null;
+        }
+
+        /**
+         * The position of the part content in the source content, as value of a {@code Content-Range} header, or null
+         * if the part holds the whole source content.
+         */
+        default String contentRange() {
+            return null;
+        }
+
         /**
          * Opens stream to sequentially read the underlying part content.
          */
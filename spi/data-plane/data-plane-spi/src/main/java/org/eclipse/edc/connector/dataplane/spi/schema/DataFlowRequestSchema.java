@@ -45,4 +45,9 @@ public interface DataFlowRequestSchema {
      * The request body.
      */
     String BODY = "body";
+
+    /**
+     * The byte range of the data requested by the client, as value of an HTTP {@code Range} header (optional).
+     */
+    String RANGE = "range";
 }